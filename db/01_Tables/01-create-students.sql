@@ -33,4 +33,70 @@ COMMENT ON COLUMN students.name IS 'Nombre del estudiante';
 COMMENT ON COLUMN students.last_name IS 'Apellido del estudiante';
 COMMENT ON COLUMN students.email IS 'Correo electronico del estudiante';
 COMMENT ON COLUMN students.created_at IS 'Fecha de creación del registro';
-COMMENT ON COLUMN students.updated_at IS 'Fecha de actualización del registro';
\ No newline at end of file
+COMMENT ON COLUMN students.updated_at IS 'Fecha de actualización del registro';
+
+/*
+* Equipo de desarrollo
+* 18-10-2026
+* Importacion masiva: la secuencia de id_student se incrementa en bloques de 50 para que Hibernate
+* pueda reservar IDs por lote (optimizador pooled) y agrupar los INSERT en batches JDBC.
+* Debe coincidir con allocationSize de @SequenceGenerator en la entidad Student.
+*/
+ALTER SEQUENCE public.students_id_student_seq INCREMENT BY 50;
+
+
+/*
+* Equipo de desarrollo
+* 18-10-2026
+* Busqueda de estudiantes: indices trigram (pg_trgm) sobre lower(name), lower(last_name) y lower(email)
+* para las busquedas por prefijo sin distinguir mayusculas (lower(col) LIKE 'prefijo%'). A diferencia de
+* un btree con text_pattern_ops, el indice GIN se puede usar tambien con planes genericos de sentencias
+* preparadas. Indices btree en created_at y updated_at para los filtros por rango de fechas.
+*/
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS idx_students_name_trgm ON public.students USING gin (lower(name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_students_last_name_trgm ON public.students USING gin (lower(last_name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_students_email_trgm ON public.students USING gin (lower(email) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_students_created_at ON public.students (created_at);
+CREATE INDEX IF NOT EXISTS idx_students_updated_at ON public.students (updated_at);
+
+
+/*
+* Equipo de desarrollo
+* 18-10-2026
+* Bloqueo optimista: columna version (@Version en la entidad Student). Cada UPDATE la incrementa y solo se
+* aplica si la version leida por el cliente sigue vigente (compare-and-set), en lugar de sobrescribir los
+* cambios concurrentes de otro usuario.
+*/
+ALTER TABLE public.students ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+COMMENT ON COLUMN students.version IS 'Version del registro para bloqueo optimista';
+
+
+/*
+* Equipo de desarrollo
+* 18-10-2026
+* Eliminacion logica: deleted_at marca al estudiante como eliminado (tombstone) sin borrar la fila, de modo que
+* la sincronizacion incremental informa la eliminacion y el estudiante se puede restaurar. Un proceso en segundo
+* plano borra fisicamente, en lotes pequenos, los eliminados hace mas de app.students.purge.retention.
+* - El email solo es unico entre estudiantes vigentes (indice unico parcial), para poder volver a registrar el
+*   email de un estudiante eliminado.
+* - Las lecturas de la aplicacion filtran deleted_at IS NULL (@SQLRestriction en la entidad Student): los indices
+*   de busqueda y paginacion se recrean como parciales, sin entradas de estudiantes eliminados.
+* - Indice parcial de eliminados para que el purgador encuentre los vencidos sin recorrer la tabla.
+*/
+ALTER TABLE public.students ADD COLUMN IF NOT EXISTS deleted_at TIMESTAMP DEFAULT NULL;
+COMMENT ON COLUMN students.deleted_at IS 'Fecha de eliminacion logica; NULL si el estudiante esta vigente';
+
+CREATE UNIQUE INDEX IF NOT EXISTS uq_students_email_active ON public.students (email) WHERE deleted_at IS NULL;
+ALTER TABLE public.students DROP CONSTRAINT IF EXISTS students_email_key;
+
+CREATE INDEX IF NOT EXISTS idx_students_active_id ON public.students (id_student) WHERE deleted_at IS NULL;
+DROP INDEX IF EXISTS public.idx_students_name_trgm;
+DROP INDEX IF EXISTS public.idx_students_last_name_trgm;
+DROP INDEX IF EXISTS public.idx_students_email_trgm;
+DROP INDEX IF EXISTS public.idx_students_created_at;
+CREATE INDEX idx_students_name_trgm ON public.students USING gin (lower(name) gin_trgm_ops) WHERE deleted_at IS NULL;
+CREATE INDEX idx_students_last_name_trgm ON public.students USING gin (lower(last_name) gin_trgm_ops) WHERE deleted_at IS NULL;
+CREATE INDEX idx_students_email_trgm ON public.students USING gin (lower(email) gin_trgm_ops) WHERE deleted_at IS NULL;
+CREATE INDEX idx_students_created_at ON public.students (created_at) WHERE deleted_at IS NULL;
+CREATE INDEX IF NOT EXISTS idx_students_deleted_at ON public.students (deleted_at) WHERE deleted_at IS NOT NULL;
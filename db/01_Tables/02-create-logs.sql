@@ -8,4 +8,14 @@ CREATE TABLE IF NOT EXISTS public.logs (
     id_log SERIAL PRIMARY KEY,
     action VARCHAR(100) NOT NULL,
     log_timestamp TIMESTAMP NOT NULL DEFAULT NOW()
-);
\ No newline at end of file
+);
+
+/*
+* Equipo de desarrollo
+* 18-10-2026
+* Auditoría estructurada: entidad e identificador afectados por cada acción
+*/
+ALTER TABLE public.logs ADD COLUMN IF NOT EXISTS entity VARCHAR(50);
+ALTER TABLE public.logs ADD COLUMN IF NOT EXISTS entity_id BIGINT;
+
+CREATE INDEX IF NOT EXISTS idx_logs_entity ON public.logs (entity, entity_id);
@@ -0,0 +1,34 @@
+/*
+* Equipo de desarrollo
+* 18-10-2026
+* Tabla de versiones: contador de cambios por tabla, usado para ETag/Last-Modified del listado de estudiantes.
+* Se incrementa con un trigger por sentencia, por lo que leer la versión es una consulta por PK sin recorrer la tabla.
+* El nuevo valor solo es visible tras el commit de la transacción que modificó la tabla.
+*/
+-- Tabla table_versions
+CREATE TABLE IF NOT EXISTS public.table_versions (
+    table_name VARCHAR(63) PRIMARY KEY,
+    version BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT NOW()
+);
+COMMENT ON TABLE table_versions IS 'Contador de cambios por tabla';
+COMMENT ON COLUMN table_versions.table_name IS 'Nombre de la tabla versionada';
+COMMENT ON COLUMN table_versions.version IS 'Número de sentencias de escritura confirmadas sobre la tabla';
+COMMENT ON COLUMN table_versions.updated_at IS 'Fecha de la última modificación de la tabla';
+
+INSERT INTO public.table_versions (table_name) VALUES ('students') ON CONFLICT (table_name) DO NOTHING;
+
+CREATE OR REPLACE FUNCTION public.bump_table_version() RETURNS TRIGGER AS $$
+BEGIN
+    UPDATE public.table_versions
+       SET version = version + 1,
+           updated_at = clock_timestamp()::TIMESTAMP
+     WHERE table_name = TG_TABLE_NAME;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_students_version ON public.students;
+CREATE TRIGGER trg_students_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON public.students
+    FOR EACH STATEMENT EXECUTE FUNCTION public.bump_table_version();
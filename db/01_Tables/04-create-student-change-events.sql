@@ -0,0 +1,20 @@
+/*
+* Equipo de desarrollo
+* 18-10-2026
+* Feed de cambios de estudiantes: cada creacion, actualizacion o eliminacion se guarda en la misma
+* transaccion que el cambio. El id es el offset del feed (Last-Event-ID del endpoint SSE); los id se asignan
+* en orden de commit porque la insercion se serializa con un advisory lock de transaccion.
+*/
+CREATE TABLE IF NOT EXISTS public.student_change_events (
+    id BIGSERIAL PRIMARY KEY,
+    change_type VARCHAR(20) NOT NULL,
+    id_student BIGINT NOT NULL,
+    occurred_at TIMESTAMP NOT NULL DEFAULT NOW()
+);
+COMMENT ON TABLE student_change_events IS 'Cambios de estudiantes publicados en el feed SSE';
+COMMENT ON COLUMN student_change_events.id IS 'Offset del cambio en el feed';
+COMMENT ON COLUMN student_change_events.change_type IS 'Tipo de cambio: CREATED, UPDATED o DELETED';
+COMMENT ON COLUMN student_change_events.id_student IS 'Estudiante afectado';
+COMMENT ON COLUMN student_change_events.occurred_at IS 'Fecha del cambio, usada para la retencion';
+
+CREATE INDEX IF NOT EXISTS idx_student_change_events_occurred_at ON public.student_change_events (occurred_at);
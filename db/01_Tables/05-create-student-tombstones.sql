@@ -0,0 +1,64 @@
+/*
+* Equipo de desarrollo
+* 18-10-2026
+* Sincronizacion incremental (GET /api/students/sync): los clientes piden los estudiantes creados o modificados
+* despues de un cursor (updated_at, id_student). updated_at pasa a ser obligatorio (Hibernate lo asigna tambien
+* al insertar; las filas antiguas sin valor toman created_at) y se reemplaza el indice por updated_at por uno
+* compuesto que resuelve tanto el cursor como los filtros por rango de fechas.
+*/
+UPDATE public.students SET updated_at = created_at WHERE updated_at IS NULL;
+ALTER TABLE public.students ALTER COLUMN updated_at SET DEFAULT NOW();
+ALTER TABLE public.students ALTER COLUMN updated_at SET NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_students_updated_at_id ON public.students (updated_at, id_student);
+DROP INDEX IF EXISTS public.idx_students_updated_at;
+
+
+/*
+* Equipo de desarrollo
+* 18-10-2026
+* Tombstones de estudiantes eliminados, para que la sincronizacion incremental informe las eliminaciones.
+* Se registran con un trigger por sentencia sobre la tabla de transicion de filas eliminadas, por lo que una
+* eliminacion masiva es un solo INSERT. Se usa clock_timestamp() (momento de la sentencia, no el inicio de la
+* transaccion) para que la fecha quede lo mas cerca posible del commit.
+*/
+CREATE TABLE IF NOT EXISTS public.student_tombstones (
+    id_student BIGINT PRIMARY KEY,
+    deleted_at TIMESTAMP NOT NULL DEFAULT NOW()
+);
+COMMENT ON TABLE student_tombstones IS 'Estudiantes eliminados, informados en la sincronizacion incremental';
+COMMENT ON COLUMN student_tombstones.id_student IS 'Identificador del estudiante eliminado';
+COMMENT ON COLUMN student_tombstones.deleted_at IS 'Fecha de eliminacion, parte del cursor de sincronizacion';
+
+CREATE INDEX IF NOT EXISTS idx_student_tombstones_deleted_at_id ON public.student_tombstones (deleted_at, id_student);
+
+CREATE OR REPLACE FUNCTION public.record_student_tombstones() RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO public.student_tombstones (id_student, deleted_at)
+    SELECT id_student, clock_timestamp()::TIMESTAMP FROM deleted_students
+    ON CONFLICT (id_student) DO UPDATE SET deleted_at = EXCLUDED.deleted_at;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_students_tombstones ON public.students;
+CREATE TRIGGER trg_students_tombstones
+    AFTER DELETE ON public.students
+    REFERENCING OLD TABLE AS deleted_students
+    FOR EACH STATEMENT EXECUTE FUNCTION public.record_student_tombstones();
+
+
+/*
+* Equipo de desarrollo
+* 18-10-2026
+* Con la eliminacion logica (students.deleted_at) la sincronizacion informa las eliminaciones desde la propia
+* tabla students. El trigger solo registra las filas vigentes borradas fisicamente (borrados manuales): las que
+* borra el purgador ya eran tombstones. El purgador tambien elimina estas filas al cumplir la retencion.
+*/
+CREATE OR REPLACE FUNCTION public.record_student_tombstones() RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO public.student_tombstones (id_student, deleted_at)
+    SELECT id_student, clock_timestamp()::TIMESTAMP FROM deleted_students WHERE deleted_at IS NULL
+    ON CONFLICT (id_student) DO UPDATE SET deleted_at = EXCLUDED.deleted_at;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,45 @@
+/*
+* Equipo de desarrollo
+* 18-10-2026
+* Nivel de archivo: los estudiantes vigentes sin modificaciones desde hace app.students.archive.inactive-after se
+* mueven por lotes de students a students_archive (DELETE ... RETURNING + INSERT en la misma sentencia). Asi la
+* tabla students y sus indices solo contienen la cohorte actual y las consultas habituales no recorren egresados.
+* Se usa una tabla aparte y no particionamiento declarativo porque en una tabla particionada la PK y el indice
+* unico parcial de email deberian incluir la columna de particion. Los IDs se conservan, por lo que la lectura
+* con archivados puede paginar por id_student sobre ambas tablas.
+*/
+CREATE TABLE IF NOT EXISTS public.students_archive (
+    id_student BIGINT PRIMARY KEY,
+    name VARCHAR(50) NOT NULL,
+    last_name VARCHAR(50) NOT NULL,
+    email VARCHAR(100) NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    version BIGINT NOT NULL,
+    archived_at TIMESTAMP NOT NULL DEFAULT NOW()
+);
+COMMENT ON TABLE students_archive IS 'Estudiantes inactivos movidos fuera de la tabla students (solo lectura)';
+COMMENT ON COLUMN students_archive.id_student IS 'Identificador que tenia el estudiante en students';
+COMMENT ON COLUMN students_archive.name IS 'Nombre del estudiante';
+COMMENT ON COLUMN students_archive.last_name IS 'Apellido del estudiante';
+COMMENT ON COLUMN students_archive.email IS 'Correo electronico del estudiante';
+COMMENT ON COLUMN students_archive.created_at IS 'Fecha de creación del registro';
+COMMENT ON COLUMN students_archive.updated_at IS 'Fecha de la última actualización antes de archivarlo';
+COMMENT ON COLUMN students_archive.version IS 'Version del registro al archivarlo';
+COMMENT ON COLUMN students_archive.archived_at IS 'Fecha en que se archivo';
+
+/*
+* Mover un estudiante al archivo no es una eliminacion: el job de archivo activa app.archiving en su transaccion
+* (set_config local) y el trigger de tombstones ignora esas filas.
+*/
+CREATE OR REPLACE FUNCTION public.record_student_tombstones() RETURNS TRIGGER AS $$
+BEGIN
+    IF current_setting('app.archiving', true) = 'on' THEN
+        RETURN NULL;
+    END IF;
+    INSERT INTO public.student_tombstones (id_student, deleted_at)
+    SELECT id_student, clock_timestamp()::TIMESTAMP FROM deleted_students WHERE deleted_at IS NULL
+    ON CONFLICT (id_student) DO UPDATE SET deleted_at = EXCLUDED.deleted_at;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,6 @@
+#!/bin/sh
+# Saul Echeverri / Equipo de desarrollo - 18-10-2026
+# Replica de lectura en docker-compose (perfil "replicas"): permite que el servicio postgres-replica se conecte al
+# primario por replicacion (pg_basebackup y streaming). Se ejecuta solo al inicializar el volumen del primario;
+# con un volumen ya creado hay que agregar la linea a pg_hba.conf a mano o recrearlo (make clean).
+echo "host replication all all scram-sha-256" >> "$PGDATA/pg_hba.conf"
@@ -0,0 +1,107 @@
+package com.lta.springboot.student_management.benchmark;
+
+import com.lta.springboot.student_management.StudentManagementApplication;
+import com.lta.springboot.student_management.domain.dto.response.StudentResponseDTO;
+import com.lta.springboot.student_management.domain.entity.Student;
+import com.lta.springboot.student_management.domain.mapper.StudentMapper;
+import com.lta.springboot.student_management.repository.StudentRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de una página de listado (keyset) en una transacción de solo lectura contra H2 (perfil
+ * {@code benchmark}): entidades administradas convertidas con {@link StudentMapper} frente a la consulta que
+ * proyecta directamente a {@link StudentResponseDTO}.
+ * <p>
+ * Cada operación es una fila ({@link OperationsPerInvocation}); con {@code -prof gc} la métrica
+ * {@code gc.alloc.rate.norm} queda en bytes por fila:
+ * {@code make benchmark JMH_ARGS="StudentListingAllocation -prof gc"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OperationsPerInvocation(StudentListingAllocationBenchmark.PAGE_SIZE)
+public class StudentListingAllocationBenchmark {
+
+    static final int PAGE_SIZE = 100;
+    private static final int SEED_STUDENTS = 10_000;
+    // Misma página cargando entidades administradas; la aplicación solo usa la proyección
+    private static final String ENTITY_PAGE = "from Student s where s.idStudent > :cursor order by s.idStudent";
+
+    private ConfigurableApplicationContext context;
+    private StudentRepository studentRepository;
+    private EntityManager entityManager;
+    private StudentMapper studentMapper;
+    private TransactionTemplate readOnlyTransaction;
+    private long firstId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(StudentManagementApplication.class)
+                .profiles("benchmark")
+                .web(WebApplicationType.NONE)
+                .run();
+        studentRepository = context.getBean(StudentRepository.class);
+        studentMapper = context.getBean(StudentMapper.class);
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(
+                context.getBean(EntityManagerFactory.class));
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+
+        List<Student> seed = new ArrayList<>(SEED_STUDENTS);
+        for (int i = 0; i < SEED_STUDENTS; i++) {
+            seed.add(Student.builder()
+                    .name("Nombre" + i)
+                    .lastname("Apellido" + i)
+                    .email("listado" + i + "@example.edu")
+                    .build());
+        }
+        firstId = new TransactionTemplate(context.getBean(PlatformTransactionManager.class)).execute(status -> {
+            LocalDateTime now = studentRepository.currentTimestamp();
+            seed.forEach(student -> student.markCreated(now));
+            return studentRepository.saveAll(seed).getFirst().getIdStudent();
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<StudentResponseDTO> entityPage() {
+        long cursor = randomCursor();
+        return readOnlyTransaction.execute(status -> studentMapper.toStudentResponseList(
+                entityManager.createQuery(ENTITY_PAGE, Student.class)
+                        .setParameter("cursor", cursor)
+                        .setMaxResults(PAGE_SIZE)
+                        .getResultList()));
+    }
+
+    @Benchmark
+    public List<StudentResponseDTO> projectionPage() {
+        long cursor = randomCursor();
+        return readOnlyTransaction.execute(status -> studentRepository.findResponsesAfter(cursor, Limit.of(PAGE_SIZE)));
+    }
+
+    private long randomCursor() {
+        return firstId - 1 + ThreadLocalRandom.current().nextInt(SEED_STUDENTS - PAGE_SIZE);
+    }
+}
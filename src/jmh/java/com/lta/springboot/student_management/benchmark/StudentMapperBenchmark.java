@@ -0,0 +1,74 @@
+package com.lta.springboot.student_management.benchmark;
+
+import com.lta.springboot.student_management.domain.dto.response.StudentResponseDTO;
+import com.lta.springboot.student_management.domain.entity.Student;
+import com.lta.springboot.student_management.domain.mapper.StudentMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de {@link StudentMapper}: conversión individual y de listas de 1k, 100k y 1M entidades.
+ * {@code builderStreamList} reproduce la conversión anterior (stream + builder por fila) como referencia;
+ * con {@code -prof gc} se comparan los bytes asignados por operación.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class StudentMapperBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    int size;
+
+    private final StudentMapper studentMapper = new StudentMapper();
+    private List<Student> students;
+    private Student student;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        students = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            students.add(Student.builder()
+                    .idStudent((long) i + 1)
+                    .name("Nombre" + i)
+                    .lastname("Apellido" + i)
+                    .email("estudiante" + i + "@example.edu")
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
+        }
+        student = students.getFirst();
+    }
+
+    @Benchmark
+    public StudentResponseDTO toStudentResponseDTO() {
+        return studentMapper.toStudentResponseDTO(student);
+    }
+
+    @Benchmark
+    public List<StudentResponseDTO> toStudentResponseList() {
+        return studentMapper.toStudentResponseList(students);
+    }
+
+    @Benchmark
+    public List<StudentResponseDTO> builderStreamList() {
+        return students.stream()
+                .map(s -> StudentResponseDTO.builder()
+                        .idStudent(s.getIdStudent())
+                        .name(s.getName())
+                        .lastname(s.getLastname())
+                        .email(s.getEmail())
+                        .createdAt(s.getCreatedAt())
+                        .updatedAt(s.getUpdatedAt())
+                        .version(s.getVersion())
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,93 @@
+package com.lta.springboot.student_management.benchmark;
+
+import com.lta.springboot.student_management.StudentManagementApplication;
+import com.lta.springboot.student_management.domain.dto.request.StudentRequestDTO;
+import com.lta.springboot.student_management.domain.dto.response.CursorPageResponseDTO;
+import com.lta.springboot.student_management.domain.dto.response.StudentResponseDTO;
+import com.lta.springboot.student_management.service.interfaces.IStudentService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Benchmark de las operaciones CRUD de {@code StudentServiceImpl} contra una base de datos H2 embebida
+ * (perfil {@code benchmark}), con el contexto de Spring completo y sin cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StudentServiceBenchmark {
+
+    private static final int SEED_STUDENTS = 10_000;
+
+    private final AtomicLong emailSequence = new AtomicLong();
+    private ConfigurableApplicationContext context;
+    private IStudentService studentService;
+    private long firstId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(StudentManagementApplication.class)
+                .profiles("benchmark")
+                .web(WebApplicationType.NONE)
+                .run();
+        studentService = context.getBean(IStudentService.class);
+
+        firstId = studentService.createStudent(newStudent()).idStudent();
+        for (int i = 1; i < SEED_STUDENTS; i++) {
+            studentService.createStudent(newStudent());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public StudentResponseDTO createStudent() {
+        return studentService.createStudent(newStudent());
+    }
+
+    @Benchmark
+    public StudentResponseDTO findStudentById() {
+        return studentService.findStudentById(randomSeedId());
+    }
+
+    @Benchmark
+    public StudentResponseDTO updateStudent() {
+        long id = randomSeedId();
+        StudentResponseDTO current = studentService.findStudentById(id);
+        return studentService.updateStudent(id,
+                new StudentRequestDTO(current.name(), current.lastname(), current.email(), current.version()));
+    }
+
+    @Benchmark
+    public StudentResponseDTO createAndDeleteStudent() {
+        StudentResponseDTO created = studentService.createStudent(newStudent());
+        studentService.deleteStudentById(created.idStudent());
+        return created;
+    }
+
+    @Benchmark
+    public CursorPageResponseDTO<StudentResponseDTO> findStudentsPage() {
+        return studentService.findStudentsPage(randomSeedId(), null, 20);
+    }
+
+    private long randomSeedId() {
+        return firstId + ThreadLocalRandom.current().nextInt(SEED_STUDENTS);
+    }
+
+    private StudentRequestDTO newStudent() {
+        long n = emailSequence.incrementAndGet();
+        return new StudentRequestDTO("Nombre" + n, "Apellido" + n, "benchmark" + n + "@example.edu", null);
+    }
+}
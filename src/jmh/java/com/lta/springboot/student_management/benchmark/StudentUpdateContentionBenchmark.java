@@ -0,0 +1,113 @@
+package com.lta.springboot.student_management.benchmark;
+
+import com.lta.springboot.student_management.StudentManagementApplication;
+import com.lta.springboot.student_management.domain.dto.request.StudentRequestDTO;
+import com.lta.springboot.student_management.domain.dto.response.StudentResponseDTO;
+import com.lta.springboot.student_management.exception.ConflictException;
+import com.lta.springboot.student_management.service.interfaces.IStudentService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Benchmark de actualizaciones concurrentes con bloqueo optimista: varios hilos leen un estudiante y lo
+ * actualizan con la versión leída, reintentando ante {@link ConflictException}. {@code hotStudents} controla
+ * la contención (1 = todos los hilos editan el mismo estudiante).
+ * <p>
+ * Además del throughput se reportan los contadores {@code conflicts} y {@code exhausted} (operaciones que
+ * agotaron los reintentos). Al final se verifica que no hubo actualizaciones perdidas: la suma de las
+ * versiones debe coincidir con el número de actualizaciones confirmadas, o el benchmark falla.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class StudentUpdateContentionBenchmark {
+
+    private static final int MAX_ATTEMPTS = 10;
+
+    @Param({"1", "16", "1024"})
+    private int hotStudents;
+
+    private final AtomicLong committedUpdates = new AtomicLong();
+    private ConfigurableApplicationContext context;
+    private IStudentService studentService;
+    private long[] ids;
+
+    /**
+     * Contadores por hilo, sumados por JMH en los resultados.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Outcomes {
+
+        public long conflicts;
+        public long exhausted;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            conflicts = 0;
+            exhausted = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(StudentManagementApplication.class)
+                .profiles("benchmark")
+                .web(WebApplicationType.NONE)
+                .run();
+        studentService = context.getBean(IStudentService.class);
+
+        ids = new long[hotStudents];
+        for (int i = 0; i < hotStudents; i++) {
+            ids[i] = studentService.createStudent(new StudentRequestDTO("Nombre" + i, "Apellido" + i,
+                    "contention" + i + "@example.edu", null)).idStudent();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        long versions = 0;
+        try {
+            for (long id : ids) {
+                versions += studentService.findStudentById(id).version();
+            }
+        } finally {
+            context.close();
+        }
+        System.out.printf("%nActualizaciones confirmadas: %d, suma de versiones: %d%n", committedUpdates.get(), versions);
+        if (versions != committedUpdates.get()) {
+            throw new IllegalStateException("Actualizaciones perdidas: %d confirmadas, suma de versiones %d"
+                    .formatted(committedUpdates.get(), versions));
+        }
+    }
+
+    @Benchmark
+    public StudentResponseDTO updateWithRetry(Outcomes outcomes) {
+        long id = ids[ThreadLocalRandom.current().nextInt(ids.length)];
+        for (int attempt = 1; ; attempt++) {
+            StudentResponseDTO current = studentService.findStudentById(id);
+            try {
+                StudentResponseDTO updated = studentService.updateStudent(id, new StudentRequestDTO(current.name(),
+                        "Apellido" + attempt, current.email(), current.version()));
+                committedUpdates.incrementAndGet();
+                return updated;
+            } catch (ConflictException e) {
+                outcomes.conflicts++;
+                if (attempt == MAX_ATTEMPTS) {
+                    outcomes.exhausted++;
+                    return current;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.lta.springboot.student_management.benchmark;
+
+import com.lta.springboot.student_management.domain.dto.request.StudentRequestDTO;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de Bean Validation sobre {@link StudentRequestDTO}, incluida la expresión regular del email.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StudentValidationBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private StudentRequestDTO validStudent;
+    private StudentRequestDTO invalidStudent;
+    private StudentRequestDTO longEmailStudent;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        validStudent = new StudentRequestDTO("Saul", "Echeverri", "saul.echeverri@example.edu", null);
+        invalidStudent = new StudentRequestDTO("S", "", "no-es-un-email", null);
+        longEmailStudent = new StudentRequestDTO("Saul", "Echeverri",
+                "a".repeat(60) + "@" + "sub.".repeat(8) + "example", null);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<StudentRequestDTO>> validateValid() {
+        return validator.validate(validStudent);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<StudentRequestDTO>> validateInvalid() {
+        return validator.validate(invalidStudent);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<StudentRequestDTO>> validateLongInvalidEmail() {
+        return validator.validate(longEmailStudent);
+    }
+}
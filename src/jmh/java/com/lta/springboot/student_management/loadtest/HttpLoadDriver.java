@@ -0,0 +1,121 @@
+package com.lta.springboot.student_management.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Generador de carga HTTP de bucle cerrado: {@code concurrency} clientes lanzan peticiones GET sin pausa
+ * contra la aplicación en ejecución y al final se reporta throughput y percentiles de latencia.
+ * <p>
+ * Se usa para comparar el modo de hilos de plataforma con el de hilos virtuales
+ * ({@code SPRING_THREADS_VIRTUAL_ENABLED}) con el mismo pool de conexiones.
+ * <p>
+ * Argumentos {@code clave=valor}: {@code url}, {@code paths} (separados por coma, se reparten en round-robin),
+ * {@code concurrency}, {@code warmup} y {@code duration} (segundos), {@code label} y {@code out}
+ * (archivo donde se agrega el resultado como una línea JSON).
+ */
+public final class HttpLoadDriver {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private HttpLoadDriver() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        String baseUrl = options.getOrDefault("url", "http://localhost:9090/student-management/api/v1");
+        List<URI> targets = Arrays.stream(options.getOrDefault("paths", "/students/listStudents").split(","))
+                .map(String::trim)
+                .filter(path -> !path.isEmpty())
+                .map(path -> URI.create(baseUrl + path))
+                .toList();
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "200"));
+        long warmupSeconds = Long.parseLong(options.getOrDefault("warmup", "10"));
+        long durationSeconds = Long.parseLong(options.getOrDefault("duration", "30"));
+        String label = options.getOrDefault("label", "default");
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        System.out.printf("Calentando %ds con %d clientes...%n", warmupSeconds, concurrency);
+        run(client, targets, concurrency, Duration.ofSeconds(warmupSeconds));
+
+        System.out.printf("Midiendo %ds con %d clientes...%n", durationSeconds, concurrency);
+        long start = System.nanoTime();
+        List<LatencyRecorder> recorders = run(client, targets, concurrency, Duration.ofSeconds(durationSeconds));
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+        LoadResult result = LoadResult.of(label, concurrency, elapsedSeconds, recorders);
+        System.out.println(result.describe());
+
+        String out = options.get("out");
+        if (out != null) {
+            result.appendTo(Path.of(out));
+        }
+    }
+
+    private static List<LatencyRecorder> run(HttpClient client, List<URI> targets, int concurrency, Duration duration)
+            throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<LatencyRecorder>> futures = new ArrayList<>(concurrency);
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                int offset = i;
+                futures.add(clients.submit(() -> drive(client, targets, offset, deadline)));
+            }
+        }
+        List<LatencyRecorder> recorders = new ArrayList<>(concurrency);
+        for (Future<LatencyRecorder> future : futures) {
+            recorders.add(future.get());
+        }
+        return recorders;
+    }
+
+    private static LatencyRecorder drive(HttpClient client, List<URI> targets, int offset, long deadline) {
+        LatencyRecorder recorder = new LatencyRecorder();
+        int next = offset;
+        while (System.nanoTime() < deadline) {
+            HttpRequest request = HttpRequest.newBuilder(targets.get(next++ % targets.size()))
+                    .timeout(REQUEST_TIMEOUT)
+                    .GET()
+                    .build();
+            long begin = System.nanoTime();
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                recorder.record(System.nanoTime() - begin, response.statusCode() < 400);
+            } catch (IOException e) {
+                recorder.record(System.nanoTime() - begin, false);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return recorder;
+    }
+
+    static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator > 0) {
+                options.put(arg.substring(0, separator), arg.substring(separator + 1));
+            }
+        }
+        return options;
+    }
+}
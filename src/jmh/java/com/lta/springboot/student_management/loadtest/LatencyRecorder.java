@@ -0,0 +1,23 @@
+package com.lta.springboot.student_management.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Latencias (en nanosegundos) de un único cliente de carga; no es thread-safe.
+ */
+final class LatencyRecorder {
+
+    long[] latencies = new long[4096];
+    int count;
+    long errors;
+
+    void record(long latencyNanos, boolean success) {
+        if (!success) {
+            errors++;
+        }
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = latencyNanos;
+    }
+}
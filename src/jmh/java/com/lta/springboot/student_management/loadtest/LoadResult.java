@@ -0,0 +1,61 @@
+package com.lta.springboot.student_management.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Resultado agregado de una prueba de carga: throughput y percentiles de latencia de todos los clientes.
+ */
+record LoadResult(String label, int concurrency, long requests, long errors, double throughput,
+                  double p50Millis, double p90Millis, double p99Millis, double maxMillis) {
+
+    static LoadResult of(String label, int concurrency, double elapsedSeconds, List<LatencyRecorder> recorders) {
+        int total = recorders.stream().mapToInt(recorder -> recorder.count).sum();
+        long errors = recorders.stream().mapToLong(recorder -> recorder.errors).sum();
+        long[] all = new long[total];
+        int position = 0;
+        for (LatencyRecorder recorder : recorders) {
+            System.arraycopy(recorder.latencies, 0, all, position, recorder.count);
+            position += recorder.count;
+        }
+        Arrays.sort(all);
+        return new LoadResult(label, concurrency, total, errors, total / elapsedSeconds,
+                percentile(all, 0.50), percentile(all, 0.90), percentile(all, 0.99), percentile(all, 1.0));
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1e6;
+    }
+
+    String describe() {
+        return String.format(Locale.ROOT,
+                "[%s] clientes=%d peticiones=%d errores=%d throughput=%.1f req/s p50=%.2fms p90=%.2fms p99=%.2fms max=%.2fms",
+                label, concurrency, requests, errors, throughput, p50Millis, p90Millis, p99Millis, maxMillis);
+    }
+
+    String toJson() {
+        return String.format(Locale.ROOT,
+                "{\"label\":\"%s\",\"concurrency\":%d,\"requests\":%d,\"errors\":%d,\"throughput\":%.1f,"
+                        + "\"p50Ms\":%.2f,\"p90Ms\":%.2f,\"p99Ms\":%.2f,\"maxMs\":%.2f}",
+                label, concurrency, requests, errors, throughput, p50Millis, p90Millis, p99Millis, maxMillis);
+    }
+
+    /**
+     * Agrega el resultado como una línea JSON al archivo indicado.
+     */
+    void appendTo(Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        Files.writeString(path, toJson() + System.lineSeparator(), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+}
@@ -0,0 +1,200 @@
+package com.lta.springboot.student_management.loadtest;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Carga masiva de estudiantes sintéticos en PostgreSQL con {@code COPY ... FROM STDIN}, en lotes de
+ * {@code batch} filas (cada lote es una transacción). Los nombres se combinan de listas fijas y el email
+ * incluye el ID, por lo que es único; las fechas se reparten en los últimos {@code days} días.
+ * <p>
+ * Los IDs se reservan como un bloque de la secuencia {@code students_id_student_seq} (incremento 50,
+ * compartido con el optimizador de Hibernate), dejando la secuencia después del bloque: debe ejecutarse sin
+ * la aplicación escribiendo en la tabla. Con {@code dropIndexes=true} (por defecto) los índices secundarios
+ * se eliminan antes de la carga y se recrean al final con su misma definición, que es mucho más rápido que
+ * mantenerlos fila a fila (sobre todo los GIN de trigramas). Al terminar se ejecuta {@code ANALYZE students}.
+ * La aplicación construye el filtro de emails al iniciar, así que conviene reiniciarla después de la carga.
+ * <p>
+ * Argumentos {@code clave=valor}: {@code url}, {@code user}, {@code password}, {@code rows}, {@code batch},
+ * {@code days}, {@code seed} y {@code dropIndexes}.
+ */
+public final class StudentDataGenerator {
+
+    private static final String[] NAMES = {
+            "Saul", "Ana", "Carlos", "Maria", "Juan", "Laura", "Andres", "Camila", "Felipe", "Valentina",
+            "Santiago", "Daniela", "Mateo", "Sofia", "Sebastian", "Isabella", "Nicolas", "Mariana", "Alejandro",
+            "Gabriela", "Diego", "Paula", "Julian", "Natalia", "David", "Catalina", "Miguel", "Juliana", "Tomas",
+            "Sara", "Esteban", "Manuela", "Samuel", "Luisa", "Emilio", "Carolina"};
+    private static final String[] LASTNAMES = {
+            "Echeverri", "Gomez", "Rodriguez", "Martinez", "Lopez", "Garcia", "Hernandez", "Perez", "Sanchez",
+            "Ramirez", "Torres", "Diaz", "Vargas", "Castro", "Moreno", "Rojas", "Jimenez", "Munoz", "Alvarez",
+            "Romero", "Restrepo", "Ospina", "Cardona", "Mejia", "Zapata", "Arango", "Osorio", "Giraldo", "Quintero",
+            "Velez", "Montoya", "Salazar", "Uribe", "Correa", "Henao", "Londono"};
+    private static final String[] DOMAINS = {"example.edu", "uni.example.edu", "example.org"};
+    private static final String SEQUENCE = "students_id_student_seq";
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private StudentDataGenerator() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = HttpLoadDriver.parseOptions(args);
+        String url = options.getOrDefault("url",
+                "jdbc:postgresql://localhost:5433/bd_docker_student_management_spring_boot_lta");
+        long rows = Long.parseLong(options.getOrDefault("rows", "1000000"));
+        int batch = Integer.parseInt(options.getOrDefault("batch", "100000"));
+        int days = Integer.parseInt(options.getOrDefault("days", "365"));
+        SplittableRandom random = new SplittableRandom(Long.parseLong(options.getOrDefault("seed", "42")));
+        boolean dropIndexes = Boolean.parseBoolean(options.getOrDefault("dropIndexes", "true"));
+
+        try (Connection connection = DriverManager.getConnection(url, options.getOrDefault("user", "postgres"),
+                options.getOrDefault("password", "1234"))) {
+            long firstId = reserveIds(connection, rows);
+            List<String> indexes = dropIndexes ? dropSecondaryIndexes(connection) : List.of();
+            System.out.printf("Cargando %d estudiantes desde el ID %d en lotes de %d...%n", rows, firstId, batch);
+
+            long start = System.nanoTime();
+            try {
+                copyRows(connection, firstId, rows, batch, days, random);
+            } finally {
+                // También si la carga falla: la tabla no debe quedar sin sus índices
+                recreateIndexes(connection, indexes);
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ANALYZE students");
+            }
+            System.out.printf(Locale.ROOT, "Carga terminada en %.1f s%n", (System.nanoTime() - start) / 1e9);
+        }
+    }
+
+    /**
+     * Reserva {@code rows} IDs consecutivos: el último valor entregado por la secuencia cubre el rango
+     * {@code (valor - incremento, valor]} (el bloque que Hibernate asignaría) y se lleva la secuencia al final
+     * del bloque. El incremento se lee de la secuencia, que en bases anteriores a db/schema-postgresql.sql
+     * puede ser 1.
+     *
+     * @return primer ID del bloque
+     */
+    private static long reserveIds(Connection connection, long rows) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            long increment;
+            try (ResultSet rs = statement.executeQuery("SELECT increment_by FROM pg_sequences"
+                    + " WHERE schemaname = current_schema() AND sequencename = '" + SEQUENCE + "'")) {
+                if (!rs.next()) {
+                    throw new IllegalStateException("No existe la secuencia " + SEQUENCE);
+                }
+                increment = rs.getLong(1);
+            }
+            long firstId;
+            try (ResultSet rs = statement.executeQuery("SELECT nextval('" + SEQUENCE + "')")) {
+                rs.next();
+                firstId = rs.getLong(1) - increment + 1;
+            }
+            statement.execute("SELECT setval('" + SEQUENCE + "', " + Math.max(firstId + rows - 1,
+                    firstId + increment - 1) + ")");
+            return firstId;
+        }
+    }
+
+    private static void copyRows(Connection connection, long firstId, long rows, int batch, int days,
+                                 SplittableRandom random) throws SQLException {
+        CopyIn copy = null;
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(1 << 20);
+        StringBuilder line = new StringBuilder(160);
+        long start = System.nanoTime();
+        for (long i = 0; i < rows; i++) {
+            if (copy == null) {
+                copy = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(
+                        "COPY students (id_student, name, last_name, email, created_at, updated_at, version) "
+                                + "FROM STDIN WITH (FORMAT csv)");
+            }
+            appendRow(line, firstId + i, now, days, random);
+            buffer.writeBytes(line.toString().getBytes(StandardCharsets.UTF_8));
+            line.setLength(0);
+            if (buffer.size() >= 1 << 20) {
+                copy.writeToCopy(buffer.toByteArray(), 0, buffer.size());
+                buffer.reset();
+            }
+            if ((i + 1) % batch == 0 || i + 1 == rows) {
+                copy.writeToCopy(buffer.toByteArray(), 0, buffer.size());
+                buffer.reset();
+                copy.endCopy();
+                copy = null;
+                double seconds = (System.nanoTime() - start) / 1e9;
+                System.out.printf(Locale.ROOT, "  %d filas (%.0f filas/s)%n", i + 1, (i + 1) / seconds);
+            }
+        }
+    }
+
+    private static void recreateIndexes(Connection connection, List<String> indexes) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET maintenance_work_mem = '512MB'");
+            for (String index : indexes) {
+                long start = System.nanoTime();
+                statement.execute(index);
+                System.out.printf(Locale.ROOT, "  %s (%.1f s)%n", index, (System.nanoTime() - start) / 1e9);
+            }
+        }
+    }
+
+    /**
+     * Elimina los índices de {@code students} que no respaldan una restricción (la PK se conserva).
+     *
+     * @return definiciones de los índices eliminados, para recrearlos después de la carga
+     */
+    private static List<String> dropSecondaryIndexes(Connection connection) throws SQLException {
+        List<String> definitions = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        try (Statement statement = connection.createStatement()) {
+            try (ResultSet rs = statement.executeQuery("""
+                    SELECT i.indexname, i.indexdef FROM pg_indexes i
+                    WHERE i.schemaname = 'public' AND i.tablename = 'students'
+                      AND NOT EXISTS (SELECT 1 FROM pg_constraint c WHERE c.conname = i.indexname)""")) {
+                while (rs.next()) {
+                    names.add(rs.getString(1));
+                    definitions.add(rs.getString(2));
+                }
+            }
+            for (String name : names) {
+                statement.execute("DROP INDEX public." + name);
+            }
+        }
+        System.out.printf("Índices eliminados durante la carga: %s%n", names);
+        return definitions;
+    }
+
+    private static void appendRow(StringBuilder line, long id, LocalDateTime now, int days, SplittableRandom random) {
+        String name = NAMES[random.nextInt(NAMES.length)];
+        String lastname = LASTNAMES[random.nextInt(LASTNAMES.length)];
+        LocalDateTime createdAt = now.minusSeconds(random.nextLong(days * 86_400L + 1));
+        LocalDateTime updatedAt = random.nextInt(4) == 0
+                ? createdAt.plusSeconds(random.nextLong(Duration.between(createdAt, now).getSeconds() + 1))
+                : createdAt;
+        line.append(id).append(',')
+                .append(name).append(',')
+                .append(lastname).append(',')
+                .append(name.toLowerCase(Locale.ROOT)).append('.').append(lastname.toLowerCase(Locale.ROOT))
+                .append('.').append(id).append('@').append(DOMAINS[(int) (id % DOMAINS.length)]).append(',')
+                .append(TIMESTAMP.format(createdAt)).append(',')
+                .append(TIMESTAMP.format(updatedAt)).append(',')
+                .append(updatedAt.equals(createdAt) ? 0 : 1 + random.nextInt(3))
+                .append('\n');
+    }
+}
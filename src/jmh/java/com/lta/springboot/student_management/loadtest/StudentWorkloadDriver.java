@@ -0,0 +1,325 @@
+package com.lta.springboot.student_management.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Carga mixta de bucle cerrado contra las vistas de {@code StudentController}: cada cliente elige en cada paso
+ * una operación según los pesos de {@code mix} y al final se reporta throughput y percentiles de latencia por
+ * operación y del total.
+ * <ul>
+ *     <li>{@code list}: página del listado a partir de un cursor aleatorio; guarda los IDs de la página</li>
+ *     <li>{@code edit}: formulario de edición de un ID visto en el listado; guarda sus valores y versión</li>
+ *     <li>{@code update}: envía el último formulario abierto cambiando el nombre (un conflicto de versión
+ *     redirige al formulario y se cuenta como error)</li>
+ *     <li>{@code save}: crea un estudiante con un email único de la corrida</li>
+ *     <li>{@code delete}: elimina (borrado lógico) un ID visto en el listado</li>
+ * </ul>
+ * Los rangos de IDs se descubren al inicio con la API REST.
+ * <p>
+ * Argumentos {@code clave=valor}: {@code url}, {@code mix} (p. ej. {@code list=70,edit=15,update=8,save=5,delete=2}),
+ * {@code size} (filas por página), {@code concurrency}, {@code warmup} y {@code duration} (segundos),
+ * {@code label} y {@code out} (archivo donde se agregan los resultados como líneas JSON).
+ */
+public final class StudentWorkloadDriver {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final Pattern EDIT_LINK = Pattern.compile("/students/edit/(\\d+)");
+    private static final Pattern ID_FIELD = Pattern.compile("\"idStudent\":(\\d+)");
+    private static final int SEEN_IDS = 200;
+
+    private enum Operation {
+        LIST, EDIT, UPDATE, SAVE, DELETE
+    }
+
+    private StudentWorkloadDriver() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = HttpLoadDriver.parseOptions(args);
+        String baseUrl = options.getOrDefault("url", "http://localhost:9090/student-management/api/v1");
+        Map<Operation, Integer> mix = parseMix(options.getOrDefault("mix", "list=70,edit=15,update=8,save=5,delete=2"));
+        int pageSize = Integer.parseInt(options.getOrDefault("size", "20"));
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "50"));
+        long warmupSeconds = Long.parseLong(options.getOrDefault("warmup", "10"));
+        long durationSeconds = Long.parseLong(options.getOrDefault("duration", "30"));
+        String label = options.getOrDefault("label", "workload");
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        long firstId = findId(client, baseUrl + "/api/students?size=1");
+        long lastId = findId(client, baseUrl + "/api/students?size=1&before=" + Long.MAX_VALUE);
+        Workload workload = new Workload(client, baseUrl, mix, pageSize, firstId, lastId,
+                Long.toString(System.currentTimeMillis(), 36));
+        System.out.printf("Estudiantes con IDs entre %d y %d, mezcla %s%n", firstId, lastId, mix);
+
+        System.out.printf("Calentando %ds con %d clientes...%n", warmupSeconds, concurrency);
+        workload.run(concurrency, Duration.ofSeconds(warmupSeconds));
+
+        System.out.printf("Midiendo %ds con %d clientes...%n", durationSeconds, concurrency);
+        long start = System.nanoTime();
+        List<Map<Operation, LatencyRecorder>> recorders = workload.run(concurrency, Duration.ofSeconds(durationSeconds));
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+        List<LoadResult> results = new ArrayList<>();
+        for (Operation operation : mix.keySet()) {
+            results.add(LoadResult.of(label + "/" + operation.name().toLowerCase(), concurrency, elapsedSeconds,
+                    recorders.stream().map(byOperation -> byOperation.get(operation)).toList()));
+        }
+        results.add(LoadResult.of(label, concurrency, elapsedSeconds,
+                recorders.stream().flatMap(byOperation -> byOperation.values().stream()).toList()));
+        results.forEach(result -> System.out.println(result.describe()));
+
+        String out = options.get("out");
+        if (out != null) {
+            for (LoadResult result : results) {
+                result.appendTo(Path.of(out));
+            }
+        }
+    }
+
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                weights.put(Operation.valueOf(parts[0].trim().toUpperCase()), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("La mezcla de operaciones está vacía: " + mix);
+        }
+        return weights;
+    }
+
+    private static long findId(HttpClient client, String url) throws IOException, InterruptedException {
+        String body = client.send(HttpRequest.newBuilder(URI.create(url)).timeout(REQUEST_TIMEOUT).build(),
+                HttpResponse.BodyHandlers.ofString()).body();
+        Matcher matcher = ID_FIELD.matcher(body);
+        if (!matcher.find()) {
+            throw new IllegalStateException("No hay estudiantes para la carga: " + url);
+        }
+        return Long.parseLong(matcher.group(1));
+    }
+
+    private record Workload(HttpClient client, String baseUrl, Map<Operation, Integer> mix, int pageSize,
+                            long firstId, long lastId, String runId) {
+
+        List<Map<Operation, LatencyRecorder>> run(int concurrency, Duration duration) throws Exception {
+            long deadline = System.nanoTime() + duration.toNanos();
+            List<Future<Map<Operation, LatencyRecorder>>> futures = new ArrayList<>(concurrency);
+            try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < concurrency; i++) {
+                    int clientId = i;
+                    futures.add(clients.submit(() -> new Session(this, clientId).drive(deadline)));
+                }
+            }
+            List<Map<Operation, LatencyRecorder>> recorders = new ArrayList<>(concurrency);
+            for (Future<Map<Operation, LatencyRecorder>> future : futures) {
+                recorders.add(future.get());
+            }
+            return recorders;
+        }
+    }
+
+    /**
+     * Estado de un cliente: IDs vistos en el listado y último formulario de edición abierto.
+     */
+    private static final class Session {
+
+        private final Workload workload;
+        private final int clientId;
+        private final Map<Operation, LatencyRecorder> recorders = new EnumMap<>(Operation.class);
+        private final ArrayDeque<Long> seenIds = new ArrayDeque<>();
+        private final int totalWeight;
+        private EditForm form;
+        private long created;
+
+        Session(Workload workload, int clientId) {
+            this.workload = workload;
+            this.clientId = clientId;
+            workload.mix().keySet().forEach(operation -> recorders.put(operation, new LatencyRecorder()));
+            this.totalWeight = workload.mix().values().stream().mapToInt(Integer::intValue).sum();
+        }
+
+        Map<Operation, LatencyRecorder> drive(long deadline) {
+            while (System.nanoTime() < deadline) {
+                try {
+                    execute(nextOperation());
+                } catch (IOException e) {
+                    // Error de conexión: ya quedó registrado como petición fallida
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            return recorders;
+        }
+
+        private Operation nextOperation() {
+            int pick = ThreadLocalRandom.current().nextInt(totalWeight);
+            for (Map.Entry<Operation, Integer> entry : workload.mix().entrySet()) {
+                pick -= entry.getValue();
+                if (pick < 0) {
+                    return entry.getKey();
+                }
+            }
+            throw new IllegalStateException("Pesos de operaciones no válidos");
+        }
+
+        private void execute(Operation operation) throws IOException, InterruptedException {
+            // edit, update y delete necesitan IDs del listado; update necesita un formulario abierto
+            if (operation != Operation.LIST && operation != Operation.SAVE && seenIds.isEmpty()) {
+                list(Operation.LIST);
+                return;
+            }
+            switch (operation) {
+                case LIST -> list(operation);
+                case EDIT -> edit(operation);
+                case UPDATE -> {
+                    if (form == null) {
+                        edit(Operation.EDIT);
+                    } else {
+                        update(operation);
+                    }
+                }
+                case SAVE -> save(operation);
+                case DELETE -> delete(operation);
+            }
+        }
+
+        private void list(Operation operation) throws IOException, InterruptedException {
+            long cursor = ThreadLocalRandom.current().nextLong(workload.firstId() - 1, workload.lastId());
+            HttpResponse<String> response = send(operation, get("/students/listStudents?size="
+                    + workload.pageSize() + "&after=" + cursor), HttpResponse.BodyHandlers.ofString());
+            Matcher matcher = EDIT_LINK.matcher(response.body());
+            while (matcher.find()) {
+                if (seenIds.size() == SEEN_IDS) {
+                    seenIds.removeFirst();
+                }
+                seenIds.addLast(Long.parseLong(matcher.group(1)));
+            }
+        }
+
+        private void edit(Operation operation) throws IOException, InterruptedException {
+            long id = randomSeenId();
+            HttpResponse<String> response = send(operation, get("/students/edit/" + id),
+                    HttpResponse.BodyHandlers.ofString());
+            form = response.statusCode() == 200 ? EditForm.parse(id, response.body()).orElse(null) : null;
+        }
+
+        private void update(Operation operation) throws IOException, InterruptedException {
+            EditForm current = form;
+            form = null;
+            String name = current.name().length() > 40 ? current.name().substring(0, 40) : current.name();
+            String body = formBody(Map.of("name", name.replaceAll("\\d+$", "") + (created++ % 10),
+                    "lastname", current.lastname(), "email", current.email(), "version", current.version()));
+            send(operation, post("/students/update/" + current.id(), body), HttpResponse.BodyHandlers.discarding());
+        }
+
+        private void save(Operation operation) throws IOException, InterruptedException {
+            String body = formBody(Map.of("name", "Carga", "lastname", "Cliente" + clientId,
+                    "email", "carga." + workload.runId() + "." + clientId + "." + created++ + "@example.edu"));
+            send(operation, post("/students/save", body), HttpResponse.BodyHandlers.discarding());
+        }
+
+        private void delete(Operation operation) throws IOException, InterruptedException {
+            long id = seenIds.removeLast();
+            send(operation, post("/students/delete/" + id, ""), HttpResponse.BodyHandlers.discarding());
+        }
+
+        /**
+         * Los POST responden con una redirección al listado si la operación se confirmó; una redirección al
+         * formulario (conflicto o error) o el formulario con errores de validación cuentan como error.
+         */
+        private <T> HttpResponse<T> send(Operation operation, HttpRequest request, HttpResponse.BodyHandler<T> handler)
+                throws IOException, InterruptedException {
+            long begin = System.nanoTime();
+            try {
+                HttpResponse<T> response = workload.client().send(request, handler);
+                boolean success = response.statusCode() < 400 && ("GET".equals(request.method())
+                        || response.headers().firstValue("Location").filter(l -> l.contains("/listStudents")).isPresent());
+                recorders.get(operation).record(System.nanoTime() - begin, success);
+                return response;
+            } catch (IOException e) {
+                recorders.get(operation).record(System.nanoTime() - begin, false);
+                throw e;
+            }
+        }
+
+        private long randomSeenId() {
+            int index = ThreadLocalRandom.current().nextInt(seenIds.size());
+            return seenIds.stream().skip(index).findFirst().orElseThrow();
+        }
+
+        private HttpRequest get(String path) {
+            return HttpRequest.newBuilder(URI.create(workload.baseUrl() + path)).timeout(REQUEST_TIMEOUT).GET().build();
+        }
+
+        private HttpRequest post(String path, String body) {
+            return HttpRequest.newBuilder(URI.create(workload.baseUrl() + path))
+                    .timeout(REQUEST_TIMEOUT)
+                    .header("Content-Type", "application/x-www-form-urlencoded")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+        }
+
+        private static String formBody(Map<String, String> fields) {
+            StringBuilder body = new StringBuilder();
+            fields.forEach((field, value) -> body.append(body.isEmpty() ? "" : "&").append(field).append('=')
+                    .append(URLEncoder.encode(value, StandardCharsets.UTF_8)));
+            return body.toString();
+        }
+    }
+
+    /**
+     * Valores del formulario de edición renderizado por Thymeleaf ({@code th:field} genera {@code name} y
+     * {@code value}).
+     */
+    private record EditForm(long id, String name, String lastname, String email, String version) {
+
+        private static final Pattern INPUT = Pattern.compile("<input[^>]*>");
+        private static final Pattern NAME = Pattern.compile("name=\"(\\w+)\"");
+        private static final Pattern VALUE = Pattern.compile("value=\"([^\"]*)\"");
+
+        static Optional<EditForm> parse(long id, String html) {
+            Map<String, String> values = new HashMap<>();
+            Matcher input = INPUT.matcher(html);
+            while (input.find()) {
+                Matcher name = NAME.matcher(input.group());
+                Matcher value = VALUE.matcher(input.group());
+                if (name.find() && value.find()) {
+                    values.put(name.group(1), value.group(1).replace("&amp;", "&"));
+                }
+            }
+            if (!values.keySet().containsAll(List.of("name", "lastname", "email", "version"))) {
+                return Optional.empty();
+            }
+            return Optional.of(new EditForm(id, values.get("name"), values.get("lastname"), values.get("email"),
+                    values.get("version")));
+        }
+    }
+}
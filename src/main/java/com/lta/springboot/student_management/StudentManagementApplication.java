@@ -2,8 +2,10 @@ package com.lta.springboot.student_management;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
 public class StudentManagementApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,28 @@
+package com.lta.springboot.student_management.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Propiedades del registro de auditoría asíncrono en la tabla {@code logs} ({@code app.audit.*}).
+ *
+ * @param enabled         habilita el registro de auditoría
+ * @param queueCapacity   número máximo de entradas pendientes en memoria; una operación masiva encola una por
+ *                        estudiante, así que debe superar con holgura {@code app.students.bulk.max-ids}
+ * @param batchSize       filas por cada INSERT multi-fila
+ * @param flushInterval   espera máxima del escritor antes de guardar un lote incompleto
+ * @param offerTimeout    espera máxima para encolar un evento (con todas sus entradas) cuando la cola está llena;
+ *                        luego las entradas restantes se descartan
+ * @param shutdownTimeout tiempo máximo para vaciar la cola al detener la aplicación
+ */
+@ConfigurationProperties(prefix = "app.audit")
+public record AuditProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("100000") int queueCapacity,
+        @DefaultValue("200") int batchSize,
+        @DefaultValue("1s") Duration flushInterval,
+        @DefaultValue("50ms") Duration offerTimeout,
+        @DefaultValue("10s") Duration shutdownTimeout) {
+}
@@ -0,0 +1,15 @@
+package com.lta.springboot.student_management.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Habilita el cache de Spring. El interceptor de cache se ejecuta antes que el transaccional,
+ * así un acierto no abre transacción ni conexión, y los {@code @CachePut}/{@code @CacheEvict}
+ * se aplican solo después del commit.
+ */
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfig {
+}
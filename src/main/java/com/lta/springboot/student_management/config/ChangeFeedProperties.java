@@ -0,0 +1,27 @@
+package com.lta.springboot.student_management.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Propiedades del feed de cambios de estudiantes ({@code app.students.change-feed.*}).
+ *
+ * @param enabled           guarda los cambios y habilita el endpoint SSE
+ * @param batchSize         cambios leídos por consulta al ponerse al día
+ * @param pollInterval      espera máxima entre consultas cuando no hay cambios de esta instancia
+ *                          (cubre los cambios hechos por otras instancias)
+ * @param heartbeatInterval intervalo de los comentarios de keep-alive con los que se detectan clientes desconectados
+ * @param emitterTimeout    duración máxima de una conexión; el cliente se reconecta con {@code Last-Event-ID}
+ * @param retention         antigüedad a partir de la cual se eliminan los cambios
+ */
+@ConfigurationProperties(prefix = "app.students.change-feed")
+public record ChangeFeedProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("2s") Duration pollInterval,
+        @DefaultValue("15s") Duration heartbeatInterval,
+        @DefaultValue("30m") Duration emitterTimeout,
+        @DefaultValue("7d") Duration retention) {
+}
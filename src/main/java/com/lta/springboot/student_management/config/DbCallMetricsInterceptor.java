@@ -0,0 +1,101 @@
+package com.lta.springboot.student_management.config;
+
+import com.lta.springboot.student_management.config.DbStatisticsProperties.BudgetMode;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide el acceso a datos de cada petición con {@link DbRequestStatistics} y lo registra en los resúmenes
+ * {@code students.request.db.statements}, {@code .rows} y {@code .entities} y en el timer
+ * {@code students.request.db.time}, etiquetados por método HTTP y patrón de URI. Cada petición se registra
+ * también en el log (nivel DEBUG de esta clase) y, si supera {@code app.db.statistics.statement-budget}
+ * en modo LOG, como advertencia.
+ * <p>
+ * En las peticiones asíncronas (SSE, {@code Callable}) la medición del primer despacho termina al liberar
+ * el hilo del servlet, sin registrarse: el trabajo continúa en otro hilo y el redespacho que entrega el
+ * resultado inicia y registra su propia medición.
+ */
+@Slf4j
+public class DbCallMetricsInterceptor implements AsyncHandlerInterceptor {
+
+    static final String METRIC_NAME = "students.request.db.statements";
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final DbStatisticsProperties dbStatisticsProperties;
+    private final MeterRegistry meterRegistry;
+
+    public DbCallMetricsInterceptor(DbStatisticsProperties dbStatisticsProperties, MeterRegistry meterRegistry) {
+        this.dbStatisticsProperties = dbStatisticsProperties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        DbRequestStatistics.start(dbStatisticsProperties.statementBudget(), dbStatisticsProperties.budgetMode());
+        return true;
+    }
+
+    /**
+     * Libera la medición del hilo del servlet, que vuelve al pool mientras la petición sigue en curso.
+     */
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        DbRequestStatistics.stop();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        DbRequestStatistics statistics = DbRequestStatistics.stop();
+        if (statistics == null) {
+            return;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : UNKNOWN_URI;
+        Tags tags = Tags.of("method", request.getMethod(), "uri", uri);
+
+        summary(METRIC_NAME, "Sentencias SQL ejecutadas por petición", "statements", tags)
+                .record(statistics.statements());
+        summary("students.request.db.rows", "Filas leídas de la base de datos por petición", "rows", tags)
+                .record(statistics.rowsFetched());
+        summary("students.request.db.entities", "Entidades cargadas por Hibernate por petición", "entities", tags)
+                .record(statistics.entitiesLoaded());
+        Timer.builder("students.request.db.time")
+                .description("Tiempo en el driver JDBC por petición")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(statistics.jdbcNanos(), TimeUnit.NANOSECONDS);
+
+        if (statistics.isOverBudget() && dbStatisticsProperties.budgetMode() == BudgetMode.LOG) {
+            log.warn("{} {}: {} sentencias SQL superan el presupuesto de {} ({} filas, {} entidades, {} ms JDBC)",
+                    request.getMethod(), uri, statistics.statements(), statistics.statementBudget(),
+                    statistics.rowsFetched(), statistics.entitiesLoaded(), millis(statistics.jdbcNanos()));
+        } else if (log.isDebugEnabled()) {
+            log.debug("{} {}: {} sentencias SQL, {} filas, {} entidades, {} ms JDBC", request.getMethod(), uri,
+                    statistics.statements(), statistics.rowsFetched(), statistics.entitiesLoaded(),
+                    millis(statistics.jdbcNanos()));
+        }
+    }
+
+    private DistributionSummary summary(String name, String description, String baseUnit, Tags tags) {
+        return DistributionSummary.builder(name)
+                .description(description)
+                .baseUnit(baseUnit)
+                .tags(tags)
+                .register(meterRegistry);
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.2f", nanos / 1_000_000.0);
+    }
+}
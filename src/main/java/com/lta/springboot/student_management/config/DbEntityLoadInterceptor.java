@@ -0,0 +1,19 @@
+package com.lta.springboot.student_management.config;
+
+import org.hibernate.Interceptor;
+import org.hibernate.type.Type;
+
+/**
+ * Cuenta las entidades que Hibernate carga en la medición activa del hilo actual.
+ */
+public class DbEntityLoadInterceptor implements Interceptor {
+
+    @Override
+    public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+        DbRequestStatistics statistics = DbRequestStatistics.current();
+        if (statistics != null) {
+            statistics.entityLoaded();
+        }
+        return false;
+    }
+}
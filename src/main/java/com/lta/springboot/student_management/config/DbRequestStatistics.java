@@ -0,0 +1,119 @@
+package com.lta.springboot.student_management.config;
+
+import com.lta.springboot.student_management.config.DbStatisticsProperties.BudgetMode;
+
+/**
+ * Estadísticas de acceso a datos de la medición activa en el hilo actual (entre {@link #start} y
+ * {@link #stop()}), normalmente una petición HTTP. Las alimentan {@link InstrumentedDataSource} (sentencias,
+ * tiempo JDBC y filas, también las de {@code JdbcTemplate}) y {@link DbEntityLoadInterceptor} (entidades).
+ * Fuera de una medición no se registra nada.
+ * <p>
+ * También sirve en pruebas de integración para verificar cuántas sentencias ejecuta una operación:
+ * <pre>{@code
+ * DbRequestStatistics.start(2, BudgetMode.FAIL);
+ * try {
+ *     studentService.deleteStudentById(id);
+ * } finally {
+ *     assertEquals(1, DbRequestStatistics.stop().statements());
+ * }
+ * }</pre>
+ */
+public final class DbRequestStatistics {
+
+    private static final ThreadLocal<DbRequestStatistics> CURRENT = new ThreadLocal<>();
+
+    private final int statementBudget;
+    private final BudgetMode budgetMode;
+    private int statements;
+    private long jdbcNanos;
+    private long rowsFetched;
+    private int entitiesLoaded;
+
+    private DbRequestStatistics(int statementBudget, BudgetMode budgetMode) {
+        this.statementBudget = statementBudget;
+        this.budgetMode = budgetMode;
+    }
+
+    /**
+     * Inicia una medición en el hilo actual, descartando cualquier medición previa.
+     *
+     * @param statementBudget sentencias máximas; 0 sin límite
+     * @param budgetMode      acción al superar el límite
+     */
+    public static DbRequestStatistics start(int statementBudget, BudgetMode budgetMode) {
+        DbRequestStatistics statistics = new DbRequestStatistics(statementBudget, budgetMode);
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    /**
+     * @return medición activa en el hilo actual, o null
+     */
+    public static DbRequestStatistics current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Termina la medición del hilo actual.
+     *
+     * @return la medición terminada, o null si no había una activa
+     */
+    public static DbRequestStatistics stop() {
+        DbRequestStatistics statistics = CURRENT.get();
+        CURRENT.remove();
+        return statistics;
+    }
+
+    void statementExecuted(long nanos) {
+        statements++;
+        jdbcNanos += nanos;
+    }
+
+    /**
+     * @throws IllegalStateException en modo FAIL, si las sentencias ejecutadas superan el presupuesto
+     */
+    void enforceBudget() {
+        if (budgetMode == BudgetMode.FAIL && isOverBudget()) {
+            throw new IllegalStateException("Se superó el presupuesto de " + statementBudget
+                    + " sentencias SQL por petición");
+        }
+    }
+
+    void rowFetched(long nanos, boolean fetched) {
+        jdbcNanos += nanos;
+        if (fetched) {
+            rowsFetched++;
+        }
+    }
+
+    void entityLoaded() {
+        entitiesLoaded++;
+    }
+
+    public boolean isOverBudget() {
+        return statementBudget > 0 && statements > statementBudget;
+    }
+
+    public int statementBudget() {
+        return statementBudget;
+    }
+
+    public int statements() {
+        return statements;
+    }
+
+    /**
+     * Tiempo en el driver JDBC: ejecución de sentencias y lectura de filas.
+     */
+    public long jdbcNanos() {
+        return jdbcNanos;
+    }
+
+    public long rowsFetched() {
+        return rowsFetched;
+    }
+
+    public int entitiesLoaded() {
+        return entitiesLoaded;
+    }
+}
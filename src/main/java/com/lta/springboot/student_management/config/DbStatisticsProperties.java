@@ -0,0 +1,24 @@
+package com.lta.springboot.student_management.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Propiedades de las estadísticas SQL por petición ({@code app.db.statistics.*}).
+ *
+ * @param enabled         mide cada petición HTTP: sentencias, tiempo JDBC, filas leídas y entidades cargadas
+ * @param statementBudget sentencias SQL máximas por petición; 0 lo desactiva
+ * @param budgetMode      qué hacer al superar el presupuesto: LOG registra una advertencia al terminar la
+ *                        petición, FAIL lanza una excepción en la sentencia que lo supera (pensado para pruebas)
+ */
+@ConfigurationProperties(prefix = "app.db.statistics")
+public record DbStatisticsProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("0") int statementBudget,
+        @DefaultValue("LOG") BudgetMode budgetMode) {
+
+    public enum BudgetMode {
+        LOG,
+        FAIL
+    }
+}
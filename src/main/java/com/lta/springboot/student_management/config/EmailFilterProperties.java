@@ -0,0 +1,20 @@
+package com.lta.springboot.student_management.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Propiedades del filtro de Bloom de emails registrados ({@code app.students.email-filter.*}).
+ *
+ * @param enabled            si es false no se hace la verificación previa y los duplicados se detectan
+ *                           solo con la restricción única de la base de datos
+ * @param expectedInsertions capacidad mínima del filtro; al reconstruirlo se usa el doble de los emails
+ *                           existentes si es mayor
+ * @param falsePositiveRate  probabilidad de falso positivo (consultas innecesarias a la base de datos)
+ */
+@ConfigurationProperties(prefix = "app.students.email-filter")
+public record EmailFilterProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("100000") long expectedInsertions,
+        @DefaultValue("0.01") double falsePositiveRate) {
+}
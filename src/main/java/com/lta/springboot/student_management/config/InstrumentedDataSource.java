@@ -0,0 +1,96 @@
+package com.lta.springboot.student_management.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * {@link DataSource} que, mientras hay una medición activa en el hilo ({@link DbRequestStatistics}), entrega
+ * conexiones instrumentadas: cada ejecución de sentencia (incluido un lote) cuenta como una sentencia y suma
+ * su tiempo, y cada {@code ResultSet.next()} suma su tiempo y la fila leída. Sin medición activa entrega la
+ * conexión original, sin costo adicional.
+ */
+public class InstrumentedDataSource extends DelegatingDataSource {
+
+    public InstrumentedDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return instrument(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return instrument(super.getConnection(username, password));
+    }
+
+    private static Connection instrument(Connection connection) {
+        DbRequestStatistics statistics = DbRequestStatistics.current();
+        return statistics == null ? connection : wrap(Connection.class, connection, statistics);
+    }
+
+    private static <T> T wrap(Class<T> type, T target, DbRequestStatistics statistics) {
+        return type.cast(Proxy.newProxyInstance(InstrumentedDataSource.class.getClassLoader(), new Class<?>[]{type},
+                new JdbcHandler(target, statistics)));
+    }
+
+    /**
+     * Delegación de conexiones, sentencias y resultados; las sentencias y resultados que entregan también
+     * se instrumentan.
+     */
+    private record JdbcHandler(Object target, DbRequestStatistics statistics) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getName().equals("equals")) {
+                return proxy == args[0];
+            }
+            if (method.getName().equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+            boolean execution = target instanceof Statement && method.getName().startsWith("execute");
+            boolean next = target instanceof ResultSet && method.getName().equals("next");
+            long start = execution || next ? System.nanoTime() : 0;
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                // La sentencia fallida cuenta, pero el error del driver es el que se propaga
+                if (execution) {
+                    statistics.statementExecuted(System.nanoTime() - start);
+                }
+                throw e.getCause();
+            }
+            if (execution) {
+                statistics.statementExecuted(System.nanoTime() - start);
+                statistics.enforceBudget();
+            }
+            if (next) {
+                statistics.rowFetched(System.nanoTime() - start, (Boolean) result);
+            }
+            return instrumentResult(method.getReturnType(), result);
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private Object instrumentResult(Class<?> type, Object result) {
+            if (result == null || (Proxy.isProxyClass(result.getClass())
+                    && Proxy.getInvocationHandler(result) instanceof JdbcHandler)) {
+                return result;
+            }
+            if (Statement.class.isAssignableFrom(type) || type == ResultSet.class) {
+                return wrap((Class) type, result, statistics);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.lta.springboot.student_management.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+
+/**
+ * Métricas propias de la aplicación. Los tiempos por operación se registran con {@code @Timed}/{@code @Counted}
+ * (requiere {@code management.observations.annotations.enabled=true}); aquí se agregan las estadísticas SQL
+ * por petición: el {@link DataSource} de la aplicación se envuelve en {@link InstrumentedDataSource} y las
+ * entidades cargadas se cuentan con un interceptor de Hibernate.
+ */
+@Configuration
+public class MetricsConfig implements WebMvcConfigurer {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    private final MeterRegistry meterRegistry;
+    private final DbStatisticsProperties dbStatisticsProperties;
+
+    public MetricsConfig(MeterRegistry meterRegistry, DbStatisticsProperties dbStatisticsProperties) {
+        this.meterRegistry = meterRegistry;
+        this.dbStatisticsProperties = dbStatisticsProperties;
+    }
+
+    /**
+     * Solo se envuelve el DataSource que usa la aplicación (con réplicas, el proxy que elige entre primario
+     * y réplicas), así cada sentencia se cuenta una vez.
+     */
+    @Bean
+    public static BeanPostProcessor instrumentedDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (DATA_SOURCE_BEAN.equals(beanName) && bean instanceof DataSource dataSource
+                        && !(bean instanceof InstrumentedDataSource)) {
+                    return new InstrumentedDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer dbEntityLoadInterceptorCustomizer() {
+        return properties -> properties.put(AvailableSettings.INTERCEPTOR, new DbEntityLoadInterceptor());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (dbStatisticsProperties.enabled()) {
+            registry.addInterceptor(new DbCallMetricsInterceptor(dbStatisticsProperties, meterRegistry))
+                    .excludePathPatterns("/actuator/**");
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.lta.springboot.student_management.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Propiedades de las réplicas de lectura ({@code app.datasource.replicas.*}).
+ *
+ * @param enabled             envía las transacciones de solo lectura a las réplicas
+ * @param urls                URLs JDBC de las réplicas
+ * @param username            usuario de las réplicas; si es null se usa el del primario
+ * @param password            contraseña de las réplicas; si es null se usa la del primario
+ * @param maximumPoolSize     conexiones máximas del pool de cada réplica
+ * @param healthCheckInterval intervalo de verificación de las réplicas
+ * @param maxLag              retraso de replicación máximo tolerado; una réplica más atrasada deja de recibir lecturas
+ * @param stickyAfterWrite    tiempo durante el cual las lecturas de un cliente van al primario después de que
+ *                            hizo una escritura (lee sus propias escrituras); 0 lo desactiva
+ */
+@ConfigurationProperties(prefix = "app.datasource.replicas")
+public record ReplicaProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue List<String> urls,
+        String username,
+        String password,
+        @DefaultValue("10") int maximumPoolSize,
+        @DefaultValue("5s") Duration healthCheckInterval,
+        @DefaultValue("3s") Duration maxLag,
+        @DefaultValue("5s") Duration stickyAfterWrite) {
+}
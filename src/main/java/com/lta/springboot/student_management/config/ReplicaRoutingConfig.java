@@ -0,0 +1,87 @@
+package com.lta.springboot.student_management.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Réplicas de lectura ({@code app.datasource.replicas.enabled=true}): las transacciones
+ * {@code @Transactional(readOnly = true)} leen de las réplicas y el resto usa el primario.
+ * <p>
+ * El {@link DataSource} de la aplicación es un {@link LazyConnectionDataSourceProxy}: obtiene la conexión
+ * real recién en la primera sentencia, cuando el gestor de transacciones ya la marcó como de solo lectura,
+ * y en ese caso la pide a {@link ReplicaRoutingDataSource}. Cada réplica tiene su propio pool con la
+ * configuración de {@code spring.datasource.hikari.*}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replicas", name = "enabled", havingValue = "true")
+public class ReplicaRoutingConfig implements WebMvcConfigurer {
+
+    private final ReplicaProperties replicaProperties;
+
+    public ReplicaRoutingConfig(ReplicaProperties replicaProperties) {
+        this.replicaProperties = replicaProperties;
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaDataSource(HikariDataSource primaryDataSource, MeterRegistry meterRegistry) {
+        if (replicaProperties.urls().isEmpty()) {
+            throw new IllegalStateException("app.datasource.replicas.urls no puede estar vacío si las réplicas están habilitadas");
+        }
+        List<DataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < replicaProperties.urls().size(); i++) {
+            HikariConfig config = new HikariConfig();
+            primaryDataSource.copyStateTo(config);
+            config.setPoolName(primaryDataSource.getPoolName() + "-replica-" + i);
+            config.setJdbcUrl(replicaProperties.urls().get(i));
+            if (replicaProperties.username() != null) {
+                config.setUsername(replicaProperties.username());
+            }
+            if (replicaProperties.password() != null) {
+                config.setPassword(replicaProperties.password());
+            }
+            config.setMaximumPoolSize(replicaProperties.maximumPoolSize());
+            config.setMinimumIdle(Math.min(config.getMinimumIdle(), replicaProperties.maximumPoolSize()));
+            config.setReadOnly(true);
+            // Una réplica caída al iniciar no impide arrancar: se descarta en la verificación de salud
+            config.setInitializationFailTimeout(-1);
+            replicas.add(new HikariDataSource(config));
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, replicaProperties.maxLag(), meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaRoutingDataSource replicaDataSource) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primaryDataSource);
+        proxy.setReadOnlyDataSource(replicaDataSource);
+        return proxy;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (!replicaProperties.stickyAfterWrite().isZero()) {
+            registry.addInterceptor(new ReadYourWritesInterceptor(replicaProperties.stickyAfterWrite()))
+                    .excludePathPatterns("/actuator/**");
+        }
+    }
+}
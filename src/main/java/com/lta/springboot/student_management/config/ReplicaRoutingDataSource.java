@@ -0,0 +1,192 @@
+package com.lta.springboot.student_management.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Origen de las conexiones de solo lectura: reparte entre las réplicas sanas (round-robin) y usa el primario
+ * cuando no hay ninguna, cuando la petición actual debe leer sus propias escrituras o cuando la réplica elegida
+ * no entrega conexión.
+ * <p>
+ * Una réplica está sana si responde y su retraso de replicación no supera {@code max-lag}. El estado se
+ * actualiza cada {@code health-check-interval} y también al fallar una conexión.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    // Segundos de retraso: 0 si la réplica aplicó todo lo recibido (o si no es una réplica)
+    private static final String LAG_QUERY = """
+            SELECT COALESCE(CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                    ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) END, 0)""";
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+    private static final ThreadLocal<Boolean> PRIMARY_FORCED = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final List<DataSource> replicas;
+    private final AtomicBoolean[] healthy;
+    private final Duration maxLag;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Counter primaryFallbacks;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, Duration maxLag,
+                                    MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.healthy = new AtomicBoolean[replicas.size()];
+        this.maxLag = maxLag;
+        Map<Object, Object> targets = new HashMap<>();
+        for (int i = 0; i < replicas.size(); i++) {
+            targets.put(i, replicas.get(i));
+            // Se asume sana hasta la primera verificación; si no lo está, el primer fallo la descarta
+            healthy[i] = new AtomicBoolean(true);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        Gauge.builder("db.replicas.healthy", this, ReplicaRoutingDataSource::healthyReplicas)
+                .description("Réplicas de lectura disponibles")
+                .register(meterRegistry);
+        this.primaryFallbacks = Counter.builder("db.replicas.primary_fallbacks")
+                .description("Lecturas enviadas al primario por no haber una réplica disponible")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Envía al primario las lecturas del hilo actual hasta {@link #clearForcedPrimary()}.
+     */
+    public static void forcePrimary() {
+        PRIMARY_FORCED.set(Boolean.TRUE);
+    }
+
+    public static void clearForcedPrimary() {
+        PRIMARY_FORCED.remove();
+    }
+
+    /**
+     * Ejecuta {@code read} con sus lecturas en el primario y luego restaura el estado anterior del hilo. Es para
+     * las lecturas cuyo resultado se comparte con otras peticiones (caches, cargas agrupadas): leído de una réplica
+     * atrasada, un valor anterior a una escritura ya confirmada quedaría guardado para todos. La conexión debe
+     * obtenerse dentro de {@code read}; con {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}
+     * eso ocurre en la primera sentencia, aunque la transacción se haya iniciado antes.
+     *
+     * @param read lectura a ejecutar
+     * @return resultado de la lectura
+     */
+    public static <T> T readFromPrimary(Supplier<T> read) {
+        Boolean previous = PRIMARY_FORCED.get();
+        PRIMARY_FORCED.set(Boolean.TRUE);
+        try {
+            return read.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY_FORCED.remove();
+            }
+        }
+    }
+
+    /**
+     * @return índice de la réplica a usar, o null para el primario
+     */
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (PRIMARY_FORCED.get() != null) {
+            return null;
+        }
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int offset = 0; offset < size; offset++) {
+            int candidate = (start + offset) % size;
+            if (healthy[candidate].get()) {
+                return candidate;
+            }
+        }
+        primaryFallbacks.increment();
+        return null;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Object key = determineCurrentLookupKey();
+        if (key == null) {
+            return primary.getConnection();
+        }
+        int replica = (Integer) key;
+        try {
+            return replicas.get(replica).getConnection();
+        } catch (SQLException e) {
+            markUnhealthy(replica, e.getMessage());
+            primaryFallbacks.increment();
+            return primary.getConnection();
+        }
+    }
+
+    /**
+     * Verifica cada réplica: que entregue una conexión válida y que su retraso no supere {@code max-lag}.
+     */
+    @Scheduled(fixedDelayString = "${app.datasource.replicas.health-check-interval:5s}")
+    public void checkHealth() {
+        for (int i = 0; i < replicas.size(); i++) {
+            try (Connection connection = replicas.get(i).getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.setQueryTimeout(VALIDATION_TIMEOUT_SECONDS);
+                double lagSeconds;
+                try (ResultSet rs = statement.executeQuery(LAG_QUERY)) {
+                    rs.next();
+                    lagSeconds = rs.getDouble(1);
+                }
+                if (lagSeconds * 1000 > maxLag.toMillis()) {
+                    markUnhealthy(i, "retraso de replicación de " + lagSeconds + " s");
+                } else if (healthy[i].compareAndSet(false, true)) {
+                    log.info("Réplica {} disponible nuevamente para lecturas", i);
+                }
+            } catch (SQLException e) {
+                markUnhealthy(i, e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        for (DataSource replica : replicas) {
+            if (replica instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("No fue posible cerrar el pool de una réplica", e);
+                }
+            }
+        }
+    }
+
+    private void markUnhealthy(int replica, String reason) {
+        if (healthy[replica].compareAndSet(true, false)) {
+            log.warn("Réplica {} fuera de servicio para lecturas: {}", replica, reason);
+        }
+    }
+
+    private double healthyReplicas() {
+        int count = 0;
+        for (AtomicBoolean replicaHealthy : healthy) {
+            if (replicaHealthy.get()) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,12 @@
+package com.lta.springboot.student_management.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita las tareas periódicas ({@code @Scheduled}) de mantenimiento de datos.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
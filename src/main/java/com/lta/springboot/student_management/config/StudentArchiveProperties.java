@@ -0,0 +1,22 @@
+package com.lta.springboot.student_management.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Propiedades del archivo de estudiantes inactivos ({@code app.students.archive.*}).
+ *
+ * @param enabled       ejecuta el archivo periódico (desactivado por defecto: el archivo no se restaura)
+ * @param inactiveAfter antigüedad de la última modificación a partir de la cual un estudiante se archiva
+ * @param batchSize     estudiantes movidos por transacción
+ * @param batchPause    pausa entre lotes para ceder la base de datos a las demás transacciones
+ */
+@ConfigurationProperties(prefix = "app.students.archive")
+public record StudentArchiveProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("730d") Duration inactiveAfter,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("100ms") Duration batchPause) {
+}
@@ -0,0 +1,14 @@
+package com.lta.springboot.student_management.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Propiedades de las operaciones masivas de estudiantes ({@code app.students.bulk.*}).
+ *
+ * @param maxIds número máximo de estudiantes afectados por una operación masiva
+ */
+@ConfigurationProperties(prefix = "app.students.bulk")
+public record StudentBulkProperties(
+        @DefaultValue("10000") int maxIds) {
+}
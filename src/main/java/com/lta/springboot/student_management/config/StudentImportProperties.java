@@ -0,0 +1,16 @@
+package com.lta.springboot.student_management.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Propiedades de la importación masiva de estudiantes ({@code app.students.import.*}).
+ *
+ * @param batchSize        filas insertadas por transacción/lote JDBC
+ * @param maxReportedErrors número máximo de filas rechazadas detalladas en el resultado
+ */
+@ConfigurationProperties(prefix = "app.students.import")
+public record StudentImportProperties(
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("1000") int maxReportedErrors) {
+}
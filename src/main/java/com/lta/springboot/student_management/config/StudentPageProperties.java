@@ -0,0 +1,30 @@
+package com.lta.springboot.student_management.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Propiedades de paginación del listado de estudiantes ({@code app.students.page.*}).
+ *
+ * @param defaultSize tamaño de página usado cuando el cliente no indica uno
+ * @param maxSize     tamaño máximo de página permitido
+ */
+@ConfigurationProperties(prefix = "app.students.page")
+public record StudentPageProperties(
+        @DefaultValue("20") int defaultSize,
+        @DefaultValue("100") int maxSize) {
+
+    /**
+     * Resuelve el tamaño de página a usar a partir del solicitado por el cliente,
+     * aplicando el valor por defecto y el límite máximo configurados.
+     *
+     * @param requestedSize tamaño solicitado (puede ser null)
+     * @return tamaño de página entre 1 y {@code maxSize}
+     */
+    public int resolveSize(Integer requestedSize) {
+        if (requestedSize == null || requestedSize < 1) {
+            return defaultSize;
+        }
+        return Math.min(requestedSize, maxSize);
+    }
+}
@@ -0,0 +1,23 @@
+package com.lta.springboot.student_management.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Propiedades del purgador de estudiantes eliminados lógicamente ({@code app.students.purge.*}).
+ *
+ * @param enabled    ejecuta el purgado periódico
+ * @param retention  antigüedad de la eliminación a partir de la cual se borra la fila. Un cliente de la
+ *                   sincronización incremental con un cursor más antiguo recibe {@code reset} y sincroniza todo
+ * @param batchSize  filas borradas por transacción; lotes pequeños mantienen cortos los bloqueos
+ * @param batchPause pausa entre lotes para ceder la base de datos a las demás transacciones
+ */
+@ConfigurationProperties(prefix = "app.students.purge")
+public record StudentPurgeProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("30d") Duration retention,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("100ms") Duration batchPause) {
+}
@@ -0,0 +1,37 @@
+package com.lta.springboot.student_management.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Propiedades de la sincronización incremental de estudiantes ({@code app.students.sync.*}).
+ *
+ * @param defaultSize tamaño de página usado cuando el cliente no indica uno
+ * @param maxSize     tamaño máximo de página permitido
+ * @param safetyLag   margen hacia atrás desde el momento actual dentro del cual no se informan cambios todavía.
+ *                    Las fechas se asignan antes del commit, así que una transacción lenta puede confirmar una
+ *                    fila con una fecha anterior al cursor de un cliente; debe superar la duración de la
+ *                    transacción de escritura más larga (y la diferencia de reloj entre instancias)
+ */
+@ConfigurationProperties(prefix = "app.students.sync")
+public record StudentSyncProperties(
+        @DefaultValue("500") int defaultSize,
+        @DefaultValue("5000") int maxSize,
+        @DefaultValue("5s") Duration safetyLag) {
+
+    /**
+     * Resuelve el tamaño de página a usar a partir del solicitado por el cliente,
+     * aplicando el valor por defecto y el límite máximo configurados.
+     *
+     * @param requestedSize tamaño solicitado (puede ser null)
+     * @return tamaño de página entre 1 y {@code maxSize}
+     */
+    public int resolveSize(Integer requestedSize) {
+        if (requestedSize == null || requestedSize < 1) {
+            return defaultSize;
+        }
+        return Math.min(requestedSize, maxSize);
+    }
+}
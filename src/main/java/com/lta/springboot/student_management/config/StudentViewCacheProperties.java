@@ -0,0 +1,21 @@
+package com.lta.springboot.student_management.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Propiedades del cache de fragmentos HTML del listado de estudiantes ({@code app.students.view-cache.*}).
+ *
+ * @param enabled          si es false cada visita consulta y renderiza la tabla
+ * @param maxSize          memoria máxima estimada de los fragmentos guardados
+ * @param expireAfterWrite tiempo máximo que se conserva un fragmento aunque no cambie la tabla
+ */
+@ConfigurationProperties(prefix = "app.students.view-cache")
+public record StudentViewCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("16MB") DataSize maxSize,
+        @DefaultValue("10m") Duration expireAfterWrite) {
+}
@@ -0,0 +1,43 @@
+package com.lta.springboot.student_management.controller;
+
+import com.lta.springboot.student_management.service.interfaces.IStudentChangeFeedService;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Feed de cambios de estudiantes por Server-Sent Events, para que los sistemas externos se sincronicen
+ * de forma incremental en lugar de consultar el listado completo.
+ * <p>
+ * Cada evento {@code student-change} lleva como {@code id} su offset. Para continuar después de una
+ * desconexión se envía ese offset en {@code Last-Event-ID} (los clientes SSE lo hacen automáticamente)
+ * o en {@code after}; con {@code after=0} se reciben todos los cambios conservados.
+ */
+@RestController
+@RequestMapping("/api/students/changes")
+public class StudentChangeFeedController {
+
+    private final IStudentChangeFeedService iStudentChangeFeedService;
+
+    public StudentChangeFeedController(IStudentChangeFeedService studentChangeFeedService) {
+        this.iStudentChangeFeedService = studentChangeFeedService;
+    }
+
+    /**
+     * Abre el stream de cambios.
+     *
+     * @param lastEventId último offset recibido, enviado por el cliente al reconectarse (opcional)
+     * @param after       offset desde el cual continuar si no hay {@code Last-Event-ID} (opcional);
+     *                    sin ninguno de los dos se reciben solo los cambios nuevos
+     * @return emisor SSE
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(@RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+                                    @RequestParam(required = false) Long after) {
+        return iStudentChangeFeedService.subscribe(lastEventId != null ? lastEventId : after);
+    }
+}
@@ -1,41 +1,128 @@
 package com.lta.springboot.student_management.controller;
 
+import com.lta.springboot.student_management.config.StudentPageProperties;
 import com.lta.springboot.student_management.domain.dto.request.StudentRequestDTO;
+import com.lta.springboot.student_management.domain.dto.request.StudentSearchCriteriaDTO;
+import com.lta.springboot.student_management.domain.dto.response.CursorPageResponseDTO;
+import com.lta.springboot.student_management.domain.dto.response.StudentBulkResultDTO;
+import com.lta.springboot.student_management.domain.dto.response.StudentImportResultDTO;
 import com.lta.springboot.student_management.domain.dto.response.StudentResponseDTO;
+import com.lta.springboot.student_management.domain.enums.StudentFileFormat;
+import com.lta.springboot.student_management.exception.ConflictException;
+import com.lta.springboot.student_management.repository.TableVersion;
+import com.lta.springboot.student_management.service.interfaces.IStudentExportService;
+import com.lta.springboot.student_management.service.interfaces.IStudentImportService;
 import com.lta.springboot.student_management.service.interfaces.IStudentService;
+import com.lta.springboot.student_management.service.interfaces.IStudentViewCacheService;
+import com.lta.springboot.student_management.service.interfaces.ITableVersionService;
+import com.lta.springboot.student_management.util.HttpCacheUtils;
+import io.micrometer.core.annotation.Timed;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
-
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.web.servlet.JakartaServletWebApplication;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 @Slf4j
 @Controller
 @RequestMapping("/students")
+@Timed(value = "students.controller", description = "Latencia de los handlers del controlador de estudiantes")
 public class StudentController {
 
     private final IStudentService iStudentService;
-
-
-    public StudentController(IStudentService studentService) {
+    private final IStudentImportService iStudentImportService;
+    private final IStudentExportService iStudentExportService;
+    private final ITableVersionService iTableVersionService;
+    private final StudentPageProperties studentPageProperties;
+    private final IStudentViewCacheService iStudentViewCacheService;
+    private final ITemplateEngine templateEngine;
+
+
+    public StudentController(IStudentService studentService, IStudentImportService studentImportService,
+                             IStudentExportService studentExportService, ITableVersionService tableVersionService,
+                             StudentPageProperties studentPageProperties, IStudentViewCacheService studentViewCacheService,
+                             ITemplateEngine templateEngine) {
         this.iStudentService = studentService;
+        this.iStudentImportService = studentImportService;
+        this.iStudentExportService = studentExportService;
+        this.iTableVersionService = tableVersionService;
+        this.studentPageProperties = studentPageProperties;
+        this.iStudentViewCacheService = studentViewCacheService;
+        this.templateEngine = templateEngine;
     }
 
 
     /**
-     * Muestra la lista de estudiantes en la vista 'student/students'.
+     * Muestra una página de la lista de estudiantes en la vista 'student/students'.
+     * La navegación se hace por cursor (keyset) usando el ID del primer/último estudiante.
+     * Si se envían filtros de búsqueda, la lista se restringe a los estudiantes que los cumplen.
+     * <p>
+     * La respuesta lleva ETag y Last-Modified según la versión de la tabla de estudiantes; si el cliente
+     * ya tiene la versión actual se responde 304 sin consultar ni renderizar la lista.
+     * <p>
+     * La tabla (fragmento {@code student/students_table}) se toma del cache de fragmentos por página, filtros
+     * y versión de la tabla: una visita repetida no consulta la página ni la vuelve a renderizar. Si la base de
+     * datos no mantiene la versión de la tabla, se renderiza en cada petición.
      *
-     * @param model Modelo para la vista
-     * @return nombre del template a renderizar
+     * @param criteria   filtros de búsqueda (opcionales)
+     * @param after      cursor para la página siguiente (opcional)
+     * @param before     cursor para la página anterior (opcional)
+     * @param size       tamaño de página solicitado (opcional)
+     * @param model      Modelo para la vista
+     * @param webRequest petición, para evaluar If-None-Match/If-Modified-Since
+     * @param request    petición HTTP, para construir los enlaces del fragmento
+     * @param response   respuesta HTTP
+     * @return nombre del template a renderizar, o null si se respondió 304
      */
     @GetMapping("/listStudents")
-    public String listStudents(Model model) {
-        List<StudentResponseDTO> students = iStudentService.findAllStudents();
-        model.addAttribute("students", students);
+    public String listStudents(@ModelAttribute("criteria") StudentSearchCriteriaDTO criteria,
+                               @RequestParam(required = false) Long after,
+                               @RequestParam(required = false) Long before,
+                               @RequestParam(required = false) Integer size,
+                               Model model,
+                               WebRequest webRequest,
+                               HttpServletRequest request,
+                               HttpServletResponse response) {
+        Optional<TableVersion> version = iTableVersionService.findStudentsVersion();
+        if (!hasFlashMessage(model) && version.isPresent() && isNotModified(webRequest, response,
+                HttpCacheUtils.listETag("students-html", version.get()), version.get().updatedAt())) {
+            return null;
+        }
+
+        int pageSize = studentPageProperties.resolveSize(size);
+        Supplier<String> renderer = () -> {
+            CursorPageResponseDTO<StudentResponseDTO> page = criteria.hasFilters()
+                    ? iStudentService.searchStudents(criteria, after, before, pageSize)
+                    : iStudentService.findStudentsPage(after, before, pageSize);
+            return renderStudentTable(page, criteria, request, response);
+        };
+        // Sin versión de la tabla un fragmento guardado no se invalidaría con las escrituras de otras instancias
+        model.addAttribute("studentTable", version
+                .map(current -> iStudentViewCacheService.getTable(
+                        iStudentViewCacheService.tableKey(current, criteria, after, before, pageSize), renderer))
+                .orElseGet(renderer));
         return "student/students";
     }
 
@@ -91,6 +178,10 @@ public class StudentController {
             // Redirigir a la lista de estudiantes
             return "redirect:/students/listStudents";
 
+        } catch (ConflictException e) {
+            log.warn("Conflicto al guardar estudiante: {}", e.getMessage());
+            redirectAttributes.addFlashAttribute("errorMessage", e.getMessage());
+            return "redirect:/students/new";
         } catch (Exception e) {
             log.error("Error al guardar estudiante", e);
             redirectAttributes.addFlashAttribute("errorMessage",
@@ -102,21 +193,32 @@ public class StudentController {
     /**
      * Muestra el formulario para editar un estudiante existente.
      *
-     * @param id    identificador del estudiante a editar
-     * @param model modelo para pasar datos a la vista
-     * @return nombre de la vista del formulario (student/student_form)
+     * Responde 304 si el cliente ya tiene la versión actual del estudiante.
+     *
+     * @param id         identificador del estudiante a editar
+     * @param model      modelo para pasar datos a la vista
+     * @param webRequest petición, para evaluar If-None-Match/If-Modified-Since
+     * @param response   respuesta HTTP
+     * @return nombre de la vista del formulario (student/student_form), o null si se respondió 304
      */
     @GetMapping("/edit/{id}")
-    public String showEditStudentForm(@PathVariable Long id, Model model) {
+    public String showEditStudentForm(@PathVariable Long id, Model model, WebRequest webRequest,
+                                      HttpServletResponse response) {
         log.info("Mostrando formulario de edición para estudiante con ID: {}", id);
         // Buscar el estudiante
         StudentResponseDTO studentResponseDTO = iStudentService.findStudentById(id);
+        if (!hasFlashMessage(model) && isNotModified(webRequest, response,
+                HttpCacheUtils.studentETag("student-html", studentResponseDTO),
+                HttpCacheUtils.lastModified(studentResponseDTO))) {
+            return null;
+        }
 
         // Convertir ResponseDTO a RequestDTO para el formulario
         StudentRequestDTO studentRequestDTO = new StudentRequestDTO();
         studentRequestDTO.setName(studentResponseDTO.name());
         studentRequestDTO.setLastname(studentResponseDTO.lastname());
         studentRequestDTO.setEmail(studentResponseDTO.email());
+        studentRequestDTO.setVersion(studentResponseDTO.version());
 
         model.addAttribute("student", studentRequestDTO);
         model.addAttribute("idStudent", id);
@@ -159,6 +261,11 @@ public class StudentController {
 
             return "redirect:/students/listStudents";
 
+        } catch (ConflictException e) {
+            // Otro usuario modificó el estudiante (o el email ya existe): se recarga el formulario con los datos vigentes
+            log.warn("Conflicto al actualizar estudiante ID: {} - {}", id, e.getMessage());
+            redirectAttributes.addFlashAttribute("errorMessage", e.getMessage());
+            return "redirect:/students/edit/" + id;
         } catch (Exception e) {
             log.error("Error al actualizar estudiante ID: {}", id, e);
             redirectAttributes.addFlashAttribute("errorMessage", "Error al actualizar el estudiante, " +
@@ -179,11 +286,8 @@ public class StudentController {
         log.info("Intentando eliminar estudiante con ID: {}", id);
 
         try {
-            // Obtener datos antes de eliminar (para el mensaje)
-            StudentResponseDTO studentResponseDTO = iStudentService.findStudentById(id);
-
-            // Eliminar el estudiante
-            iStudentService.deleteStudentById(id);
+            // Eliminar el estudiante (retorna sus datos para el mensaje)
+            StudentResponseDTO studentResponseDTO = iStudentService.deleteStudentById(id);
 
             // Mensaje de éxito
             redirectAttributes.addFlashAttribute("successMessage", "Estudiante eliminado exitosamente "
@@ -199,4 +303,168 @@ public class StudentController {
         return "redirect:/students/listStudents";
     }
 
+    /**
+     * Elimina en bloque los estudiantes seleccionados en la lista, en una sola sentencia.
+     *
+     * @param ids                identificadores seleccionados
+     * @param redirectAttributes atributos flash para mensajes
+     * @return redirección a la lista de estudiantes
+     */
+    @PostMapping("/bulk-delete")
+    public String deleteStudents(@RequestParam(required = false) List<Long> ids,
+                                 RedirectAttributes redirectAttributes) {
+        if (ids == null || ids.isEmpty()) {
+            redirectAttributes.addFlashAttribute("errorMessage", "Selecciona al menos un estudiante.");
+            return "redirect:/students/listStudents";
+        }
+        log.info("Intentando eliminar en bloque {} estudiantes", ids.size());
+
+        try {
+            StudentBulkResultDTO bulkResult = iStudentService.deleteStudents(ids);
+            String message = bulkResult.affected() + " estudiantes eliminados exitosamente";
+            if (bulkResult.affected() < bulkResult.requested()) {
+                message += " (" + (bulkResult.requested() - bulkResult.affected()) + " ya no existían)";
+            }
+            redirectAttributes.addFlashAttribute("successMessage", message);
+
+        } catch (Exception e) {
+            log.error("Error al eliminar en bloque {} estudiantes", ids.size(), e);
+            redirectAttributes.addFlashAttribute("errorMessage", "Error al eliminar los estudiantes, " +
+                    "por favor intentalo nuevamente.");
+        }
+
+        return "redirect:/students/listStudents";
+    }
+
+    /**
+     * Muestra el formulario de importación masiva de estudiantes.
+     *
+     * @return nombre de la vista de importación (student/student_import)
+     */
+    @GetMapping("/import")
+    public String showImportForm() {
+        return "student/student_import";
+    }
+
+    /**
+     * Procesa un archivo CSV o JSON Lines con estudiantes y muestra el resumen de la importación.
+     * Si no se indica el formato se deduce por la extensión del archivo.
+     *
+     * @param file   archivo subido
+     * @param format formato del archivo (opcional)
+     * @param model  modelo para la vista
+     * @return vista de importación con el resultado
+     */
+    @PostMapping("/import")
+    public String importStudents(@RequestParam("file") MultipartFile file,
+                                 @RequestParam(required = false) StudentFileFormat format,
+                                 Model model) {
+        if (file.isEmpty()) {
+            model.addAttribute("errorMessage", "Debe seleccionar un archivo para importar.");
+            return "student/student_import";
+        }
+
+        StudentFileFormat resolvedFormat = format != null ? format : StudentFileFormat.fromFilename(file.getOriginalFilename());
+        log.info("Importando archivo {} ({} bytes) en formato {}", file.getOriginalFilename(), file.getSize(), resolvedFormat);
+
+        try (InputStream inputStream = file.getInputStream()) {
+            StudentImportResultDTO importResult = iStudentImportService.importStudents(inputStream, resolvedFormat);
+            model.addAttribute("importResult", importResult);
+        } catch (IOException e) {
+            log.error("Error al leer el archivo de importación", e);
+            model.addAttribute("errorMessage", "No fue posible leer el archivo. Por favor intente nuevamente.");
+        } catch (Exception e) {
+            log.error("Error al importar estudiantes", e);
+            model.addAttribute("errorMessage", e.getMessage());
+        }
+        return "student/student_import";
+    }
+
+    /**
+     * Exporta todos los estudiantes en CSV.
+     *
+     * @param response respuesta HTTP donde se escriben las filas
+     * @throws IOException si falla la escritura de la respuesta
+     */
+    @GetMapping("/export/csv")
+    public void exportStudentsCsv(HttpServletResponse response) throws IOException {
+        exportStudents(response, StudentFileFormat.CSV);
+    }
+
+    /**
+     * Exporta todos los estudiantes en JSON Lines.
+     *
+     * @param response respuesta HTTP donde se escriben las filas
+     * @throws IOException si falla la escritura de la respuesta
+     */
+    @GetMapping("/export/jsonl")
+    public void exportStudentsJsonLines(HttpServletResponse response) throws IOException {
+        exportStudents(response, StudentFileFormat.JSONL);
+    }
+
+    /**
+     * Escribe la exportación directamente en el stream de la respuesta como archivo adjunto.
+     */
+    private void exportStudents(HttpServletResponse response, StudentFileFormat format) throws IOException {
+        String filename = "students-" + LocalDate.now() + format.getExtension();
+        response.setContentType(format.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(filename).build().toString());
+
+        long exported = iStudentExportService.exportStudents(response.getOutputStream(), format);
+        log.info("Exportación {} enviada con {} estudiantes", filename, exported);
+    }
+
+    /**
+     * Renderiza la tabla y la paginación de una página de estudiantes a HTML. El fragmento se comparte entre
+     * usuarios, así que los enlaces no se reescriben con el ID de sesión ({@code ;jsessionid=}).
+     */
+    private String renderStudentTable(CursorPageResponseDTO<StudentResponseDTO> page,
+                                      StudentSearchCriteriaDTO criteria, HttpServletRequest request,
+                                      HttpServletResponse response) {
+        WebContext context = new WebContext(JakartaServletWebApplication.buildApplication(request.getServletContext())
+                .buildExchange(request, new NoUrlRewritingResponse(response)), request.getLocale());
+        context.setVariable("students", page.content());
+        context.setVariable("page", page);
+        context.setVariable("criteria", criteria);
+        return templateEngine.process("student/students_table", context);
+    }
+
+    /**
+     * Las páginas con mensajes flash son de un solo uso y no se validan con ETag.
+     */
+    private boolean hasFlashMessage(Model model) {
+        return model.containsAttribute("successMessage") || model.containsAttribute("errorMessage");
+    }
+
+    /**
+     * Agrega ETag, Last-Modified y {@code Cache-Control: no-cache} (el navegador siempre revalida)
+     * y verifica si el cliente ya tiene esa versión, en cuyo caso la respuesta queda como 304.
+     */
+    private boolean isNotModified(WebRequest webRequest, HttpServletResponse response, String eTag,
+                                  LocalDateTime lastModified) {
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+        return webRequest.checkNotModified(eTag, HttpCacheUtils.toEpochMilli(lastModified));
+    }
+
+    /**
+     * Respuesta para renderizar fragmentos compartidos: {@code encodeURL} devuelve la URL sin cambios.
+     */
+    private static final class NoUrlRewritingResponse extends HttpServletResponseWrapper {
+
+        private NoUrlRewritingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public String encodeURL(String url) {
+            return url;
+        }
+
+        @Override
+        public String encodeRedirectURL(String url) {
+            return url;
+        }
+    }
 }
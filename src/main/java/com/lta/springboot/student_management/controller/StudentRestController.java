@@ -0,0 +1,274 @@
+package com.lta.springboot.student_management.controller;
+
+import com.lta.springboot.student_management.config.StudentPageProperties;
+import com.lta.springboot.student_management.domain.dto.request.StudentBulkDeleteRequestDTO;
+import com.lta.springboot.student_management.domain.dto.request.StudentBulkPatchRequestDTO;
+import com.lta.springboot.student_management.domain.dto.request.StudentRequestDTO;
+import com.lta.springboot.student_management.domain.dto.request.StudentSearchCriteriaDTO;
+import com.lta.springboot.student_management.domain.dto.response.ApiResponseDTO;
+import com.lta.springboot.student_management.domain.dto.response.CursorPageResponseDTO;
+import com.lta.springboot.student_management.domain.dto.response.StudentBulkResultDTO;
+import com.lta.springboot.student_management.domain.dto.response.StudentResponseDTO;
+import com.lta.springboot.student_management.domain.dto.response.StudentSyncPageResponseDTO;
+import com.lta.springboot.student_management.exception.BadRequestException;
+import com.lta.springboot.student_management.repository.TableVersion;
+import com.lta.springboot.student_management.service.interfaces.IStudentService;
+import com.lta.springboot.student_management.service.interfaces.IStudentSyncService;
+import com.lta.springboot.student_management.service.interfaces.ITableVersionService;
+import com.lta.springboot.student_management.util.FieldProjection;
+import com.lta.springboot.student_management.util.HttpCacheUtils;
+import io.micrometer.core.annotation.Timed;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import tools.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * API REST (JSON) de estudiantes. Expone las mismas operaciones que {@link StudentController}
+ * sin renderizar vistas ni redirigir, envolviendo cada respuesta en {@link ApiResponseDTO}.
+ * Los errores se resuelven en {@code GlobalExceptionHandler}.
+ * <p>
+ * Las consultas aceptan {@code fields} para retornar solo algunos campos del estudiante,
+ * por ejemplo {@code ?fields=idStudent,email}.
+ * <p>
+ * Las lecturas responden con ETag y Last-Modified; con If-None-Match o If-Modified-Since vigentes
+ * se retorna 304 sin consultar ni serializar los datos.
+ * <p>
+ * Por defecto solo se consultan los estudiantes vigentes; con {@code includeArchived=true} el listado
+ * y la consulta por ID incluyen también los archivados.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/students")
+@Timed(value = "students.api", description = "Latencia de los endpoints REST de estudiantes")
+public class StudentRestController {
+
+    private final IStudentService iStudentService;
+    private final ITableVersionService iTableVersionService;
+    private final IStudentSyncService iStudentSyncService;
+    private final StudentPageProperties studentPageProperties;
+    private final ObjectMapper objectMapper;
+
+    public StudentRestController(IStudentService studentService, ITableVersionService tableVersionService,
+                                 IStudentSyncService studentSyncService, StudentPageProperties studentPageProperties,
+                                 ObjectMapper objectMapper) {
+        this.iStudentService = studentService;
+        this.iTableVersionService = tableVersionService;
+        this.iStudentSyncService = studentSyncService;
+        this.studentPageProperties = studentPageProperties;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Lista estudiantes paginando por cursor, opcionalmente filtrados.
+     *
+     * @param criteria filtros de búsqueda (opcionales)
+     * @param after    cursor para la página siguiente (opcional)
+     * @param before   cursor para la página anterior (opcional)
+     * @param size     tamaño de página solicitado (opcional)
+     * @param fields          campos a incluir de cada estudiante (opcional)
+     * @param includeArchived incluir estudiantes archivados (no se combina con filtros de búsqueda)
+     * @param request         petición HTTP
+     * @param webRequest      petición, para evaluar If-None-Match/If-Modified-Since
+     * @return página de estudiantes, o 304 si el cliente ya tiene la versión actual
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponseDTO<CursorPageResponseDTO<?>>> listStudents(StudentSearchCriteriaDTO criteria,
+                                                                                 @RequestParam(required = false) Long after,
+                                                                                 @RequestParam(required = false) Long before,
+                                                                                 @RequestParam(required = false) Integer size,
+                                                                                 @RequestParam(required = false) String fields,
+                                                                                 @RequestParam(defaultValue = "false") boolean includeArchived,
+                                                                                 HttpServletRequest request,
+                                                                                 WebRequest webRequest) {
+        Set<String> projection = FieldProjection.parse(fields, StudentResponseDTO.class);
+        if (includeArchived && criteria.hasFilters()) {
+            throw new BadRequestException("La búsqueda por filtros solo aplica a estudiantes vigentes");
+        }
+        // La versión se lee antes que los datos: si cambia entre ambas lecturas, el ETag queda
+        // desactualizado y el cliente vuelve a descargar la lista en la siguiente petición
+        Optional<TableVersion> version = iTableVersionService.findStudentsVersion();
+        if (version.isPresent() && webRequest.checkNotModified(
+                HttpCacheUtils.listETag(includeArchived ? "students-all-json" : "students-json", version.get()),
+                HttpCacheUtils.toEpochMilli(version.get().updatedAt()))) {
+            return null;
+        }
+        int pageSize = studentPageProperties.resolveSize(size);
+        CursorPageResponseDTO<StudentResponseDTO> page = criteria.hasFilters()
+                ? iStudentService.searchStudents(criteria, after, before, pageSize)
+                : iStudentService.findStudentsPage(after, before, pageSize, includeArchived);
+
+        CursorPageResponseDTO<?> body = projection.isEmpty()
+                ? page
+                : page.map(student -> FieldProjection.project(objectMapper, student, projection));
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(success("Estudiantes obtenidos exitosamente", body, request));
+    }
+
+    /**
+     * Obtiene un estudiante por su ID.
+     *
+     * @param id      identificador del estudiante
+     * @param fields          campos a incluir (opcional)
+     * @param includeArchived buscar también entre los estudiantes archivados
+     * @param request         petición HTTP
+     * @param webRequest      petición, para evaluar If-None-Match/If-Modified-Since
+     * @return estudiante encontrado, o 304 si el cliente ya tiene la versión actual
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<ApiResponseDTO<Object>> getStudent(@PathVariable Long id,
+                                                             @RequestParam(required = false) String fields,
+                                                             @RequestParam(defaultValue = "false") boolean includeArchived,
+                                                             HttpServletRequest request,
+                                                             WebRequest webRequest) {
+        Set<String> projection = FieldProjection.parse(fields, StudentResponseDTO.class);
+        StudentResponseDTO student = includeArchived
+                ? iStudentService.findStudentIncludingArchived(id)
+                : iStudentService.findStudentById(id);
+        if (webRequest.checkNotModified(HttpCacheUtils.studentETag(includeArchived ? "student-all-json" : "student-json", student),
+                HttpCacheUtils.toEpochMilli(HttpCacheUtils.lastModified(student)))) {
+            return null;
+        }
+        Object body = projection.isEmpty() ? student : FieldProjection.project(objectMapper, student, projection);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(success("Estudiante obtenido exitosamente", body, request));
+    }
+
+    /**
+     * Sincronización incremental: estudiantes creados, modificados y eliminados después del cursor.
+     * La primera vez se llama sin parámetros (sincronización completa); luego se envían {@code nextSince}
+     * y {@code nextAfterId} de la respuesta anterior hasta que {@code hasMore} sea false, y se guardan
+     * para la próxima sincronización. Si la respuesta trae {@code reset}, el cursor es más antiguo que la
+     * retención de eliminaciones: se descarta la copia local y se vuelve a sincronizar sin cursor.
+     *
+     * @param since   fecha del cursor en ISO-8601, por ejemplo {@code 2026-10-18T10:15:30.123456} (opcional)
+     * @param afterId ID del cursor (opcional)
+     * @param size    tamaño de página solicitado (opcional)
+     * @param request petición HTTP
+     * @return página de cambios con el cursor siguiente
+     */
+    @GetMapping("/sync")
+    public ResponseEntity<ApiResponseDTO<StudentSyncPageResponseDTO>> syncStudents(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(required = false) Integer size,
+            HttpServletRequest request) {
+        StudentSyncPageResponseDTO page = iStudentSyncService.findChanges(since, afterId, size);
+        return ResponseEntity.ok(success("Cambios de estudiantes obtenidos exitosamente", page, request));
+    }
+
+    /**
+     * Crea un estudiante.
+     *
+     * @param studentRequestDTO datos del estudiante (validados con @Valid)
+     * @param request           petición HTTP
+     * @return 201 con el estudiante creado y su ubicación
+     */
+    @PostMapping
+    public ResponseEntity<ApiResponseDTO<StudentResponseDTO>> createStudent(
+            @Valid @RequestBody StudentRequestDTO studentRequestDTO, HttpServletRequest request) {
+        StudentResponseDTO created = iStudentService.createStudent(studentRequestDTO);
+        log.info("Estudiante creado vía API con ID: {}", created.idStudent());
+        URI location = ServletUriComponentsBuilder.fromCurrentRequest()
+                .path("/{id}")
+                .buildAndExpand(created.idStudent())
+                .toUri();
+        return ResponseEntity.created(location)
+                .body(success("Estudiante creado exitosamente", created, request));
+    }
+
+    /**
+     * Actualiza un estudiante.
+     *
+     * @param id                identificador del estudiante
+     * @param studentRequestDTO datos actualizados (validados con @Valid)
+     * @param request           petición HTTP
+     * @return estudiante actualizado
+     */
+    @PutMapping("/{id}")
+    public ResponseEntity<ApiResponseDTO<StudentResponseDTO>> updateStudent(
+            @PathVariable Long id, @Valid @RequestBody StudentRequestDTO studentRequestDTO,
+            HttpServletRequest request) {
+        StudentResponseDTO updated = iStudentService.updateStudent(id, studentRequestDTO);
+        return ResponseEntity.ok(success("Estudiante actualizado exitosamente", updated, request));
+    }
+
+    /**
+     * Elimina un estudiante.
+     *
+     * @param id      identificador del estudiante
+     * @param request petición HTTP
+     * @return datos del estudiante eliminado
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<ApiResponseDTO<StudentResponseDTO>> deleteStudent(@PathVariable Long id,
+                                                                            HttpServletRequest request) {
+        StudentResponseDTO deleted = iStudentService.deleteStudentById(id);
+        return ResponseEntity.ok(success("Estudiante eliminado exitosamente", deleted, request));
+    }
+
+    /**
+     * Restaura un estudiante eliminado que aún no fue purgado.
+     *
+     * @param id      identificador del estudiante
+     * @param request petición HTTP
+     * @return estudiante restaurado
+     */
+    @PostMapping("/{id}/restore")
+    public ResponseEntity<ApiResponseDTO<StudentResponseDTO>> restoreStudent(@PathVariable Long id,
+                                                                             HttpServletRequest request) {
+        StudentResponseDTO restored = iStudentService.restoreStudent(id);
+        return ResponseEntity.ok(success("Estudiante restaurado exitosamente", restored, request));
+    }
+
+    /**
+     * Elimina en bloque los estudiantes indicados.
+     *
+     * @param bulkDeleteRequest IDs a eliminar
+     * @param request           petición HTTP
+     * @return resultado por estudiante
+     */
+    @PostMapping("/bulk-delete")
+    public ResponseEntity<ApiResponseDTO<StudentBulkResultDTO>> deleteStudents(
+            @Valid @RequestBody StudentBulkDeleteRequestDTO bulkDeleteRequest, HttpServletRequest request) {
+        StudentBulkResultDTO result = iStudentService.deleteStudents(bulkDeleteRequest.getIds());
+        return ResponseEntity.ok(success("Eliminación masiva finalizada", result, request));
+    }
+
+    /**
+     * Modifica en bloque nombre y/o apellido de los estudiantes indicados por IDs o por filtro.
+     *
+     * @param patch   estudiantes a modificar y valores nuevos
+     * @param request petición HTTP
+     * @return resultado por estudiante
+     */
+    @PatchMapping
+    public ResponseEntity<ApiResponseDTO<StudentBulkResultDTO>> patchStudents(
+            @Valid @RequestBody StudentBulkPatchRequestDTO patch, HttpServletRequest request) {
+        StudentBulkResultDTO result = iStudentService.patchStudents(patch);
+        return ResponseEntity.ok(success("Modificación masiva finalizada", result, request));
+    }
+
+    private <T> ApiResponseDTO<T> success(String message, T data, HttpServletRequest request) {
+        return ApiResponseDTO.<T>builder()
+                .success(true)
+                .message(message)
+                .data(data)
+                .timestamp(LocalDateTime.now())
+                .path(request.getRequestURI())
+                .build();
+    }
+}
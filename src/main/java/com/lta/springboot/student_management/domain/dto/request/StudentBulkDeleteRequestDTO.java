@@ -0,0 +1,23 @@
+package com.lta.springboot.student_management.domain.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.util.List;
+
+/**
+ * DTO con los IDs de los estudiantes a eliminar en una operación masiva.
+ */
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class StudentBulkDeleteRequestDTO {
+
+    @NotEmpty(message = "Debe indicar al menos un estudiante.")
+    List<Long> ids;
+}
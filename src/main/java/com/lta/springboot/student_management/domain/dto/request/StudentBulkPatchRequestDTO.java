@@ -0,0 +1,54 @@
+package com.lta.springboot.student_management.domain.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.util.List;
+
+/**
+ * DTO para modificar en bloque un conjunto de estudiantes, indicado por IDs o por filtro de búsqueda.
+ * Solo se modifican los campos enviados; el email no se puede modificar en bloque por ser único.
+ */
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class StudentBulkPatchRequestDTO {
+
+    List<Long> ids;
+
+    @Valid
+    StudentSearchCriteriaDTO filter;
+
+    @Size(
+            min = 2,
+            max = 50,
+            message = "El nombre debe tener entre 2 y 50 caracteres."
+    )
+    String name;
+
+    @Size(
+            min = 2,
+            max = 50,
+            message = "El apellido debe tener entre 2 y 50 caracteres."
+    )
+    String lastname;
+
+    @AssertTrue(message = "Debe indicar los IDs o un filtro con al menos un criterio, pero no ambos.")
+    public boolean isTargetValid() {
+        boolean hasIds = ids != null && !ids.isEmpty();
+        boolean hasFilter = filter != null && filter.hasFilters();
+        return hasIds != hasFilter;
+    }
+
+    @AssertTrue(message = "Debe indicar al menos un campo a modificar.")
+    public boolean isPatchPresent() {
+        return name != null || lastname != null;
+    }
+}
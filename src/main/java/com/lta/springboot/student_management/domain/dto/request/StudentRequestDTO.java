@@ -42,4 +42,10 @@ public class StudentRequestDTO {
             regexp = "^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$"
     )
     String email;
+
+    /**
+     * Versión del estudiante que el cliente leyó antes de editarlo. Obligatoria al actualizar,
+     * se ignora al crear.
+     */
+    Long version;
 }
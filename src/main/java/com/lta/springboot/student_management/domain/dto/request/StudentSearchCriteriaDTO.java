@@ -0,0 +1,54 @@
+package com.lta.springboot.student_management.domain.dto.request;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/**
+ * DTO con los filtros de búsqueda de estudiantes. Los filtros de texto
+ * buscan por prefijo sin distinguir mayúsculas; los de fecha son rangos inclusivos.
+ * Todos los filtros son opcionales y se combinan con AND.
+ */
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class StudentSearchCriteriaDTO {
+
+    String name;
+
+    String lastname;
+
+    String email;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    LocalDate createdFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    LocalDate createdTo;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    LocalDate updatedFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    LocalDate updatedTo;
+
+    /**
+     * Indica si se definió al menos un filtro.
+     *
+     * @return true si hay algún filtro con valor
+     */
+    public boolean hasFilters() {
+        return hasText(name) || hasText(lastname) || hasText(email)
+                || createdFrom != null || createdTo != null || updatedFrom != null || updatedTo != null;
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+}
@@ -0,0 +1,36 @@
+package com.lta.springboot.student_management.domain.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.Builder;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * DTO de respuesta para resultados paginados por cursor (keyset).
+ * Los cursores corresponden al ID del primer y último elemento de la página.
+ *
+ * @param <T> tipo de los elementos de la página
+ */
+@Builder
+@JsonPropertyOrder({"content", "size", "hasPrevious", "previousCursor", "hasNext", "nextCursor"})
+public record CursorPageResponseDTO<T>(
+        List<T> content,
+        int size,
+        boolean hasPrevious,
+        Long previousCursor,
+        boolean hasNext,
+        Long nextCursor) {
+
+    /**
+     * Transforma el contenido de la página conservando tamaño y cursores.
+     *
+     * @param mapper transformación de cada elemento
+     * @param <R>    tipo de los elementos resultantes
+     * @return nueva página con el contenido transformado
+     */
+    public <R> CursorPageResponseDTO<R> map(Function<? super T, ? extends R> mapper) {
+        return new CursorPageResponseDTO<>(content.stream().<R>map(mapper).toList(), size,
+                hasPrevious, previousCursor, hasNext, nextCursor);
+    }
+}
@@ -0,0 +1,14 @@
+package com.lta.springboot.student_management.domain.dto.response;
+
+import com.lta.springboot.student_management.domain.enums.StudentBulkStatus;
+
+/**
+ * Resultado de una operación masiva para un estudiante.
+ *
+ * @param idStudent identificador solicitado
+ * @param status    resultado de la operación
+ */
+public record StudentBulkOutcomeDTO(
+        Long idStudent,
+        StudentBulkStatus status) {
+}
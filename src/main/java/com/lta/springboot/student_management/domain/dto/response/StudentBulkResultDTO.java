@@ -0,0 +1,19 @@
+package com.lta.springboot.student_management.domain.dto.response;
+
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * DTO con el resumen de una operación masiva de estudiantes.
+ *
+ * @param requested número de estudiantes distintos solicitados
+ * @param affected  número de estudiantes modificados o eliminados
+ * @param outcomes  resultado por estudiante, en el orden solicitado
+ */
+@Builder
+public record StudentBulkResultDTO(
+        int requested,
+        int affected,
+        List<StudentBulkOutcomeDTO> outcomes) {
+}
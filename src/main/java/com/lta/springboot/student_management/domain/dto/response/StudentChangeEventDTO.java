@@ -0,0 +1,22 @@
+package com.lta.springboot.student_management.domain.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.lta.springboot.student_management.domain.enums.StudentChangeType;
+
+import java.time.LocalDateTime;
+
+/**
+ * Cambio publicado en el feed de estudiantes.
+ *
+ * @param id         offset del cambio en el feed (creciente, en orden de commit)
+ * @param type       tipo de cambio
+ * @param idStudent  estudiante afectado
+ * @param occurredAt momento del cambio
+ */
+public record StudentChangeEventDTO(
+        long id,
+        StudentChangeType type,
+        Long idStudent,
+        @JsonFormat(pattern = "dd/MM/yyyy HH:mm:ss")
+        LocalDateTime occurredAt) {
+}
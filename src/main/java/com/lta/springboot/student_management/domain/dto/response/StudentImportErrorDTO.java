@@ -0,0 +1,19 @@
+package com.lta.springboot.student_management.domain.dto.response;
+
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * DTO con el detalle de una fila rechazada durante la importación masiva.
+ *
+ * @param rowNumber número de fila en el archivo (la cabecera CSV no cuenta)
+ * @param email     email de la fila, si pudo leerse
+ * @param messages  motivos del rechazo
+ */
+@Builder
+public record StudentImportErrorDTO(
+        long rowNumber,
+        String email,
+        List<String> messages) {
+}
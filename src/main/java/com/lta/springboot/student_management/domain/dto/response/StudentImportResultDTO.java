@@ -0,0 +1,25 @@
+package com.lta.springboot.student_management.domain.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * DTO con el resumen de una importación masiva de estudiantes.
+ *
+ * @param totalRows       filas de datos leídas del archivo
+ * @param importedRows    filas insertadas
+ * @param rejectedRows    filas rechazadas (inválidas o con email duplicado)
+ * @param errors          detalle de las filas rechazadas (limitado por configuración)
+ * @param errorsTruncated indica si se omitieron errores por superar el límite
+ */
+@Builder
+@JsonPropertyOrder({"totalRows", "importedRows", "rejectedRows", "errorsTruncated", "errors"})
+public record StudentImportResultDTO(
+        long totalRows,
+        long importedRows,
+        long rejectedRows,
+        List<StudentImportErrorDTO> errors,
+        boolean errorsTruncated) {
+}
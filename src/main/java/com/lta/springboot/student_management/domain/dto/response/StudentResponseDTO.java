@@ -1,6 +1,7 @@
 package com.lta.springboot.student_management.domain.dto.response;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import lombok.Builder;
 
@@ -9,9 +10,10 @@ import java.time.LocalDateTime;
 /**
  * DTO de respuesta para exponer información de estudiantes
  * al cliente o capa de presentación. Inmutable y serializable.
+ * {@code archivedAt} solo se informa para estudiantes archivados.
  */
 @Builder
-@JsonPropertyOrder({"idStudent", "name", "lastname", "email", "createdAt", "updateAt"})
+@JsonPropertyOrder({"idStudent", "name", "lastname", "email", "createdAt", "updatedAt", "version", "archivedAt"})
 public record StudentResponseDTO(
         Long idStudent,
         String name,
@@ -20,5 +22,18 @@ public record StudentResponseDTO(
         @JsonFormat(pattern = "dd/MM/yyyy HH:mm:ss")
         LocalDateTime createdAt,
         @JsonFormat(pattern = "dd/MM/yyyy HH:mm:ss")
-        LocalDateTime updatedAt) {
+        LocalDateTime updatedAt,
+        Long version,
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        @JsonFormat(pattern = "dd/MM/yyyy HH:mm:ss")
+        LocalDateTime archivedAt) {
+
+    /**
+     * Estudiante vigente (sin fecha de archivo). Lo usan el mapper y las consultas con expresión
+     * constructora de {@code StudentRepository}.
+     */
+    public StudentResponseDTO(Long idStudent, String name, String lastname, String email, LocalDateTime createdAt,
+                              LocalDateTime updatedAt, Long version) {
+        this(idStudent, name, lastname, email, createdAt, updatedAt, version, null);
+    }
 }
@@ -0,0 +1,35 @@
+package com.lta.springboot.student_management.domain.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO de respuesta de la sincronización incremental de estudiantes. Para la página siguiente (o la próxima
+ * sincronización, cuando {@code hasMore} es false) se envían {@code nextSince} y {@code nextAfterId}.
+ * Las fechas del cursor se serializan en ISO-8601 con toda su precisión.
+ * <p>
+ * Si {@code reset} es true el cursor es anterior a la retención de eliminaciones: el cliente debe descartar su
+ * copia y sincronizar desde el principio (sin cursor), porque ya no se pueden informar todas las eliminaciones.
+ *
+ * @param changed     estudiantes creados o modificados, en orden de cursor
+ * @param deleted     IDs de estudiantes eliminados
+ * @param hasMore     true si hay más cambios después de esta página
+ * @param nextSince   fecha del cursor a enviar en la siguiente petición (null si aún no hay cambios)
+ * @param nextAfterId ID del cursor a enviar en la siguiente petición
+ * @param syncedUntil fecha hasta la cual se informaron cambios (momento actual menos el margen de seguridad)
+ * @param reset       true si se requiere una sincronización completa; la página no trae cambios
+ */
+@Builder
+@JsonPropertyOrder({"reset", "changed", "deleted", "hasMore", "nextSince", "nextAfterId", "syncedUntil"})
+public record StudentSyncPageResponseDTO(
+        List<StudentResponseDTO> changed,
+        List<Long> deleted,
+        boolean hasMore,
+        LocalDateTime nextSince,
+        Long nextAfterId,
+        LocalDateTime syncedUntil,
+        boolean reset) {
+}
@@ -0,0 +1,57 @@
+package com.lta.springboot.student_management.domain.entity;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Estudiante inactivo movido a la tabla {@code students_archive}. Es de solo lectura: las filas las escribe
+ * el job de archivo con SQL nativo y conservan el ID que tenían en {@code students}.
+ */
+@Getter
+@Entity
+@Immutable
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "students_archive")
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class ArchivedStudent {
+
+    @Id
+    @Column(name = "id_student")
+    @EqualsAndHashCode.Include
+    Long idStudent;
+
+    @Column(nullable = false, length = 50)
+    String name;
+
+    @Column(name = "last_name", nullable = false, length = 50)
+    String lastname;
+
+    @Column(nullable = false, length = 50)
+    String email;
+
+    @Column(name = "created_at", nullable = false)
+    @JsonFormat(pattern = "dd/MM/yyyy HH:mm:ss")
+    LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    @JsonFormat(pattern = "dd/MM/yyyy HH:mm:ss")
+    LocalDateTime updatedAt;
+
+    @Column(nullable = false)
+    Long version;
+
+    @Column(name = "archived_at", nullable = false)
+    @JsonFormat(pattern = "dd/MM/yyyy HH:mm:ss")
+    LocalDateTime archivedAt;
+}
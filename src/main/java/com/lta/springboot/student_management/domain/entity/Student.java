@@ -4,8 +4,7 @@ import com.fasterxml.jackson.annotation.JsonFormat;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.FieldDefaults;
-import org.hibernate.annotations.CreationTimestamp;
-import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.time.LocalDateTime;
 
@@ -16,13 +15,21 @@ import java.time.LocalDateTime;
 @ToString
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "students")
+// Respaldo para las bases creadas solo por Hibernate (sin db/schema-postgresql.sql, como el perfil benchmark):
+// un índice único completo. Donde el script ya creó el índice parcial con este nombre, Hibernate no lo toca
+@Table(name = "students", indexes = @Index(name = "uq_students_email_active", columnList = "email", unique = true))
+// Eliminación lógica: las consultas de la entidad (incluido findById) solo ven estudiantes vigentes
+@SQLRestriction("deleted_at IS NULL")
 @FieldDefaults(level = AccessLevel.PRIVATE)
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 public class Student {
 
+    // Secuencia con asignación en bloques (pooled): permite inserts por lotes JDBC,
+    // a diferencia de IDENTITY que obliga a un INSERT individual por fila. El incremento de la secuencia debe ser
+    // igual a allocationSize: db/schema-postgresql.sql lo ajusta al arrancar en bases creadas con SERIAL.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "students_seq")
+    @SequenceGenerator(name = "students_seq", sequenceName = "students_id_student_seq", allocationSize = 50)
     @Column(name = "id_student")
     @EqualsAndHashCode.Include
     Long idStudent;
@@ -33,19 +40,32 @@ public class Student {
     @Column(name = "last_name", nullable = false, length = 50)
     String lastname;
 
-    @Column(nullable = false, length = 50, unique = true)
+    // Único solo entre estudiantes vigentes: índice único parcial uq_students_email_active (db/schema-postgresql.sql)
+    @Column(nullable = false, length = 50)
     String email;
 
-    @CreationTimestamp
+    // Las fechas salen del reloj de la base de datos (ver markCreated); las sentencias de actualización usan
+    // LOCALTIMESTAMP y los tombstones clock_timestamp(), así el cursor de sincronización no mezcla relojes
     @Column(name = "created_at", nullable = false, updatable = false)
     @JsonFormat(pattern = "dd/MM/yyyy HH:mm:ss")
     LocalDateTime createdAt;
 
-    @UpdateTimestamp
-    @Column(name = "updated_at")
+    // Se asigna también al insertar: junto con idStudent forma el cursor de la sincronización incremental
+    @Column(name = "updated_at", nullable = false)
     @JsonFormat(pattern = "dd/MM/yyyy HH:mm:ss")
     LocalDateTime updatedAt;
 
+    // Bloqueo optimista: se incrementa en cada actualización y las actualizaciones solo se aplican
+    // si la versión leída sigue vigente
+    @Version
+    @Column(nullable = false)
+    Long version;
+
+    // Fecha de eliminación lógica; null mientras el estudiante está vigente
+    @Column(name = "deleted_at")
+    @JsonFormat(pattern = "dd/MM/yyyy HH:mm:ss")
+    LocalDateTime deletedAt;
+
 
     public Student(String name, String lastName, String email) {
         this.name = name;
@@ -53,4 +73,17 @@ public class Student {
         this.email = email;
     }
 
+    /**
+     * Asigna las fechas de creación y actualización de un estudiante nuevo. {@code now} debe ser la hora de la
+     * base de datos ({@code StudentRepository#currentTimestamp()}), no la de la JVM: se asigna aquí y no con
+     * {@code @CreationTimestamp(source = DB)} porque esa opción relee cada fila con RETURNING y desactiva los
+     * inserts por lotes JDBC de la importación.
+     *
+     * @param now fecha y hora actual de la base de datos
+     */
+    public void markCreated(LocalDateTime now) {
+        this.createdAt = now;
+        this.updatedAt = now;
+    }
+
 }
@@ -0,0 +1,10 @@
+package com.lta.springboot.student_management.domain.enums;
+
+/**
+ * Resultado de una operación masiva para cada estudiante solicitado.
+ */
+public enum StudentBulkStatus {
+    UPDATED,
+    DELETED,
+    NOT_FOUND
+}
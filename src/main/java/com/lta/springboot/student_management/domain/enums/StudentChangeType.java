@@ -0,0 +1,19 @@
+package com.lta.springboot.student_management.domain.enums;
+
+/**
+ * Tipos de cambio que puede sufrir un estudiante.
+ */
+public enum StudentChangeType {
+    CREATED,
+    UPDATED,
+    DELETED,
+    RESTORED,
+    ARCHIVED;
+
+    /**
+     * Acción registrada en la tabla {@code logs}, por ejemplo {@code STUDENT_CREATED}.
+     */
+    public String auditAction() {
+        return "STUDENT_" + name();
+    }
+}
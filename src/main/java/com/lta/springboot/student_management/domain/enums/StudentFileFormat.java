@@ -0,0 +1,51 @@
+package com.lta.springboot.student_management.domain.enums;
+
+import java.util.Locale;
+
+/**
+ * Formatos de archivo soportados para importar y exportar estudiantes.
+ */
+public enum StudentFileFormat {
+
+    /**
+     * Valores separados por coma con cabecera {@code name,lastname,email}.
+     */
+    CSV("text/csv", ".csv"),
+
+    /**
+     * Un objeto JSON por línea (JSON Lines).
+     */
+    JSONL("application/x-ndjson", ".jsonl");
+
+    private final String contentType;
+    private final String extension;
+
+    StudentFileFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Deduce el formato a partir del nombre de archivo. Por defecto se asume CSV.
+     *
+     * @param filename nombre del archivo subido (puede ser null)
+     * @return formato correspondiente a la extensión
+     */
+    public static StudentFileFormat fromFilename(String filename) {
+        if (filename != null) {
+            String lower = filename.toLowerCase(Locale.ROOT);
+            if (lower.endsWith(".jsonl") || lower.endsWith(".ndjson") || lower.endsWith(".json")) {
+                return JSONL;
+            }
+        }
+        return CSV;
+    }
+}
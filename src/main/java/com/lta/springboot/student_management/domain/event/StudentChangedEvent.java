@@ -0,0 +1,19 @@
+package com.lta.springboot.student_management.domain.event;
+
+import com.lta.springboot.student_management.domain.enums.StudentChangeType;
+
+import java.time.LocalDateTime;
+
+/**
+ * Evento publicado por el servicio de estudiantes cada vez que se crea, actualiza o elimina un estudiante.
+ *
+ * @param type       tipo de cambio
+ * @param idStudent  identificador del estudiante afectado
+ * @param occurredAt momento en que se realizó el cambio
+ */
+public record StudentChangedEvent(StudentChangeType type, Long idStudent, LocalDateTime occurredAt) {
+
+    public static StudentChangedEvent of(StudentChangeType type, Long idStudent) {
+        return new StudentChangedEvent(type, idStudent, LocalDateTime.now());
+    }
+}
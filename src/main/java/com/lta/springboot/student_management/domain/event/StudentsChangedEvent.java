@@ -0,0 +1,33 @@
+package com.lta.springboot.student_management.domain.event;
+
+import com.lta.springboot.student_management.domain.enums.StudentChangeType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Evento publicado por las operaciones masivas (modificación y eliminación en bloque, cada lote de una
+ * importación o del archivo) con todos los estudiantes afectados por un mismo cambio, en lugar de un
+ * {@link StudentChangedEvent} por estudiante.
+ *
+ * @param type       tipo de cambio
+ * @param idStudents identificadores de los estudiantes afectados
+ * @param occurredAt momento en que se realizó el cambio
+ */
+public record StudentsChangedEvent(StudentChangeType type, List<Long> idStudents, LocalDateTime occurredAt) {
+
+    public StudentsChangedEvent {
+        idStudents = List.copyOf(idStudents);
+    }
+
+    public static StudentsChangedEvent of(StudentChangeType type, List<Long> idStudents) {
+        return new StudentsChangedEvent(type, idStudents, LocalDateTime.now());
+    }
+
+    /**
+     * @return el cambio de cada estudiante, con la fecha del evento
+     */
+    public List<StudentChangedEvent> changes() {
+        return idStudents.stream().map(id -> new StudentChangedEvent(type, id, occurredAt)).toList();
+    }
+}
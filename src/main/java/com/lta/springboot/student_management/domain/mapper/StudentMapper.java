@@ -2,15 +2,21 @@ package com.lta.springboot.student_management.domain.mapper;
 
 import com.lta.springboot.student_management.domain.dto.request.StudentRequestDTO;
 import com.lta.springboot.student_management.domain.dto.response.StudentResponseDTO;
+import com.lta.springboot.student_management.domain.entity.ArchivedStudent;
 import com.lta.springboot.student_management.domain.entity.Student;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
 /**
  * Componente encargado de convertir la entidad {@link Student}
  * a suo DTO {@link StudentResponseDTO} asociado.
+ * <p>
+ * Los DTOs se construyen con el constructor del record (sin builder intermedio) y las listas se crean
+ * con su tamaño final, ya que esta conversión se ejecuta por cada fila de cada listado. Para listados
+ * de solo lectura {@code StudentRepository} ofrece además consultas que proyectan directamente a DTO.
  */
 @Component
 public class StudentMapper {
@@ -28,14 +34,23 @@ public class StudentMapper {
         if (student == null) {
             return null;
         }
-        return StudentResponseDTO.builder()
-                .idStudent(student.getIdStudent())
-                .name(student.getName())
-                .lastname(student.getLastname())
-                .email(student.getEmail())
-                .createdAt(student.getCreatedAt())
-                .updatedAt(student.getUpdatedAt())
-                .build();
+        return new StudentResponseDTO(student.getIdStudent(), student.getName(), student.getLastname(),
+                student.getEmail(), student.getCreatedAt(), student.getUpdatedAt(), student.getVersion());
+    }
+
+    /**
+     * Convierte un {@link ArchivedStudent} a {@link StudentResponseDTO}, incluyendo la fecha de archivo.
+     *
+     * @param archivedStudent la entidad ArchivedStudent a convertir.
+     * @return StudentResponseDTO resultante o null si la entrada es null.
+     */
+    public StudentResponseDTO toArchivedStudentResponseDTO(ArchivedStudent archivedStudent) {
+        if (archivedStudent == null) {
+            return null;
+        }
+        return new StudentResponseDTO(archivedStudent.getIdStudent(), archivedStudent.getName(),
+                archivedStudent.getLastname(), archivedStudent.getEmail(), archivedStudent.getCreatedAt(),
+                archivedStudent.getUpdatedAt(), archivedStudent.getVersion(), archivedStudent.getArchivedAt());
     }
 
     /**
@@ -48,9 +63,11 @@ public class StudentMapper {
         if (studentList == null || studentList.isEmpty()) {
             return Collections.emptyList();
         }
-        return studentList.stream()
-                .map(this::toStudentResponseDTO)
-                .toList();
+        List<StudentResponseDTO> responses = new ArrayList<>(studentList.size());
+        for (Student student : studentList) {
+            responses.add(toStudentResponseDTO(student));
+        }
+        return responses;
     }
 
 
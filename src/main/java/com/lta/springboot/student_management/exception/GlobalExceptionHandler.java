@@ -3,13 +3,20 @@ package com.lta.springboot.student_management.exception;
 import com.lta.springboot.student_management.domain.dto.response.ApiResponseDTO;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
+import static com.lta.springboot.student_management.util.Constants.BAD_REQUEST;
+import static com.lta.springboot.student_management.util.Constants.CONFLICT;
 import static com.lta.springboot.student_management.util.Constants.INTERNAL_SERVER_ERROR;
 
 /**
@@ -38,6 +45,63 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(ex.getStatus()).body(response);
     }
 
+    /**
+     * Maneja errores de Bean Validation en cuerpos JSON ({@code @Valid @RequestBody}).
+     * Retorna en {@code data} un mensaje por cada campo inválido.
+     */
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<ApiResponseDTO<List<String>>> handleValidationException(MethodArgumentNotValidException ex,
+                                                                                  HttpServletRequest request) {
+        List<String> details = ex.getBindingResult().getFieldErrors().stream()
+                .map(error -> error.getField() + ": " + error.getDefaultMessage())
+                .toList();
+        log.warn("Error de validación: {}", details);
+
+        ApiResponseDTO<List<String>> response = ApiResponseDTO.<List<String>>builder()
+                .success(false)
+                .message("La solicitud contiene datos inválidos.")
+                .errorCode(BAD_REQUEST)
+                .data(details)
+                .timestamp(LocalDateTime.now())
+                .path(request.getRequestURI())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    }
+
+    /**
+     * Maneja cuerpos JSON ausentes o mal formados.
+     */
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<ApiResponseDTO<Void>> handleNotReadableException(HttpMessageNotReadableException ex,
+                                                                           HttpServletRequest request) {
+        log.warn("Cuerpo de la solicitud inválido: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(error("El cuerpo de la solicitud no es un JSON válido.", BAD_REQUEST, request));
+    }
+
+    /**
+     * Maneja parámetros de la URL con un valor que no se puede convertir al tipo esperado, como {@code ?after=abc}.
+     */
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ApiResponseDTO<Void>> handleTypeMismatchException(MethodArgumentTypeMismatchException ex,
+                                                                            HttpServletRequest request) {
+        log.warn("Parámetro inválido: {}={}", ex.getName(), ex.getValue());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(error("El parámetro '" + ex.getName() + "' tiene un valor inválido.", BAD_REQUEST, request));
+    }
+
+    /**
+     * Maneja violaciones de restricciones de la base de datos, como un email duplicado.
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ApiResponseDTO<Void>> handleDataIntegrityViolation(DataIntegrityViolationException ex,
+                                                                             HttpServletRequest request) {
+        log.warn("Violación de integridad de datos: {}", ex.getMostSpecificCause().getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(error("Los datos entran en conflicto con un registro existente.", CONFLICT, request));
+    }
+
     /**
      * Maneja errores no controlados (genéricos).
      */
@@ -56,5 +120,15 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
     }
 
+    private ApiResponseDTO<Void> error(String message, String errorCode, HttpServletRequest request) {
+        return ApiResponseDTO.<Void>builder()
+                .success(false)
+                .message(message)
+                .errorCode(errorCode)
+                .timestamp(LocalDateTime.now())
+                .path(request.getRequestURI())
+                .build();
+    }
+
 
 }
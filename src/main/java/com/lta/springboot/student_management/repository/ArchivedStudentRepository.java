@@ -0,0 +1,30 @@
+package com.lta.springboot.student_management.repository;
+
+import com.lta.springboot.student_management.domain.entity.ArchivedStudent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ArchivedStudentRepository extends JpaRepository<ArchivedStudent, Long> {
+
+    /**
+     * Obtiene la siguiente página (keyset) de estudiantes archivados con ID mayor al cursor.
+     *
+     * @param idStudent cursor: ID del último estudiante de la página anterior
+     * @param limit     número máximo de filas a retornar
+     * @return estudiantes archivados ordenados por ID ascendente
+     */
+    List<ArchivedStudent> findByIdStudentGreaterThanOrderByIdStudentAsc(Long idStudent, Limit limit);
+
+    /**
+     * Obtiene la página anterior (keyset) de estudiantes archivados con ID menor al cursor.
+     *
+     * @param idStudent cursor: ID del primer estudiante de la página actual
+     * @param limit     número máximo de filas a retornar
+     * @return estudiantes archivados ordenados por ID descendente
+     */
+    List<ArchivedStudent> findByIdStudentLessThanOrderByIdStudentDesc(Long idStudent, Limit limit);
+}
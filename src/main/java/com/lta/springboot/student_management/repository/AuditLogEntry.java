@@ -0,0 +1,14 @@
+package com.lta.springboot.student_management.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Fila de la tabla {@code logs}.
+ *
+ * @param action    acción auditada, por ejemplo {@code STUDENT_CREATED}
+ * @param entity    entidad afectada
+ * @param entityId  identificador de la entidad afectada
+ * @param timestamp momento de la acción
+ */
+public record AuditLogEntry(String action, String entity, Long entityId, LocalDateTime timestamp) {
+}
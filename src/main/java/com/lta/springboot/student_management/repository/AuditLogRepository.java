@@ -0,0 +1,51 @@
+package com.lta.springboot.student_management.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Acceso JDBC a la tabla {@code logs}. Cada lote se guarda con un único INSERT multi-fila,
+ * sin pasar por el contexto de persistencia de JPA.
+ */
+@Repository
+public class AuditLogRepository {
+
+    private static final String INSERT_PREFIX = "INSERT INTO logs (action, entity, entity_id, log_timestamp) VALUES ";
+    private static final String ROW_PLACEHOLDERS = "(?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AuditLogRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Inserta todas las entradas en una sola sentencia.
+     *
+     * @param entries entradas a guardar
+     * @return número de filas insertadas
+     */
+    public int insertAll(List<AuditLogEntry> entries) {
+        if (entries.isEmpty()) {
+            return 0;
+        }
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + entries.size() * (ROW_PLACEHOLDERS.length() + 2))
+                .append(INSERT_PREFIX);
+        Object[] args = new Object[entries.size() * 4];
+        int position = 0;
+        for (AuditLogEntry entry : entries) {
+            if (position > 0) {
+                sql.append(", ");
+            }
+            sql.append(ROW_PLACEHOLDERS);
+            args[position++] = entry.action();
+            args[position++] = entry.entity();
+            args[position++] = entry.entityId();
+            args[position++] = Timestamp.valueOf(entry.timestamp());
+        }
+        return jdbcTemplate.update(sql.toString(), args);
+    }
+}
@@ -0,0 +1,109 @@
+package com.lta.springboot.student_management.repository;
+
+import com.lta.springboot.student_management.domain.dto.response.StudentChangeEventDTO;
+import com.lta.springboot.student_management.domain.enums.StudentChangeType;
+import com.lta.springboot.student_management.domain.event.StudentChangedEvent;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * Acceso JDBC a la tabla {@code student_change_events}, que respalda el feed de cambios de estudiantes.
+ */
+@Repository
+public class StudentChangeEventRepository {
+
+    // Una sola sentencia por transacción, sin importar cuántos cambios tenga: el lock se retiene hasta el commit.
+    // occurred_at con el reloj de la base de datos, igual que updated_at de students y el umbral de retención
+    private static final String INSERT_ALL = "INSERT INTO student_change_events (change_type, id_student, occurred_at)"
+            + " SELECT change_type, id_student, LOCALTIMESTAMP FROM unnest(?::varchar[], ?::bigint[])"
+            + " AS changes (change_type, id_student)";
+    // Clave del advisory lock que serializa la inserción de cambios hasta el commit
+    private static final long FEED_LOCK_KEY = 0x5354_5544_4645_4544L;
+    private static final RowMapper<StudentChangeEventDTO> ROW_MAPPER = (rs, rowNum) -> new StudentChangeEventDTO(
+            rs.getLong("id"),
+            StudentChangeType.valueOf(rs.getString("change_type")),
+            rs.getLong("id_student"),
+            rs.getTimestamp("occurred_at").toLocalDateTime());
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public StudentChangeEventRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Inserta los cambios con un único INSERT sobre arreglos dentro de la transacción en curso. Antes toma un
+     * advisory lock de transacción: así los id de la secuencia se asignan en el mismo orden en que las
+     * transacciones hacen commit y un consumidor que avanza por id nunca se salta un cambio confirmado más tarde
+     * con un id menor.
+     * <p>
+     * El lock es global y dura hasta el commit, así que las transacciones que escriben estudiantes confirman
+     * de a una: el throughput de escritura queda acotado por la duración de este INSERT más el commit.
+     *
+     * @param events cambios a guardar
+     */
+    public void insertAll(List<StudentChangedEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        String[] types = new String[events.size()];
+        Long[] ids = new Long[events.size()];
+        for (int i = 0; i < events.size(); i++) {
+            types[i] = events.get(i).type().name();
+            ids[i] = events.get(i).idStudent();
+        }
+        jdbcTemplate.query("SELECT pg_advisory_xact_lock(?)", rs -> null, FEED_LOCK_KEY);
+        jdbcTemplate.update(INSERT_ALL, statement -> {
+            Connection connection = statement.getConnection();
+            statement.setArray(1, connection.createArrayOf("varchar", types));
+            statement.setArray(2, connection.createArrayOf("bigint", ids));
+        });
+    }
+
+    /**
+     * Obtiene los cambios posteriores al offset indicado, en orden.
+     *
+     * @param afterId offset exclusivo
+     * @param limit   número máximo de cambios
+     * @return cambios ordenados por id
+     */
+    public List<StudentChangeEventDTO> findAfter(long afterId, int limit) {
+        return jdbcTemplate.query(
+                "SELECT id, change_type, id_student, occurred_at FROM student_change_events WHERE id > ? ORDER BY id LIMIT ?",
+                ROW_MAPPER, afterId, limit);
+    }
+
+    /**
+     * @return offset del cambio más antiguo conservado, o vacío si no hay cambios
+     */
+    public OptionalLong findOldestId() {
+        Long oldest = jdbcTemplate.queryForObject("SELECT MIN(id) FROM student_change_events", Long.class);
+        return oldest == null ? OptionalLong.empty() : OptionalLong.of(oldest);
+    }
+
+    /**
+     * @return offset del último cambio, o 0 si no hay cambios
+     */
+    public long findLatestId() {
+        Long latest = jdbcTemplate.queryForObject("SELECT MAX(id) FROM student_change_events", Long.class);
+        return latest == null ? 0 : latest;
+    }
+
+    /**
+     * Elimina los cambios con más antigüedad que la indicada, medida con el reloj de la base de datos.
+     *
+     * @param retention antigüedad máxima que se conserva
+     * @return número de cambios eliminados
+     */
+    public int deleteOlderThan(Duration retention) {
+        return jdbcTemplate.update(
+                "DELETE FROM student_change_events WHERE occurred_at < LOCALTIMESTAMP - ? * INTERVAL '1 millisecond'",
+                retention.toMillis());
+    }
+}
@@ -1,9 +1,112 @@
 package com.lta.springboot.student_management.repository;
 
+import com.lta.springboot.student_management.domain.dto.response.StudentResponseDTO;
 import com.lta.springboot.student_management.domain.entity.Student;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.lta.springboot.student_management.util.Constants.EXPORT_FETCH_SIZE;
+
 @Repository
-public interface StudentRepository extends JpaRepository<Student, Long> {
+public interface StudentRepository extends JpaRepository<Student, Long>, JpaSpecificationExecutor<Student>,
+        StudentRepositoryCustom {
+
+    /**
+     * Expresión constructora de {@link StudentResponseDTO} sobre los estudiantes vigentes.
+     */
+    String SELECT_RESPONSE = "select new com.lta.springboot.student_management.domain.dto.response.StudentResponseDTO("
+            + "s.idStudent, s.name, s.lastname, s.email, s.createdAt, s.updatedAt, s.version) from Student s";
+
+    /**
+     * Obtiene la siguiente página (keyset) de estudiantes con ID mayor al cursor, proyectando directamente a
+     * {@link StudentResponseDTO}: no se crean entidades administradas ni snapshots en el contexto de
+     * persistencia. Para listados de solo lectura.
+     *
+     * @param idStudent cursor: ID del último estudiante de la página anterior
+     * @param limit     número máximo de filas a retornar
+     * @return estudiantes ordenados por ID ascendente
+     */
+    @Query(SELECT_RESPONSE + " where s.idStudent > :idStudent order by s.idStudent asc")
+    List<StudentResponseDTO> findResponsesAfter(@Param("idStudent") Long idStudent, Limit limit);
+
+    /**
+     * Obtiene la página anterior (keyset) de estudiantes con ID menor al cursor, proyectando directamente a
+     * {@link StudentResponseDTO}.
+     *
+     * @param idStudent cursor: ID del primer estudiante de la página actual
+     * @param limit     número máximo de filas a retornar
+     * @return estudiantes ordenados por ID descendente
+     */
+    @Query(SELECT_RESPONSE + " where s.idStudent < :idStudent order by s.idStudent desc")
+    List<StudentResponseDTO> findResponsesBefore(@Param("idStudent") Long idStudent, Limit limit);
+
+    /**
+     * Todos los estudiantes proyectados directamente a {@link StudentResponseDTO}.
+     *
+     * @return estudiantes como DTOs
+     */
+    @Query(SELECT_RESPONSE)
+    List<StudentResponseDTO> findAllResponses();
+
+    /**
+     * Retorna cuáles de los emails indicados ya están registrados.
+     *
+     * @param emails emails a verificar
+     * @return subconjunto de emails existentes en la tabla students
+     */
+    @Query("select s.email from Student s where s.email in :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    /**
+     * Indica si algún estudiante tiene el email indicado.
+     *
+     * @param email email a verificar
+     * @return true si el email está registrado
+     */
+    boolean existsByEmail(String email);
+
+    /**
+     * Indica si algún estudiante distinto del indicado tiene el email.
+     *
+     * @param email     email a verificar
+     * @param idStudent estudiante a excluir
+     * @return true si otro estudiante tiene el email
+     */
+    boolean existsByEmailAndIdStudentNot(String email, Long idStudent);
+
+    /**
+     * Recorre los emails de todos los estudiantes con un cursor de solo avance, en bloques de
+     * {@code EXPORT_FETCH_SIZE}. Debe consumirse dentro de una transacción y cerrarse al terminar.
+     *
+     * @return stream de emails
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    @Query("select s.email from Student s")
+    Stream<String> streamAllEmails();
+
+    /**
+     * Recorre todos los estudiantes ordenados por ID con un cursor de solo avance.
+     * Las filas se traen del servidor en bloques de {@code EXPORT_FETCH_SIZE} y se cargan
+     * como solo lectura (sin snapshot para dirty checking). Debe consumirse dentro de una
+     * transacción y cerrarse al terminar.
+     *
+     * @return stream de estudiantes
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select s from Student s order by s.idStudent")
+    Stream<Student> streamAllOrderedById();
 }
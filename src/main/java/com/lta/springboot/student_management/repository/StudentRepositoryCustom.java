@@ -0,0 +1,108 @@
+package com.lta.springboot.student_management.repository;
+
+import com.lta.springboot.student_management.domain.entity.Student;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Operaciones de escritura de estudiantes resueltas en una sola sentencia SQL,
+ * sin cargar la entidad antes de modificarla. Solo afectan a estudiantes vigentes
+ * (no eliminados lógicamente), salvo {@link #restoreById(Long)}.
+ */
+public interface StudentRepositoryCustom {
+
+    /**
+     * Actualiza nombre, apellido y email del estudiante solo si su versión sigue siendo {@code version}
+     * (compare-and-set) e incrementa la versión. Retorna la fila resultante.
+     *
+     * @param idStudent identificador del estudiante
+     * @param version   versión leída por el cliente
+     * @param name      nuevo nombre
+     * @param lastname  nuevo apellido
+     * @param email     nuevo email
+     * @return estudiante actualizado, o vacío si no existe o su versión cambió
+     */
+    Optional<Student> updateById(Long idStudent, long version, String name, String lastname, String email);
+
+    /**
+     * Elimina lógicamente el estudiante (asigna {@code deleted_at}) y retorna la fila resultante.
+     *
+     * @param idStudent identificador del estudiante
+     * @return estudiante eliminado, o vacío si no existía o ya estaba eliminado
+     */
+    Optional<Student> softDeleteById(Long idStudent);
+
+    /**
+     * Elimina lógicamente en una sola sentencia los estudiantes indicados.
+     *
+     * @param idStudents identificadores a eliminar
+     * @return identificadores efectivamente eliminados
+     */
+    List<Long> softDeleteAllById(Collection<Long> idStudents);
+
+    /**
+     * Restaura un estudiante eliminado lógicamente e incrementa su versión.
+     *
+     * @param idStudent identificador del estudiante
+     * @return estudiante restaurado, o vacío si no existe un estudiante eliminado con ese ID
+     */
+    Optional<Student> restoreById(Long idStudent);
+
+    /**
+     * Elimina físicamente hasta {@code limit} estudiantes eliminados lógicamente antes de {@code threshold}.
+     *
+     * @param threshold fecha límite de eliminación (exclusiva)
+     * @param limit     número máximo de filas a borrar
+     * @return número de filas borradas
+     */
+    int purgeDeletedBefore(LocalDateTime threshold, int limit);
+
+    /**
+     * Mueve a {@code students_archive} hasta {@code limit} estudiantes vigentes cuya última modificación es
+     * anterior a {@code threshold}, en una sola sentencia. Solo PostgreSQL (ver {@link #supportsArchive()}); el
+     * trigger de tombstones registra cada estudiante movido para la sincronización incremental.
+     *
+     * @param threshold fecha límite de última modificación (exclusiva)
+     * @param limit     número máximo de estudiantes a mover
+     * @return identificadores archivados
+     */
+    List<Long> archiveInactiveBefore(LocalDateTime threshold, int limit);
+
+    /**
+     * @return true si la base de datos permite archivar estudiantes (PostgreSQL)
+     */
+    boolean supportsArchive();
+
+    /**
+     * Modifica en una sola sentencia nombre y/o apellido de los estudiantes indicados, sin comparar
+     * versiones, e incrementa la versión de cada uno. Los valores null conservan el valor actual.
+     *
+     * @param idStudents identificadores a modificar
+     * @param name       nuevo nombre, o null para no modificarlo
+     * @param lastname   nuevo apellido, o null para no modificarlo
+     * @return identificadores efectivamente modificados
+     */
+    List<Long> patchAllById(Collection<Long> idStudents, String name, String lastname);
+
+    /**
+     * Obtiene solo los IDs de los estudiantes que cumplen la especificación, sin cargar entidades.
+     *
+     * @param specification filtro
+     * @param limit         número máximo de IDs a retornar
+     * @return IDs ordenados ascendentemente
+     */
+    List<Long> findIdsMatching(Specification<Student> specification, int limit);
+
+    /**
+     * Hora de la base de datos al inicio de la transacción en curso ({@code LOCALTIMESTAMP}): la misma que
+     * asignan las sentencias de este repositorio a {@code updated_at}, así todas las fechas del cursor de
+     * sincronización salen de un solo reloj.
+     *
+     * @return fecha y hora actual de la base de datos
+     */
+    LocalDateTime currentTimestamp();
+}
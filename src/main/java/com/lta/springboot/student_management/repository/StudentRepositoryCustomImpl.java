@@ -0,0 +1,181 @@
+package com.lta.springboot.student_management.repository;
+
+import com.lta.springboot.student_management.domain.entity.Student;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Implementación con {@code RETURNING} en PostgreSQL. En otras bases (H2 en el perfil de benchmark)
+ * se usa la tabla delta estándar {@code FINAL TABLE}, también en un solo viaje.
+ * Las sentencias nativas no aplican el {@code @SQLRestriction} de la entidad, por lo que filtran
+ * {@code deleted_at} explícitamente. Las fechas se asignan con {@code LOCALTIMESTAMP}, el reloj de la base de datos
+ * (el mismo de los tombstones y del límite de la sincronización), nunca con la hora de la JVM.
+ */
+public class StudentRepositoryCustomImpl implements StudentRepositoryCustom {
+
+    private static final String UPDATE =
+            "UPDATE students SET name = :name, last_name = :lastname, email = :email, updated_at = LOCALTIMESTAMP, "
+                    + "version = version + 1 WHERE id_student = :idStudent AND version = :version AND deleted_at IS NULL";
+    // La eliminación también avanza updated_at: así la sincronización incremental informa el tombstone
+    private static final String SOFT_DELETE =
+            "UPDATE students SET deleted_at = LOCALTIMESTAMP, updated_at = LOCALTIMESTAMP, version = version + 1 "
+                    + "WHERE id_student = :idStudent AND deleted_at IS NULL";
+    private static final String BULK_PATCH =
+            "UPDATE students SET name = COALESCE(CAST(:name AS VARCHAR), name), "
+                    + "last_name = COALESCE(CAST(:lastname AS VARCHAR), last_name), updated_at = LOCALTIMESTAMP, "
+                    + "version = version + 1 WHERE id_student IN (:idStudents) AND deleted_at IS NULL";
+    private static final String BULK_SOFT_DELETE =
+            "UPDATE students SET deleted_at = LOCALTIMESTAMP, updated_at = LOCALTIMESTAMP, version = version + 1 "
+                    + "WHERE id_student IN (:idStudents) AND deleted_at IS NULL";
+    private static final String RESTORE =
+            "UPDATE students SET deleted_at = NULL, updated_at = LOCALTIMESTAMP, version = version + 1 "
+                    + "WHERE id_student = :idStudent AND deleted_at IS NOT NULL";
+    // Lote acotado y ordenado por el índice parcial de eliminados; SKIP LOCKED evita esperar filas bloqueadas
+    private static final String PURGE =
+            "DELETE FROM students WHERE id_student IN (SELECT id_student FROM students "
+                    + "WHERE deleted_at < :threshold ORDER BY deleted_at LIMIT :limit%s)";
+    // Mueve el lote en una sola sentencia (CTE con DELETE ... RETURNING); conserva IDs, fechas y versión
+    private static final String ARCHIVE = """
+            WITH moved AS (
+                DELETE FROM students WHERE id_student IN (
+                    SELECT id_student FROM students WHERE updated_at < :threshold AND deleted_at IS NULL
+                    ORDER BY updated_at LIMIT :limit FOR UPDATE SKIP LOCKED)
+                RETURNING id_student, name, last_name, email, created_at, updated_at, version)
+            INSERT INTO students_archive (id_student, name, last_name, email, created_at, updated_at, version, archived_at)
+            SELECT id_student, name, last_name, email, created_at, updated_at, version, LOCALTIMESTAMP FROM moved
+            RETURNING id_student""";
+
+    private final EntityManager entityManager;
+    private final boolean postgres;
+
+    public StudentRepositoryCustomImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+        this.postgres = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<Student> updateById(Long idStudent, long version, String name, String lastname, String email) {
+        String sql = postgres ? UPDATE + " RETURNING *" : "SELECT * FROM FINAL TABLE (" + UPDATE + ")";
+        List<Student> rows = entityManager.createNativeQuery(sql, Student.class)
+                .setParameter("name", name)
+                .setParameter("lastname", lastname)
+                .setParameter("email", email)
+                .setParameter("idStudent", idStudent)
+                .setParameter("version", version)
+                .getResultList();
+        return rows.stream().findFirst();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<Student> softDeleteById(Long idStudent) {
+        String sql = postgres ? SOFT_DELETE + " RETURNING *" : "SELECT * FROM FINAL TABLE (" + SOFT_DELETE + ")";
+        List<Student> rows = entityManager.createNativeQuery(sql, Student.class)
+                .setParameter("idStudent", idStudent)
+                .getResultList();
+        // La fila ya no es visible para la entidad: se saca del contexto de persistencia
+        rows.forEach(entityManager::detach);
+        return rows.stream().findFirst();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Long> softDeleteAllById(Collection<Long> idStudents) {
+        if (idStudents.isEmpty()) {
+            return List.of();
+        }
+        return returningIds(BULK_SOFT_DELETE)
+                .setParameter("idStudents", idStudents)
+                .getResultList();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<Student> restoreById(Long idStudent) {
+        String sql = postgres ? RESTORE + " RETURNING *" : "SELECT * FROM FINAL TABLE (" + RESTORE + ")";
+        List<Student> rows = entityManager.createNativeQuery(sql, Student.class)
+                .setParameter("idStudent", idStudent)
+                .getResultList();
+        return rows.stream().findFirst();
+    }
+
+    @Override
+    public int purgeDeletedBefore(LocalDateTime threshold, int limit) {
+        return entityManager.createNativeQuery(PURGE.formatted(postgres ? " FOR UPDATE SKIP LOCKED" : ""))
+                .setParameter("threshold", threshold)
+                .setParameter("limit", limit)
+                .executeUpdate();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Long> patchAllById(Collection<Long> idStudents, String name, String lastname) {
+        if (idStudents.isEmpty()) {
+            return List.of();
+        }
+        return returningIds(BULK_PATCH)
+                .setParameter("name", name)
+                .setParameter("lastname", lastname)
+                .setParameter("idStudents", idStudents)
+                .getResultList();
+    }
+
+    @Override
+    public List<Long> findIdsMatching(Specification<Student> specification, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Student> root = query.from(Student.class);
+        query.select(root.get("idStudent"))
+                .where(specification.toPredicate(root, query, cb))
+                .orderBy(cb.asc(root.get("idStudent")));
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Long> archiveInactiveBefore(LocalDateTime threshold, int limit) {
+        if (!postgres) {
+            throw new UnsupportedOperationException("El archivo de estudiantes requiere PostgreSQL");
+        }
+        return entityManager.createNativeQuery(ARCHIVE, Long.class)
+                .setParameter("threshold", threshold)
+                .setParameter("limit", limit)
+                .getResultList();
+    }
+
+    @Override
+    public boolean supportsArchive() {
+        return postgres;
+    }
+
+    @Override
+    public LocalDateTime currentTimestamp() {
+        return (LocalDateTime) entityManager.createNativeQuery("SELECT LOCALTIMESTAMP", LocalDateTime.class)
+                .getSingleResult();
+    }
+
+    /**
+     * Sentencia de modificación que retorna solo la columna {@code id_student} de las filas afectadas.
+     */
+    private Query returningIds(String statement) {
+        String sql = postgres
+                ? statement + " RETURNING id_student"
+                : "SELECT id_student FROM FINAL TABLE (" + statement + ")";
+        return entityManager.createNativeQuery(sql, Long.class);
+    }
+}
@@ -0,0 +1,89 @@
+package com.lta.springboot.student_management.repository;
+
+import com.lta.springboot.student_management.domain.dto.request.StudentSearchCriteriaDTO;
+import com.lta.springboot.student_management.domain.entity.Student;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Especificaciones JPA para la búsqueda de estudiantes.
+ * Los filtros de texto generan {@code lower(columna) LIKE 'prefijo%'}, cubiertos por los
+ * índices trigram sobre {@code lower(...)} definidos en {@code db/01_Tables/01-create-students.sql}.
+ */
+public final class StudentSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private StudentSpecifications() {
+    }
+
+    /**
+     * Construye la especificación que combina (AND) todos los filtros presentes en el criterio.
+     *
+     * @param criteria filtros de búsqueda
+     * @return especificación para {@link StudentRepository}
+     */
+    public static Specification<Student> matching(StudentSearchCriteriaDTO criteria) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            addPrefix(predicates, cb, root.get("name"), criteria.getName());
+            addPrefix(predicates, cb, root.get("lastname"), criteria.getLastname());
+            addPrefix(predicates, cb, root.get("email"), criteria.getEmail());
+            addRange(predicates, cb, root.get("createdAt"), criteria.getCreatedFrom(), criteria.getCreatedTo());
+            addRange(predicates, cb, root.get("updatedAt"), criteria.getUpdatedFrom(), criteria.getUpdatedTo());
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    /**
+     * Restringe a estudiantes con ID mayor al cursor (página siguiente).
+     */
+    public static Specification<Student> idGreaterThan(Long idStudent) {
+        return (root, query, cb) -> cb.greaterThan(root.get("idStudent"), idStudent);
+    }
+
+    /**
+     * Restringe a estudiantes con ID menor al cursor (página anterior).
+     */
+    public static Specification<Student> idLessThan(Long idStudent) {
+        return (root, query, cb) -> cb.lessThan(root.get("idStudent"), idStudent);
+    }
+
+    private static void addPrefix(List<Predicate> predicates, CriteriaBuilder cb, Path<String> path, String value) {
+        if (value == null || value.isBlank()) {
+            return;
+        }
+        String pattern = escapeLike(value.trim().toLowerCase(Locale.ROOT)) + "%";
+        predicates.add(cb.like(cb.lower(path), pattern, LIKE_ESCAPE));
+    }
+
+    private static void addRange(List<Predicate> predicates, CriteriaBuilder cb, Path<LocalDateTime> path,
+                                 LocalDate from, LocalDate to) {
+        if (from != null) {
+            predicates.add(cb.greaterThanOrEqualTo(path, from.atStartOfDay()));
+        }
+        if (to != null) {
+            predicates.add(cb.lessThan(path, to.plusDays(1).atStartOfDay()));
+        }
+    }
+
+    private static String escapeLike(String value) {
+        StringBuilder escaped = new StringBuilder(value.length() + 4);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
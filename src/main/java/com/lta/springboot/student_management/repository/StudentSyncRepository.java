@@ -0,0 +1,99 @@
+package com.lta.springboot.student_management.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Acceso JDBC para la sincronización incremental: estudiantes modificados y eliminados después de un cursor
+ * {@code (fecha, id_student)}. Las eliminaciones lógicas son filas de {@code students} con {@code deleted_at};
+ * {@code student_tombstones} contiene las filas vigentes borradas físicamente: borrados fuera de la aplicación y
+ * estudiantes movidos al archivo.
+ */
+@Repository
+public class StudentSyncRepository {
+
+    // Cada rama lee en orden por su índice (updated_at, id_student) / (deleted_at, id_student) y se corta en
+    // el límite antes de mezclarlas, así el costo depende del tamaño de página y no del de la tabla
+    private static final String FIND_CHANGES = """
+            SELECT id_student, name, last_name, email, created_at, changed_at, version, deleted FROM (
+                (SELECT id_student, name, last_name, email, created_at, updated_at AS changed_at, version,
+                        deleted_at IS NOT NULL AS deleted
+                   FROM students
+                  WHERE (updated_at, id_student) > (?, ?) AND updated_at < ?
+                  ORDER BY updated_at, id_student
+                  LIMIT ?)
+                UNION ALL
+                (SELECT id_student, CAST(NULL AS VARCHAR), CAST(NULL AS VARCHAR), CAST(NULL AS VARCHAR),
+                        CAST(NULL AS TIMESTAMP), deleted_at, CAST(NULL AS BIGINT), TRUE
+                   FROM student_tombstones
+                  WHERE (deleted_at, id_student) > (?, ?) AND deleted_at < ?
+                  ORDER BY deleted_at, id_student
+                  LIMIT ?)
+            ) changes
+            ORDER BY changed_at, id_student
+            LIMIT ?""";
+    private static final RowMapper<StudentSyncRow> ROW_MAPPER = (rs, rowNum) -> {
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        return new StudentSyncRow(
+                rs.getLong("id_student"),
+                rs.getString("name"),
+                rs.getString("last_name"),
+                rs.getString("email"),
+                createdAt == null ? null : createdAt.toLocalDateTime(),
+                rs.getTimestamp("changed_at").toLocalDateTime(),
+                rs.getObject("version", Long.class),
+                rs.getBoolean("deleted"));
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public StudentSyncRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Obtiene los cambios posteriores al cursor y anteriores a {@code until}, en orden de cursor.
+     *
+     * @param since   fecha del cursor (exclusiva junto con afterId)
+     * @param afterId ID del cursor
+     * @param until   fecha límite (exclusiva)
+     * @param limit   número máximo de cambios
+     * @return cambios ordenados por fecha e ID
+     */
+    public List<StudentSyncRow> findChanges(LocalDateTime since, long afterId, LocalDateTime until, int limit) {
+        Timestamp from = Timestamp.valueOf(since);
+        Timestamp to = Timestamp.valueOf(until);
+        return jdbcTemplate.query(FIND_CHANGES, ROW_MAPPER,
+                from, afterId, to, limit,
+                from, afterId, to, limit,
+                limit);
+    }
+
+    /**
+     * Hora actual de la base de datos, el mismo reloj con el que se asignan {@code updated_at} y las fechas de
+     * los tombstones. El límite de la sincronización se calcula con ella y no con la hora de la JVM.
+     *
+     * @return fecha y hora de la base de datos al inicio de la transacción en curso
+     */
+    public LocalDateTime currentTimestamp() {
+        return jdbcTemplate.queryForObject("SELECT LOCALTIMESTAMP", LocalDateTime.class);
+    }
+
+    /**
+     * Elimina hasta {@code limit} registros de {@code student_tombstones} anteriores a la fecha indicada.
+     *
+     * @param threshold fecha límite (exclusiva)
+     * @param limit     número máximo de registros a borrar
+     * @return número de registros borrados
+     */
+    public int deleteTombstonesBefore(LocalDateTime threshold, int limit) {
+        return jdbcTemplate.update("DELETE FROM student_tombstones WHERE id_student IN "
+                        + "(SELECT id_student FROM student_tombstones WHERE deleted_at < ? ORDER BY deleted_at LIMIT ?)",
+                Timestamp.valueOf(threshold), limit);
+    }
+}
@@ -0,0 +1,21 @@
+package com.lta.springboot.student_management.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Cambio de un estudiante en la sincronización incremental: la fila vigente o, si fue eliminado,
+ * solo su ID (los demás campos son null).
+ *
+ * @param changedAt fecha de la última modificación o de la eliminación; junto con el ID forma el cursor
+ * @param deleted   true si el estudiante fue eliminado
+ */
+public record StudentSyncRow(
+        Long idStudent,
+        String name,
+        String lastname,
+        String email,
+        LocalDateTime createdAt,
+        LocalDateTime changedAt,
+        Long version,
+        boolean deleted) {
+}
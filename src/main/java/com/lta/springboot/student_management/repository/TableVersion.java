@@ -0,0 +1,12 @@
+package com.lta.springboot.student_management.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Fila de la tabla {@code table_versions}.
+ *
+ * @param version   número de sentencias de escritura confirmadas sobre la tabla
+ * @param updatedAt fecha de la última modificación de la tabla
+ */
+public record TableVersion(long version, LocalDateTime updatedAt) {
+}
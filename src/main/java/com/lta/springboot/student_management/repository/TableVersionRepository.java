@@ -0,0 +1,51 @@
+package com.lta.springboot.student_management.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Acceso JDBC a la tabla {@code table_versions}, mantenida por triggers en la base de datos
+ * (ver {@code db/01_Tables/03-create-table-versions.sql}). Si la tabla no existe, por ejemplo en H2,
+ * se deja de consultar y siempre se retorna vacío.
+ */
+@Slf4j
+@Repository
+public class TableVersionRepository {
+
+    private static final String SELECT_VERSION =
+            "SELECT version, updated_at FROM table_versions WHERE table_name = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile boolean available = true;
+
+    public TableVersionRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Obtiene la versión actual de una tabla con una consulta por PK.
+     *
+     * @param tableName nombre de la tabla
+     * @return versión de la tabla, o vacío si no está versionada
+     */
+    public Optional<TableVersion> findByTableName(String tableName) {
+        if (!available) {
+            return Optional.empty();
+        }
+        try {
+            return jdbcTemplate.query(SELECT_VERSION,
+                    (rs, rowNum) -> new TableVersion(rs.getLong("version"),
+                            rs.getTimestamp("updated_at").toLocalDateTime()),
+                    tableName).stream().findFirst();
+        } catch (BadSqlGrammarException e) {
+            available = false;
+            log.warn("La tabla table_versions no existe, se deshabilitan los ETag basados en versión: {}",
+                    e.getMostSpecificCause().getMessage());
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.lta.springboot.student_management.service.impl;
+
+import com.lta.springboot.student_management.config.AuditProperties;
+import com.lta.springboot.student_management.domain.event.StudentChangedEvent;
+import com.lta.springboot.student_management.domain.event.StudentsChangedEvent;
+import com.lta.springboot.student_management.repository.AuditLogEntry;
+import com.lta.springboot.student_management.repository.AuditLogRepository;
+import com.lta.springboot.student_management.service.interfaces.IAuditService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registro de auditoría asíncrono. Los eventos se encolan en una cola acotada y un hilo escritor
+ * los guarda en la tabla {@code logs} en lotes (un INSERT multi-fila por lote), de modo que los
+ * endpoints de escritura no esperan a la base de datos para auditar.
+ * <p>
+ * Se detiene después del servidor web y vacía la cola antes de que se cierre el pool de conexiones.
+ */
+@Slf4j
+@Service
+public class AuditServiceImpl implements IAuditService, SmartLifecycle {
+
+    static final String STUDENT_ENTITY = "Student";
+
+    /**
+     * Fase menor que la del servidor web: inicia antes y se detiene después que él.
+     */
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private final AuditLogRepository auditLogRepository;
+    private final AuditProperties auditProperties;
+    private final BlockingQueue<AuditLogEntry> queue;
+    private final Counter writtenCounter;
+    private final Counter droppedCounter;
+    private final Counter failedCounter;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public AuditServiceImpl(AuditLogRepository auditLogRepository, AuditProperties auditProperties,
+                            MeterRegistry meterRegistry) {
+        this.auditLogRepository = auditLogRepository;
+        this.auditProperties = auditProperties;
+        this.queue = new ArrayBlockingQueue<>(auditProperties.queueCapacity());
+        Gauge.builder("audit.queue.size", queue, BlockingQueue::size)
+                .description("Entradas de auditoría pendientes de guardar")
+                .register(meterRegistry);
+        this.writtenCounter = Counter.builder("audit.entries").tag("outcome", "written").register(meterRegistry);
+        this.droppedCounter = Counter.builder("audit.entries").tag("outcome", "dropped").register(meterRegistry);
+        this.failedCounter = Counter.builder("audit.entries").tag("outcome", "failed").register(meterRegistry);
+    }
+
+    @Override
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStudentChanged(StudentChangedEvent event) {
+        record(new AuditLogEntry(event.type().auditAction(), STUDENT_ENTITY, event.idStudent(), event.occurredAt()));
+    }
+
+    @Override
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStudentsChanged(StudentsChangedEvent event) {
+        String action = event.type().auditAction();
+        recordAll(event.idStudents().stream()
+                .map(id -> new AuditLogEntry(action, STUDENT_ENTITY, id, event.occurredAt()))
+                .toList());
+    }
+
+    @Override
+    public boolean record(AuditLogEntry entry) {
+        return recordAll(List.of(entry)) == 1;
+    }
+
+    @Override
+    public int recordAll(List<AuditLogEntry> entries) {
+        if (!auditProperties.enabled() || entries.isEmpty()) {
+            return 0;
+        }
+        long deadline = System.nanoTime() + auditProperties.offerTimeout().toNanos();
+        int queued = 0;
+        try {
+            // Con la cola llena, offer ya no espera una vez vencido el plazo: las demás entradas se descartan
+            while (queued < entries.size()
+                    && queue.offer(entries.get(queued), deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                queued++;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        int dropped = entries.size() - queued;
+        if (dropped > 0) {
+            AuditLogEntry first = entries.get(queued);
+            droppedCounter.increment(dropped);
+            log.warn("Cola de auditoría llena, se descartan {} entradas desde: {} {}", dropped, first.action(),
+                    first.entityId());
+        }
+        return queued;
+    }
+
+    @Override
+    public void start() {
+        if (!auditProperties.enabled()) {
+            log.info("Auditoría deshabilitada (app.audit.enabled=false)");
+            return;
+        }
+        running = true;
+        writer = Thread.ofPlatform().name("audit-writer").daemon().start(this::writeLoop);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.join(auditProperties.shutdownTimeout().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive()) {
+            log.warn("La cola de auditoría no se vació a tiempo, quedan {} entradas sin guardar", queue.size());
+        }
+        writer = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    /**
+     * Espera la primera entrada del lote hasta {@code flush-interval} y toma las demás disponibles
+     * sin bloquear. Al detenerse sigue guardando hasta que la cola quede vacía.
+     */
+    private void writeLoop() {
+        List<AuditLogEntry> batch = new ArrayList<>(auditProperties.batchSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                AuditLogEntry first = queue.poll(auditProperties.flushInterval().toNanos(), TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, auditProperties.batchSize() - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+                batch.clear();
+                while (queue.drainTo(batch, auditProperties.batchSize()) > 0) {
+                    flush(batch);
+                    batch.clear();
+                }
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<AuditLogEntry> batch) {
+        try {
+            int inserted = auditLogRepository.insertAll(batch);
+            writtenCounter.increment(inserted);
+        } catch (RuntimeException e) {
+            failedCounter.increment(batch.size());
+            log.error("Error guardando {} entradas de auditoría", batch.size(), e);
+        }
+    }
+}
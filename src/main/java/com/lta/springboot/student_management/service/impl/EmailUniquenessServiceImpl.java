@@ -0,0 +1,164 @@
+package com.lta.springboot.student_management.service.impl;
+
+import com.lta.springboot.student_management.config.EmailFilterProperties;
+import com.lta.springboot.student_management.repository.StudentRepository;
+import com.lta.springboot.student_management.service.interfaces.IEmailUniquenessService;
+import com.lta.springboot.student_management.util.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * Verificación de emails duplicados con un filtro de Bloom de todos los emails registrados. Si el filtro
+ * descarta el email (el caso habitual al crear un estudiante) no se consulta la base de datos; si indica
+ * un posible duplicado se confirma con una consulta por el índice único.
+ * <p>
+ * El filtro se construye en segundo plano al iniciar la aplicación y se reconstruye cuando supera su
+ * capacidad, ya que no admite eliminar los emails de estudiantes borrados o modificados. Mientras no hay
+ * filtro se consulta siempre la base de datos. La restricción única de la tabla sigue siendo la garantía
+ * final: un email escrito por otra instancia o por una inserción concurrente se detecta al guardar.
+ */
+@Slf4j
+@Service
+public class EmailUniquenessServiceImpl implements IEmailUniquenessService, SmartLifecycle {
+
+    private final StudentRepository studentRepository;
+    private final EmailFilterProperties emailFilterProperties;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Counter negativeCounter;
+    private final Counter confirmedCounter;
+    private final Counter falsePositiveCounter;
+    private final Counter unfilteredCounter;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    // Filtro vigente; null hasta que termina la primera construcción
+    private volatile BloomFilter active;
+    // Filtro en construcción: los emails registrados mientras tanto se agregan también aquí
+    private volatile BloomFilter building;
+    private volatile boolean running;
+
+    public EmailUniquenessServiceImpl(StudentRepository studentRepository, EmailFilterProperties emailFilterProperties,
+                                      PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.studentRepository = studentRepository;
+        this.emailFilterProperties = emailFilterProperties;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.negativeCounter = checkCounter("negative", meterRegistry);
+        this.confirmedCounter = checkCounter("confirmed", meterRegistry);
+        this.falsePositiveCounter = checkCounter("false_positive", meterRegistry);
+        this.unfilteredCounter = checkCounter("unfiltered", meterRegistry);
+    }
+
+    @Override
+    public boolean isEmailTaken(String email, Long excludedIdStudent) {
+        if (!emailFilterProperties.enabled()) {
+            return false;
+        }
+        BloomFilter filter = active;
+        if (filter != null && !filter.mightContain(normalize(email))) {
+            negativeCounter.increment();
+            return false;
+        }
+
+        boolean taken = excludedIdStudent == null
+                ? studentRepository.existsByEmail(email)
+                : studentRepository.existsByEmailAndIdStudentNot(email, excludedIdStudent);
+        if (filter == null) {
+            unfilteredCounter.increment();
+        } else {
+            (taken ? confirmedCounter : falsePositiveCounter).increment();
+        }
+        return taken;
+    }
+
+    @Override
+    public void registerEmail(String email) {
+        if (!emailFilterProperties.enabled()) {
+            return;
+        }
+        String key = normalize(email);
+        BloomFilter filter = active;
+        if (filter != null) {
+            filter.put(key);
+        }
+        BloomFilter next = building;
+        if (next != null) {
+            next.put(key);
+        }
+        if (filter != null && filter.isSaturated()) {
+            rebuildAsync();
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        if (emailFilterProperties.enabled()) {
+            rebuildAsync();
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void rebuildAsync() {
+        if (rebuilding.compareAndSet(false, true)) {
+            Thread.ofVirtual().name("email-filter-rebuild").start(this::rebuild);
+        }
+    }
+
+    /**
+     * Construye un filtro nuevo con todos los emails de la tabla y lo deja como vigente. Se dimensiona
+     * para el doble de los emails actuales, de modo que admite ese mismo número de altas antes de saturarse.
+     */
+    void rebuild() {
+        try {
+            long students = studentRepository.count();
+            BloomFilter next = new BloomFilter(Math.max(emailFilterProperties.expectedInsertions(), students * 2),
+                    emailFilterProperties.falsePositiveRate());
+            building = next;
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<String> emails = studentRepository.streamAllEmails()) {
+                    emails.forEach(email -> next.put(normalize(email)));
+                }
+            });
+            active = next;
+            log.info("Filtro de emails construido con {} emails", next.insertions());
+        } catch (RuntimeException e) {
+            log.warn("No fue posible construir el filtro de emails, se verificarán en la base de datos", e);
+        } finally {
+            building = null;
+            rebuilding.set(false);
+        }
+    }
+
+    /**
+     * Se ignoran espacios y mayúsculas: el filtro puede dar más positivos que la restricción única,
+     * pero nunca menos.
+     */
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static Counter checkCounter(String outcome, MeterRegistry meterRegistry) {
+        return Counter.builder("students.email.checks")
+                .description("Verificaciones previas de email duplicado")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,108 @@
+package com.lta.springboot.student_management.service.impl;
+
+import com.lta.springboot.student_management.config.StudentArchiveProperties;
+import com.lta.springboot.student_management.domain.enums.StudentChangeType;
+import com.lta.springboot.student_management.domain.event.StudentsChangedEvent;
+import com.lta.springboot.student_management.repository.StudentRepository;
+import com.lta.springboot.student_management.service.interfaces.IStudentArchiveService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.lta.springboot.student_management.util.Constants.STUDENTS_CACHE;
+
+/**
+ * Archivo periódico de estudiantes inactivos. Cada lote mueve como máximo {@code batch-size} estudiantes en su
+ * propia transacción corta (una sola sentencia), y entre lotes hace una pausa para no competir con el tráfico
+ * normal. Los estudiantes archivados se quitan del cache por ID y cada lote se publica como un solo cambio
+ * {@code ARCHIVED}; la sincronización incremental los recibe como eliminados (tombstones del traslado).
+ * <p>
+ * El umbral de inactividad se calcula con el reloj de la base de datos, el mismo que asigna {@code updated_at}.
+ * Con una base de datos distinta de PostgreSQL el archivo se omite con una advertencia.
+ * <p>
+ * El archivo es de solo lectura y no se restaura: al salir de {@code students} el email de un estudiante
+ * archivado deja de contar para la unicidad (índice {@code uq_students_email_active} y filtro de emails), así que
+ * un estudiante nuevo puede registrarlo, igual que el de un estudiante eliminado y purgado.
+ */
+@Slf4j
+@Service
+public class StudentArchiveServiceImpl implements IStudentArchiveService {
+
+    private final StudentRepository studentRepository;
+    private final StudentArchiveProperties studentArchiveProperties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheManager cacheManager;
+    private final TransactionTemplate transactionTemplate;
+    private volatile boolean unsupportedWarned;
+
+    public StudentArchiveServiceImpl(StudentRepository studentRepository,
+                                     StudentArchiveProperties studentArchiveProperties,
+                                     ApplicationEventPublisher eventPublisher, CacheManager cacheManager,
+                                     PlatformTransactionManager transactionManager) {
+        this.studentRepository = studentRepository;
+        this.studentArchiveProperties = studentArchiveProperties;
+        this.eventPublisher = eventPublisher;
+        this.cacheManager = cacheManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.students.archive.interval:1d}")
+    public int archiveInactive() {
+        if (!studentArchiveProperties.enabled()) {
+            return 0;
+        }
+        if (!studentRepository.supportsArchive()) {
+            if (!unsupportedWarned) {
+                unsupportedWarned = true;
+                log.warn("El archivo de estudiantes requiere PostgreSQL: se omite con la base de datos actual");
+            }
+            return 0;
+        }
+        LocalDateTime threshold = studentRepository.currentTimestamp().minus(studentArchiveProperties.inactiveAfter());
+        int batchSize = studentArchiveProperties.batchSize();
+        int total = 0;
+        while (true) {
+            List<Long> archived = transactionTemplate.execute(status -> {
+                List<Long> ids = studentRepository.archiveInactiveBefore(threshold, batchSize);
+                if (!ids.isEmpty()) {
+                    eventPublisher.publishEvent(StudentsChangedEvent.of(StudentChangeType.ARCHIVED, ids));
+                }
+                return ids;
+            });
+            if (archived == null || archived.isEmpty()) {
+                break;
+            }
+            evictFromCache(archived);
+            total += archived.size();
+            if (archived.size() < batchSize) {
+                break;
+            }
+            try {
+                Thread.sleep(studentArchiveProperties.batchPause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("Archivados {} estudiantes sin modificaciones desde {}", total, threshold);
+        }
+        return total;
+    }
+
+    private void evictFromCache(List<Long> ids) {
+        Cache cache = cacheManager.getCache(STUDENTS_CACHE);
+        if (cache != null) {
+            ids.forEach(cache::evict);
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package com.lta.springboot.student_management.service.impl;
+
+import com.lta.springboot.student_management.config.ChangeFeedProperties;
+import com.lta.springboot.student_management.domain.dto.response.StudentChangeEventDTO;
+import com.lta.springboot.student_management.domain.event.StudentChangedEvent;
+import com.lta.springboot.student_management.domain.event.StudentsChangedEvent;
+import com.lta.springboot.student_management.exception.ResourceNotFoundException;
+import com.lta.springboot.student_management.repository.StudentChangeEventRepository;
+import com.lta.springboot.student_management.service.interfaces.IStudentChangeFeedService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Feed de cambios de estudiantes respaldado por la tabla {@code student_change_events}.
+ * <p>
+ * Los cambios publicados durante una transacción se acumulan y se insertan juntos justo antes del commit,
+ * de modo que el feed contiene exactamente los cambios confirmados. Cada suscriptor tiene un hilo virtual
+ * que lee los cambios posteriores a su offset y los envía como eventos SSE con {@code id} igual al offset;
+ * al reconectarse, el navegador (o cualquier cliente SSE) envía {@code Last-Event-ID} y continúa donde quedó.
+ * Los hilos despiertan al confirmarse un cambio en esta instancia o cada {@code poll-interval}.
+ * <p>
+ * Si el offset de un consumidor es anterior a los cambios conservados (retención), recibe primero un evento
+ * {@code reset} para que vuelva a sincronizar el listado completo.
+ */
+@Slf4j
+@Service
+public class StudentChangeFeedServiceImpl implements IStudentChangeFeedService, SmartLifecycle {
+
+    static final String CHANGE_EVENT = "student-change";
+    static final String RESET_EVENT = "reset";
+
+    private final StudentChangeEventRepository studentChangeEventRepository;
+    private final ChangeFeedProperties changeFeedProperties;
+    private final Set<SseEmitter> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong changeSignals = new AtomicLong();
+    private final ReentrantLock signalLock = new ReentrantLock();
+    private final Condition changed = signalLock.newCondition();
+
+    private volatile boolean running;
+
+    public StudentChangeFeedServiceImpl(StudentChangeEventRepository studentChangeEventRepository,
+                                        ChangeFeedProperties changeFeedProperties, MeterRegistry meterRegistry) {
+        this.studentChangeEventRepository = studentChangeEventRepository;
+        this.changeFeedProperties = changeFeedProperties;
+        Gauge.builder("students.change_feed.subscribers", subscribers, Set::size)
+                .description("Consumidores conectados al feed de cambios")
+                .register(meterRegistry);
+    }
+
+    @Override
+    @EventListener
+    public void onStudentChanged(StudentChangedEvent event) {
+        append(List.of(event));
+    }
+
+    @Override
+    @EventListener
+    public void onStudentsChanged(StudentsChangedEvent event) {
+        append(event.changes());
+    }
+
+    @Override
+    public SseEmitter subscribe(Long afterId) {
+        if (!changeFeedProperties.enabled() || !running) {
+            throw new ResourceNotFoundException("El feed de cambios de estudiantes no está habilitado");
+        }
+        long start = afterId != null ? afterId : studentChangeEventRepository.findLatestId();
+        SseEmitter emitter = new SseEmitter(changeFeedProperties.emitterTimeout().toMillis());
+        AtomicBoolean open = new AtomicBoolean(true);
+        Runnable close = () -> {
+            open.set(false);
+            subscribers.remove(emitter);
+            signalChange();
+        };
+        emitter.onCompletion(close);
+        emitter.onTimeout(close);
+        emitter.onError(error -> close.run());
+        subscribers.add(emitter);
+
+        log.info("Nuevo suscriptor del feed de cambios desde el offset {}", start);
+        Thread.ofVirtual().name("student-change-feed").start(() -> stream(emitter, start, open));
+        return emitter;
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.students.change-feed.purge-interval:1h}")
+    public int purgeExpired() {
+        if (!changeFeedProperties.enabled()) {
+            return 0;
+        }
+        int deleted = studentChangeEventRepository.deleteOlderThan(changeFeedProperties.retention());
+        if (deleted > 0) {
+            log.info("Eliminados {} cambios del feed anteriores a la retención de {}", deleted,
+                    changeFeedProperties.retention());
+        }
+        return deleted;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        subscribers.forEach(SseEmitter::complete);
+        signalChange();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Fase por defecto, mayor que la del servidor web: se detiene antes que él y cierra las conexiones SSE
+     * para que el apagado ordenado no espere a que expiren.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE;
+    }
+
+    /**
+     * Envía al suscriptor los cambios posteriores a {@code afterId} hasta que se desconecta o la aplicación
+     * se detiene.
+     */
+    void stream(SseEmitter emitter, long afterId, AtomicBoolean open) {
+        long cursor = afterId;
+        long heartbeatNanos = changeFeedProperties.heartbeatInterval().toNanos();
+        long lastSent = System.nanoTime();
+        try {
+            sendResetIfExpired(emitter, cursor);
+            while (running && open.get()) {
+                long observedSignals = changeSignals.get();
+                List<StudentChangeEventDTO> events = studentChangeEventRepository.findAfter(cursor,
+                        changeFeedProperties.batchSize());
+                for (StudentChangeEventDTO event : events) {
+                    emitter.send(SseEmitter.event()
+                            .id(Long.toString(event.id()))
+                            .name(CHANGE_EVENT)
+                            .data(event, MediaType.APPLICATION_JSON));
+                    cursor = event.id();
+                    lastSent = System.nanoTime();
+                }
+                if (events.size() < changeFeedProperties.batchSize()) {
+                    awaitChange(observedSignals);
+                    if (System.nanoTime() - lastSent >= heartbeatNanos) {
+                        emitter.send(SseEmitter.event().comment("keep-alive"));
+                        lastSent = System.nanoTime();
+                    }
+                }
+            }
+            // Aplicación deteniéndose: se cierra la conexión y el cliente se reconecta a otra instancia
+            emitter.complete();
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Suscriptor del feed desconectado en el offset {}: {}", cursor, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.warn("Error enviando el feed de cambios desde el offset {}", cursor, e);
+            emitter.completeWithError(e);
+        } finally {
+            subscribers.remove(emitter);
+        }
+    }
+
+    private void append(List<StudentChangedEvent> events) {
+        if (!changeFeedProperties.enabled()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            studentChangeEventRepository.insertAll(events);
+            signalChange();
+            return;
+        }
+        PendingChanges pending = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingChanges();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.events.addAll(events);
+    }
+
+    private void sendResetIfExpired(SseEmitter emitter, long afterId) throws IOException {
+        OptionalLong oldestId = studentChangeEventRepository.findOldestId();
+        if (afterId > 0 && oldestId.isPresent() && afterId < oldestId.getAsLong() - 1) {
+            log.info("Offset {} anterior a la retención del feed (más antiguo: {})", afterId, oldestId.getAsLong());
+            emitter.send(SseEmitter.event()
+                    .name(RESET_EVENT)
+                    .data(Map.of("oldestId", oldestId.getAsLong()), MediaType.APPLICATION_JSON));
+        }
+    }
+
+    /**
+     * Espera hasta que se confirme un cambio posterior a {@code observedSignals} o se cumpla {@code poll-interval}.
+     */
+    private void awaitChange(long observedSignals) throws InterruptedException {
+        long remaining = changeFeedProperties.pollInterval().toNanos();
+        signalLock.lock();
+        try {
+            while (changeSignals.get() == observedSignals && remaining > 0 && running) {
+                remaining = changed.awaitNanos(remaining);
+            }
+        } finally {
+            signalLock.unlock();
+        }
+    }
+
+    private void signalChange() {
+        changeSignals.incrementAndGet();
+        signalLock.lock();
+        try {
+            changed.signalAll();
+        } finally {
+            signalLock.unlock();
+        }
+    }
+
+    /**
+     * Cambios de la transacción en curso, insertados justo antes del commit.
+     */
+    private final class PendingChanges implements TransactionSynchronization {
+
+        private final List<StudentChangedEvent> events = new ArrayList<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            studentChangeEventRepository.insertAll(events);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(StudentChangeFeedServiceImpl.this);
+            if (status == STATUS_COMMITTED) {
+                signalChange();
+            }
+        }
+    }
+}
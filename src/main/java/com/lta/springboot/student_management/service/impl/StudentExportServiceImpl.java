@@ -0,0 +1,102 @@
+package com.lta.springboot.student_management.service.impl;
+
+import com.lta.springboot.student_management.domain.entity.Student;
+import com.lta.springboot.student_management.domain.enums.StudentFileFormat;
+import com.lta.springboot.student_management.domain.mapper.StudentMapper;
+import com.lta.springboot.student_management.repository.StudentRepository;
+import com.lta.springboot.student_management.service.interfaces.IStudentExportService;
+import com.lta.springboot.student_management.util.CsvUtils;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+public class StudentExportServiceImpl implements IStudentExportService {
+
+    private static final String CSV_HEADER = "idStudent,name,lastname,email,createdAt,updatedAt";
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private final StudentRepository studentRepository;
+    private final StudentMapper studentMapper;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+
+    public StudentExportServiceImpl(StudentRepository studentRepository, StudentMapper studentMapper,
+                                    ObjectMapper objectMapper, EntityManager entityManager) {
+        this.studentRepository = studentRepository;
+        this.studentMapper = studentMapper;
+        this.objectMapper = objectMapper;
+        this.entityManager = entityManager;
+    }
+
+
+    /**
+     * Exporta todos los estudiantes en CSV o JSON Lines. Las filas se leen con un cursor
+     * de solo avance y cada entidad se desvincula del contexto de persistencia después de
+     * escribirla, de modo que el uso de memoria es constante sin importar el tamaño de la tabla.
+     *
+     * @param outputStream destino de la exportación
+     * @param format       formato de salida
+     * @return número de estudiantes exportados
+     * @throws IOException si falla la escritura en el stream
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long exportStudents(OutputStream outputStream, StudentFileFormat format) throws IOException {
+        log.info("Exportando estudiantes en formato {}", format);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+        StringBuilder line = new StringBuilder(256);
+        long count = 0;
+
+        if (format == StudentFileFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        try (Stream<Student> students = studentRepository.streamAllOrderedById()) {
+            Iterator<Student> iterator = students.iterator();
+            while (iterator.hasNext()) {
+                Student student = iterator.next();
+                line.setLength(0);
+                if (format == StudentFileFormat.JSONL) {
+                    line.append(objectMapper.writeValueAsString(studentMapper.toStudentResponseDTO(student)));
+                } else {
+                    appendCsvRow(line, student);
+                }
+                writer.append(line).append('\n');
+                entityManager.detach(student);
+                count++;
+            }
+        }
+        writer.flush();
+
+        log.info("Exportación finalizada - estudiantes exportados: {}", count);
+        return count;
+    }
+
+    private static void appendCsvRow(StringBuilder line, Student student) {
+        line.append(student.getIdStudent()).append(',');
+        CsvUtils.appendField(line, student.getName()).append(',');
+        CsvUtils.appendField(line, student.getLastname()).append(',');
+        CsvUtils.appendField(line, student.getEmail()).append(',');
+        appendDate(line, student.getCreatedAt()).append(',');
+        appendDate(line, student.getUpdatedAt());
+    }
+
+    private static StringBuilder appendDate(StringBuilder line, LocalDateTime dateTime) {
+        return dateTime == null ? line : line.append(dateTime);
+    }
+}
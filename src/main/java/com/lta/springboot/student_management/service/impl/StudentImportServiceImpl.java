@@ -0,0 +1,302 @@
+package com.lta.springboot.student_management.service.impl;
+
+import com.lta.springboot.student_management.config.StudentImportProperties;
+import com.lta.springboot.student_management.domain.dto.request.StudentRequestDTO;
+import com.lta.springboot.student_management.domain.dto.response.StudentImportErrorDTO;
+import com.lta.springboot.student_management.domain.dto.response.StudentImportResultDTO;
+import com.lta.springboot.student_management.domain.entity.Student;
+import com.lta.springboot.student_management.domain.enums.StudentChangeType;
+import com.lta.springboot.student_management.domain.enums.StudentFileFormat;
+import com.lta.springboot.student_management.domain.event.StudentsChangedEvent;
+import com.lta.springboot.student_management.domain.mapper.StudentMapper;
+import com.lta.springboot.student_management.exception.BadRequestException;
+import com.lta.springboot.student_management.repository.StudentRepository;
+import com.lta.springboot.student_management.service.interfaces.IEmailUniquenessService;
+import com.lta.springboot.student_management.service.interfaces.IStudentImportService;
+import com.lta.springboot.student_management.util.CsvUtils;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.*;
+
+@Slf4j
+@Service
+public class StudentImportServiceImpl implements IStudentImportService {
+
+    private static final String MSG_DUPLICATED_IN_FILE = "El email está repetido en el archivo.";
+    private static final String MSG_EMAIL_EXISTS = "El email ya está registrado.";
+
+    private final StudentRepository studentRepository;
+    private final StudentMapper studentMapper;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final StudentImportProperties studentImportProperties;
+    private final IEmailUniquenessService emailUniquenessService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public StudentImportServiceImpl(StudentRepository studentRepository, StudentMapper studentMapper,
+                                    Validator validator, ObjectMapper objectMapper,
+                                    TransactionTemplate transactionTemplate,
+                                    StudentImportProperties studentImportProperties,
+                                    IEmailUniquenessService emailUniquenessService,
+                                    ApplicationEventPublisher eventPublisher) {
+        this.studentRepository = studentRepository;
+        this.studentMapper = studentMapper;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.studentImportProperties = studentImportProperties;
+        this.emailUniquenessService = emailUniquenessService;
+        this.eventPublisher = eventPublisher;
+    }
+
+
+    /**
+     * Importa estudiantes leyendo el archivo línea por línea. Cada fila se valida con las
+     * mismas restricciones de {@link StudentRequestDTO} y las filas válidas se insertan en lotes
+     * de {@code app.students.import.batch-size}, cada lote en su propia transacción.
+     * La memoria usada depende del tamaño del lote y no del tamaño del archivo.
+     *
+     * @param inputStream contenido del archivo
+     * @param format      formato del archivo
+     * @return resumen de la importación
+     */
+    @Override
+    public StudentImportResultDTO importStudents(InputStream inputStream, StudentFileFormat format) {
+        log.info("Iniciando importación masiva de estudiantes en formato {}", format);
+        ImportContext context = new ImportContext();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            if (format == StudentFileFormat.JSONL) {
+                readJsonLines(reader, context);
+            } else {
+                readCsv(reader, context);
+            }
+        } catch (IOException e) {
+            log.error("Error leyendo el archivo de importación", e);
+            throw new BadRequestException("No fue posible leer el archivo de importación.");
+        }
+        flushBatch(context);
+
+        log.info("Importación finalizada - filas: {}, importadas: {}, rechazadas: {}",
+                context.totalRows, context.importedRows, context.rejectedRows);
+
+        return StudentImportResultDTO.builder()
+                .totalRows(context.totalRows)
+                .importedRows(context.importedRows)
+                .rejectedRows(context.rejectedRows)
+                .errors(context.errors)
+                .errorsTruncated(context.rejectedRows > context.errors.size())
+                .build();
+    }
+
+    /**
+     * Lee un CSV con cabecera. Las columnas se ubican por nombre ({@code name}, {@code lastname}
+     * o {@code last_name}, {@code email}), por lo que el orden es libre.
+     */
+    private void readCsv(BufferedReader reader, ImportContext context) throws IOException {
+        String headerLine = reader.readLine();
+        if (headerLine == null) {
+            return;
+        }
+        List<String> header = CsvUtils.parseLine(stripBom(headerLine)).stream()
+                .map(h -> h.trim().toLowerCase(Locale.ROOT))
+                .toList();
+        int nameIndex = header.indexOf("name");
+        int lastnameIndex = header.contains("lastname") ? header.indexOf("lastname") : header.indexOf("last_name");
+        int emailIndex = header.indexOf("email");
+        if (nameIndex < 0 || lastnameIndex < 0 || emailIndex < 0) {
+            throw new BadRequestException("La cabecera del CSV debe contener las columnas name, lastname y email.");
+        }
+        int requiredColumns = Math.max(nameIndex, Math.max(lastnameIndex, emailIndex)) + 1;
+
+        String line;
+        long rowNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            rowNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            List<String> fields = CsvUtils.parseLine(line);
+            if (fields.size() < requiredColumns) {
+                context.totalRows++;
+                context.reject(rowNumber, null, List.of("Número de columnas inválido."));
+                continue;
+            }
+            StudentRequestDTO studentRequestDTO = StudentRequestDTO.builder()
+                    .name(fields.get(nameIndex))
+                    .lastname(fields.get(lastnameIndex))
+                    .email(fields.get(emailIndex))
+                    .build();
+            processRow(rowNumber, studentRequestDTO, context);
+        }
+    }
+
+    /**
+     * Lee un archivo JSON Lines: un objeto {@code {"name", "lastname", "email"}} por línea.
+     */
+    private void readJsonLines(BufferedReader reader, ImportContext context) throws IOException {
+        String line;
+        long rowNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            rowNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                processRow(rowNumber, objectMapper.readValue(stripBom(line), StudentRequestDTO.class), context);
+            } catch (JacksonException e) {
+                context.totalRows++;
+                context.reject(rowNumber, null, List.of("JSON inválido."));
+            }
+        }
+    }
+
+    /**
+     * Valida una fila y la agrega al lote en curso; al completarse el lote se persiste.
+     */
+    private void processRow(long rowNumber, StudentRequestDTO studentRequestDTO, ImportContext context) {
+        context.totalRows++;
+        trimFields(studentRequestDTO);
+
+        Set<ConstraintViolation<StudentRequestDTO>> violations = validator.validate(studentRequestDTO);
+        if (!violations.isEmpty()) {
+            List<String> messages = violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .toList();
+            context.reject(rowNumber, studentRequestDTO.getEmail(), messages);
+            return;
+        }
+        if (!context.batchEmails.add(studentRequestDTO.getEmail())) {
+            context.reject(rowNumber, studentRequestDTO.getEmail(), List.of(MSG_DUPLICATED_IN_FILE));
+            return;
+        }
+
+        context.batch.add(new PendingRow(rowNumber, studentRequestDTO));
+        if (context.batch.size() >= studentImportProperties.batchSize()) {
+            flushBatch(context);
+        }
+    }
+
+    /**
+     * Persiste el lote en curso. Los emails ya registrados se descartan con una sola consulta
+     * antes del insert; si aun así el lote falla por integridad (inserción concurrente),
+     * se reintenta fila por fila para aislar las filas conflictivas.
+     */
+    private void flushBatch(ImportContext context) {
+        if (context.batch.isEmpty()) {
+            return;
+        }
+        Set<String> existingEmails = new HashSet<>(studentRepository.findExistingEmails(context.batchEmails));
+        List<PendingRow> insertable = new ArrayList<>(context.batch.size());
+        for (PendingRow row : context.batch) {
+            if (existingEmails.contains(row.request().getEmail())) {
+                context.reject(row.rowNumber(), row.request().getEmail(), List.of(MSG_EMAIL_EXISTS));
+            } else {
+                insertable.add(row);
+            }
+        }
+
+        try {
+            saveRows(insertable);
+            context.importedRows += insertable.size();
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Lote rechazado por integridad, reintentando fila por fila: {}", e.getMostSpecificCause().getMessage());
+            for (PendingRow row : insertable) {
+                try {
+                    saveRows(List.of(row));
+                    context.importedRows++;
+                } catch (DataIntegrityViolationException rowException) {
+                    context.reject(row.rowNumber(), row.request().getEmail(), List.of(MSG_EMAIL_EXISTS));
+                }
+            }
+        }
+
+        context.batch.clear();
+        context.batchEmails.clear();
+    }
+
+    private void saveRows(List<PendingRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        List<Student> students = new ArrayList<>(rows.size());
+        for (PendingRow row : rows) {
+            students.add(studentMapper.toEntity(row.request()));
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = studentRepository.currentTimestamp();
+            students.forEach(student -> student.markCreated(now));
+            List<Long> ids = studentRepository.saveAll(students).stream().map(Student::getIdStudent).toList();
+            // Dentro de la transacción del lote: el feed guarda sus cambios en el mismo commit
+            if (!ids.isEmpty()) {
+                eventPublisher.publishEvent(StudentsChangedEvent.of(StudentChangeType.CREATED, ids));
+            }
+        });
+        for (Student student : students) {
+            emailUniquenessService.registerEmail(student.getEmail());
+        }
+    }
+
+    private static void trimFields(StudentRequestDTO studentRequestDTO) {
+        if (studentRequestDTO.getName() != null) {
+            studentRequestDTO.setName(studentRequestDTO.getName().trim());
+        }
+        if (studentRequestDTO.getLastname() != null) {
+            studentRequestDTO.setLastname(studentRequestDTO.getLastname().trim());
+        }
+        if (studentRequestDTO.getEmail() != null) {
+            studentRequestDTO.setEmail(studentRequestDTO.getEmail().trim());
+        }
+    }
+
+    private static String stripBom(String line) {
+        return !line.isEmpty() && line.charAt(0) == '\uFEFF' ? line.substring(1) : line;
+    }
+
+
+    /**
+     * Fila válida pendiente de insertar en el lote actual.
+     */
+    private record PendingRow(long rowNumber, StudentRequestDTO request) {
+    }
+
+    /**
+     * Estado mutable de una importación en curso.
+     */
+    private final class ImportContext {
+
+        private final List<PendingRow> batch = new ArrayList<>();
+        private final Set<String> batchEmails = new HashSet<>();
+        private final List<StudentImportErrorDTO> errors = new ArrayList<>();
+        private long totalRows;
+        private long importedRows;
+        private long rejectedRows;
+
+        private void reject(long rowNumber, String email, List<String> messages) {
+            rejectedRows++;
+            if (errors.size() < studentImportProperties.maxReportedErrors()) {
+                errors.add(StudentImportErrorDTO.builder()
+                        .rowNumber(rowNumber)
+                        .email(email)
+                        .messages(messages)
+                        .build());
+            }
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.lta.springboot.student_management.service.impl;
+
+import com.lta.springboot.student_management.config.StudentPurgeProperties;
+import com.lta.springboot.student_management.repository.StudentRepository;
+import com.lta.springboot.student_management.repository.StudentSyncRepository;
+import com.lta.springboot.student_management.service.interfaces.IStudentPurgeService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.function.IntSupplier;
+
+/**
+ * Purgador periódico de estudiantes eliminados lógicamente. Cada lote es una transacción corta de como máximo
+ * {@code batch-size} filas, así nunca mantiene bloqueos largos sobre {@code students} ni genera una transacción
+ * gigante; entre lotes hace una pausa para no competir con el tráfico normal.
+ */
+@Slf4j
+@Service
+public class StudentPurgeServiceImpl implements IStudentPurgeService {
+
+    private final StudentRepository studentRepository;
+    private final StudentSyncRepository studentSyncRepository;
+    private final StudentPurgeProperties studentPurgeProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    public StudentPurgeServiceImpl(StudentRepository studentRepository, StudentSyncRepository studentSyncRepository,
+                                   StudentPurgeProperties studentPurgeProperties,
+                                   PlatformTransactionManager transactionManager) {
+        this.studentRepository = studentRepository;
+        this.studentSyncRepository = studentSyncRepository;
+        this.studentPurgeProperties = studentPurgeProperties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.students.purge.interval:1h}")
+    public int purgeDeleted() {
+        if (!studentPurgeProperties.enabled()) {
+            return 0;
+        }
+        // Reloj de la base de datos, el mismo de deleted_at y de los tombstones
+        LocalDateTime threshold = studentSyncRepository.currentTimestamp().minus(studentPurgeProperties.retention());
+        int batchSize = studentPurgeProperties.batchSize();
+        int students = purgeInBatches(() -> studentRepository.purgeDeletedBefore(threshold, batchSize));
+        int tombstones = purgeInBatches(() -> studentSyncRepository.deleteTombstonesBefore(threshold, batchSize));
+        if (students + tombstones > 0) {
+            log.info("Purgados {} estudiantes eliminados y {} tombstones anteriores a {}", students, tombstones,
+                    threshold);
+        }
+        return students + tombstones;
+    }
+
+    /**
+     * Ejecuta el lote en su propia transacción hasta que borre menos filas que el tamaño de lote.
+     */
+    private int purgeInBatches(IntSupplier batch) {
+        int total = 0;
+        while (true) {
+            Integer deleted = transactionTemplate.execute(status -> batch.getAsInt());
+            total += deleted == null ? 0 : deleted;
+            if (deleted == null || deleted < studentPurgeProperties.batchSize()) {
+                return total;
+            }
+            try {
+                Thread.sleep(studentPurgeProperties.batchPause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return total;
+            }
+        }
+    }
+}
@@ -1,36 +1,116 @@
 package com.lta.springboot.student_management.service.impl;
 
+import com.lta.springboot.student_management.config.ReplicaRoutingDataSource;
+import com.lta.springboot.student_management.config.StudentBulkProperties;
+import com.lta.springboot.student_management.domain.dto.request.StudentBulkPatchRequestDTO;
 import com.lta.springboot.student_management.domain.dto.request.StudentRequestDTO;
+import com.lta.springboot.student_management.domain.dto.request.StudentSearchCriteriaDTO;
+import com.lta.springboot.student_management.domain.dto.response.CursorPageResponseDTO;
+import com.lta.springboot.student_management.domain.dto.response.StudentBulkOutcomeDTO;
+import com.lta.springboot.student_management.domain.dto.response.StudentBulkResultDTO;
 import com.lta.springboot.student_management.domain.dto.response.StudentResponseDTO;
+import com.lta.springboot.student_management.domain.entity.ArchivedStudent;
 import com.lta.springboot.student_management.domain.entity.Student;
+import com.lta.springboot.student_management.domain.enums.StudentBulkStatus;
+import com.lta.springboot.student_management.domain.enums.StudentChangeType;
+import com.lta.springboot.student_management.domain.event.StudentChangedEvent;
+import com.lta.springboot.student_management.domain.event.StudentsChangedEvent;
 import com.lta.springboot.student_management.domain.mapper.StudentMapper;
+import com.lta.springboot.student_management.exception.BadRequestException;
+import com.lta.springboot.student_management.exception.ConflictException;
 import com.lta.springboot.student_management.exception.ResourceNotFoundException;
+import com.lta.springboot.student_management.repository.ArchivedStudentRepository;
 import com.lta.springboot.student_management.repository.StudentRepository;
+import com.lta.springboot.student_management.repository.StudentSpecifications;
+import com.lta.springboot.student_management.service.interfaces.IEmailUniquenessService;
 import com.lta.springboot.student_management.service.interfaces.IStudentService;
+import com.lta.springboot.student_management.util.SingleFlight;
+import io.micrometer.core.annotation.Counted;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
+import static com.lta.springboot.student_management.util.Constants.STUDENTS_CACHE;
+
+/**
+ * Cada operación pública registra su latencia en {@code students.service} y su resultado en
+ * {@code students.service.calls}, etiquetados por método y tipo de excepción. Los aciertos de cache
+ * no llegan hasta aquí, por lo que los tiempos corresponden a trabajo real contra la base de datos.
+ * <p>
+ * Las lecturas concurrentes idénticas comparten una sola consulta: {@link #findStudentById(Long)} mediante
+ * el cache sincronizado y las páginas de {@link #findStudentsPage} mediante {@link SingleFlight}. Cada
+ * escritura confirmada invalida las páginas en curso, de modo que una lectura posterior al commit nunca
+ * recibe el resultado de una consulta iniciada antes. Por la misma razón, con réplicas de lectura esas dos
+ * lecturas compartidas se hacen siempre en el primario ({@link ReplicaRoutingDataSource#readFromPrimary}).
+ */
 @Slf4j
 @Service
+@Timed(value = "students.service", description = "Latencia de las operaciones del servicio de estudiantes")
+@Counted(value = "students.service.calls", description = "Resultado de las operaciones del servicio de estudiantes")
 public class StudentServiceImpl implements IStudentService {
 
 
+    private static final String ID_STUDENT = "idStudent";
+
     private final StudentRepository studentRepository;
     private final StudentMapper studentMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StudentBulkProperties studentBulkProperties;
+    private final IEmailUniquenessService emailUniquenessService;
+    private final ArchivedStudentRepository archivedStudentRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final SingleFlight<PageKey, CursorPageResponseDTO<StudentResponseDTO>> pageReads = new SingleFlight<>();
 
-    public StudentServiceImpl(StudentRepository studentRepository, StudentMapper studentMapper) {
+    public StudentServiceImpl(StudentRepository studentRepository, StudentMapper studentMapper,
+                              ApplicationEventPublisher eventPublisher, StudentBulkProperties studentBulkProperties,
+                              IEmailUniquenessService emailUniquenessService,
+                              ArchivedStudentRepository archivedStudentRepository,
+                              PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
         this.studentRepository = studentRepository;
         this.studentMapper = studentMapper;
+        this.eventPublisher = eventPublisher;
+        this.studentBulkProperties = studentBulkProperties;
+        this.emailUniquenessService = emailUniquenessService;
+        this.archivedStudentRepository = archivedStudentRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        FunctionCounter.builder("students.reads.coalesced", pageReads, SingleFlight::coalescedCount)
+                .description("Lecturas de páginas de estudiantes resueltas con la consulta de otra petición en curso")
+                .register(meterRegistry);
     }
 
 
     /**
      * Recupera todos los estudiantes existentes en la base de datos,
-     * transforma cada entidad {@link Student} a un {@link StudentResponseDTO}
-     * y retorna la lista resultante.
+     * proyectados directamente a {@link StudentResponseDTO} (sin cargar entidades).
      *
      * @return lista de estudiantes como DTOs.
      */
@@ -38,33 +118,130 @@ public class StudentServiceImpl implements IStudentService {
     @Transactional(readOnly = true)
     public List<StudentResponseDTO> findAllStudents() {
         log.info("Obteniendo todos los estudiantes.");
-        List<Student> studentList = studentRepository.findAll();
-        return studentMapper.toStudentResponseList(studentList);
+        return studentRepository.findAllResponses();
     }
 
     /**
-     * Crea un nuevo estudiante en el sistema.
+     * Obtiene una página de estudiantes por cursor (keyset) sobre {@code id_student}.
+     *
+     * @param afterId  cursor para avanzar (exclusivo), null para la primera página
+     * @param beforeId cursor para retroceder (exclusivo), tiene prioridad sobre afterId
+     * @param size     número de estudiantes por página
+     * @return página de estudiantes como DTOs con sus cursores; compartida con las peticiones concurrentes
+     * idénticas, por lo que no debe modificarse
+     */
+    @Override
+    public CursorPageResponseDTO<StudentResponseDTO> findStudentsPage(Long afterId, Long beforeId, int size) {
+        return coalescedPage(new PageKey(afterId, beforeId, size, false), () -> {
+            log.info("Obteniendo página de estudiantes - after: {}, before: {}, size: {}", afterId, beforeId, size);
+            return keysetPage(afterId, beforeId, size,
+                    studentRepository::findResponsesAfter,
+                    studentRepository::findResponsesBefore,
+                    Function.identity());
+        });
+    }
+
+    /**
+     * Con {@code includeArchived} cada página consulta ambas tablas por cursor (cada una por su PK) y mezcla
+     * los resultados por ID; los estudiantes archivados conservan su ID, por lo que el cursor sigue siendo único.
+     *
+     * @param afterId         cursor para avanzar (exclusivo), null para la primera página
+     * @param beforeId        cursor para retroceder (exclusivo), tiene prioridad sobre afterId
+     * @param size            número de estudiantes por página
+     * @param includeArchived true para paginar también sobre {@code students_archive}
+     * @return página de estudiantes como DTOs con sus cursores; compartida con las peticiones concurrentes
+     * idénticas, por lo que no debe modificarse
+     */
+    @Override
+    public CursorPageResponseDTO<StudentResponseDTO> findStudentsPage(Long afterId, Long beforeId, int size,
+                                                                      boolean includeArchived) {
+        if (!includeArchived) {
+            return findStudentsPage(afterId, beforeId, size);
+        }
+        return coalescedPage(new PageKey(afterId, beforeId, size, true), () -> {
+            log.info("Obteniendo página de estudiantes con archivados - after: {}, before: {}, size: {}",
+                    afterId, beforeId, size);
+            Comparator<StudentResponseDTO> byId = Comparator.comparing(StudentResponseDTO::idStudent);
+            return keysetPage(afterId, beforeId, size,
+                    (cursor, limit) -> mergeTiers(
+                            studentRepository.findResponsesAfter(cursor, limit),
+                            archivedStudentRepository.findByIdStudentGreaterThanOrderByIdStudentAsc(cursor, limit),
+                            byId, limit),
+                    (cursor, limit) -> mergeTiers(
+                            studentRepository.findResponsesBefore(cursor, limit),
+                            archivedStudentRepository.findByIdStudentLessThanOrderByIdStudentDesc(cursor, limit),
+                            byId.reversed(), limit),
+                    Function.identity());
+        });
+    }
+
+    /**
+     * Busca estudiantes aplicando los filtros del criterio y pagina el resultado
+     * por cursor (keyset) sobre {@code id_student}, igual que {@link #findStudentsPage}.
+     *
+     * @param criteria filtros de búsqueda
+     * @param afterId  cursor para avanzar (exclusivo), null para la primera página
+     * @param beforeId cursor para retroceder (exclusivo), tiene prioridad sobre afterId
+     * @param size     número de estudiantes por página
+     * @return página de estudiantes que cumplen los filtros
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<StudentResponseDTO> searchStudents(StudentSearchCriteriaDTO criteria, Long afterId,
+                                                                    Long beforeId, int size) {
+        log.info("Buscando estudiantes - name: {}, lastname: {}, email: {}, after: {}, before: {}, size: {}",
+                criteria.getName(), criteria.getLastname(), criteria.getEmail(), afterId, beforeId, size);
+        Specification<Student> filters = StudentSpecifications.matching(criteria);
+        return keysetPage(afterId, beforeId, size,
+                (cursor, limit) -> studentRepository.findBy(filters.and(StudentSpecifications.idGreaterThan(cursor)),
+                        query -> query.sortBy(Sort.by(Sort.Direction.ASC, ID_STUDENT)).limit(limit.max()).all()),
+                (cursor, limit) -> studentRepository.findBy(filters.and(StudentSpecifications.idLessThan(cursor)),
+                        query -> query.sortBy(Sort.by(Sort.Direction.DESC, ID_STUDENT)).limit(limit.max()).all()),
+                studentMapper::toStudentResponseList);
+    }
+
+    /**
+     * Crea un nuevo estudiante en el sistema. Este método y los de actualización y eliminación publican un
+     * {@link StudentChangedEvent}, que se audita de forma asíncrona una vez confirmada la transacción.
      *
      * @param studentRequestDTO datos del estudiante a crear
      * @return StudentResponseDTO con los datos del estudiante creado
+     * @throws ConflictException si el email ya está registrado
      */
     @Override
     @Transactional
+    @CachePut(cacheNames = STUDENTS_CACHE, key = "#result.idStudent")
     public StudentResponseDTO createStudent(StudentRequestDTO studentRequestDTO) {
         log.info("Creando un nuevo estudiante con email: {}", studentRequestDTO.getEmail());
+        // Verificación previa: un email duplicado no llega a intentar el INSERT
+        if (emailUniquenessService.isEmailTaken(studentRequestDTO.getEmail(), null)) {
+            throw duplicateEmail(studentRequestDTO.getEmail());
+        }
         // Convertir DTO a entidad
         Student student = studentMapper.toEntity(studentRequestDTO);
+        student.markCreated(studentRepository.currentTimestamp());
 
-        // Guardar en la BD
-        Student savedStudent = studentRepository.save(student);
+        // Guardar en la BD. Con IDs por secuencia el INSERT se difiere hasta el flush; se fuerza aquí para que
+        // un email duplicado se detecte dentro de este bloque
+        Student savedStudent;
+        try {
+            savedStudent = studentRepository.saveAndFlush(student);
+        } catch (DataIntegrityViolationException e) {
+            throw duplicateEmail(studentRequestDTO.getEmail());
+        }
+        emailUniquenessService.registerEmail(savedStudent.getEmail());
         log.info("Estudiante creado exitosamente con ID: {}", savedStudent.getIdStudent());
+        eventPublisher.publishEvent(StudentChangedEvent.of(StudentChangeType.CREATED, savedStudent.getIdStudent()));
 
         // Convertir entidad guardada a DTO de respuesta
         return studentMapper.toStudentResponseDTO(savedStudent);
     }
 
     /**
-     * Busca un estudiante por su ID.
+     * Busca un estudiante por su ID. El resultado se guarda en el cache {@code students},
+     * por lo que las lecturas repetidas no consultan la base de datos. El cache es sincronizado: las
+     * peticiones concurrentes por un ID ausente esperan la misma consulta, y las escrituras de ese ID
+     * ({@code @CachePut}/{@code @CacheEvict}, aplicados tras el commit) esperan a que termine y la reemplazan.
      *
      * @param id identificador único del estudiante
      * @return StudentResponseDTO con los datos del estudiante encontrado
@@ -72,53 +249,308 @@ public class StudentServiceImpl implements IStudentService {
      */
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = STUDENTS_CACHE, key = "#id", sync = true)
     public StudentResponseDTO findStudentById(Long id) {
         log.info("Buscando estudiante con ID: {}", id);
-        Student student = studentRepository.findById(id)
+        // El resultado queda en el cache compartido: no se lee de una réplica que aún no aplicó la última escritura
+        Student student = ReplicaRoutingDataSource.readFromPrimary(() -> studentRepository.findById(id))
                 .orElseThrow(() -> new ResourceNotFoundException("Estudiante con ID " + id + " no encontrado"));
         log.info("Estudiante encontrado: {} {}", student.getName(), student.getLastname());
         return studentMapper.toStudentResponseDTO(student);
     }
 
     /**
-     * Actualiza los datos de un estudiante existente.
+     * Busca primero entre los estudiantes vigentes y luego en el archivo. No usa el cache: la lectura solo de
+     * vigentes es {@link #findStudentById(Long)}, que los llamadores invocan directamente para pasar por el proxy.
+     *
+     * @param id identificador único del estudiante
+     * @return StudentResponseDTO con los datos del estudiante (con {@code archivedAt} si está archivado)
+     * @throws ResourceNotFoundException si no se encuentra el estudiante con el ID especificado
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public StudentResponseDTO findStudentIncludingArchived(Long id) {
+        log.info("Buscando estudiante con ID: {} (incluyendo archivados)", id);
+        return studentRepository.findById(id)
+                .map(studentMapper::toStudentResponseDTO)
+                .or(() -> archivedStudentRepository.findById(id).map(studentMapper::toArchivedStudentResponseDTO))
+                .orElseThrow(() -> new ResourceNotFoundException("Estudiante con ID " + id + " no encontrado"));
+    }
+
+    /**
+     * Actualiza los datos de un estudiante existente con una sola sentencia UPDATE ... RETURNING,
+     * sin consultar antes la entidad. La sentencia solo se aplica si la versión enviada por el cliente
+     * sigue vigente (bloqueo optimista), así que dos ediciones concurrentes no se sobrescriben: la segunda
+     * recibe un conflicto y debe recargar los datos. Solo en ese caso se consulta si el estudiante existe.
      *
      * @param id                identificador del estudiante a actualizar
-     * @param studentRequestDTO datos actualizados del estudiante
+     * @param studentRequestDTO datos actualizados del estudiante y versión leída
      * @return StudentResponseDTO con los datos del estudiante actualizado
+     * @throws BadRequestException       si no se envía la versión
      * @throws ResourceNotFoundException si no se encuentra el estudiante con el ID especificado
+     * @throws ConflictException         si otro usuario modificó el estudiante o el email ya está registrado
      */
     @Override
     @Transactional
+    @CachePut(cacheNames = STUDENTS_CACHE, key = "#id")
     public StudentResponseDTO updateStudent(Long id, StudentRequestDTO studentRequestDTO) {
-        log.info("Actualizando estudiante con ID: {}", id);
-        Student student = studentRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Estudiante con ID " + id + " no encontrado"));
+        log.info("Actualizando estudiante con ID: {} (versión {})", id, studentRequestDTO.getVersion());
+        if (studentRequestDTO.getVersion() == null) {
+            throw new BadRequestException("La versión del estudiante es obligatoria para actualizarlo");
+        }
+        if (emailUniquenessService.isEmailTaken(studentRequestDTO.getEmail(), id)) {
+            throw duplicateEmail(studentRequestDTO.getEmail());
+        }
 
-        studentMapper.updateEntityFromDTO(student, studentRequestDTO);
+        Optional<Student> updated;
+        try {
+            updated = studentRepository.updateById(id, studentRequestDTO.getVersion(), studentRequestDTO.getName(),
+                    studentRequestDTO.getLastname(), studentRequestDTO.getEmail());
+        } catch (DataIntegrityViolationException e) {
+            throw duplicateEmail(studentRequestDTO.getEmail());
+        }
+        Student updatedStudent = updated.orElseThrow(() -> studentRepository.existsById(id)
+                ? new ConflictException("El estudiante con ID " + id
+                        + " fue modificado por otro usuario. Recargue sus datos e intente de nuevo")
+                : new ResourceNotFoundException("Estudiante con ID " + id + " no encontrado"));
 
-        Student updatedStudent = studentRepository.save(student);
-        log.info("Estudiante actualizado exitosamente: {} {} {}", student.getIdStudent(), student.getName(),
-                student.getLastname());
+        emailUniquenessService.registerEmail(updatedStudent.getEmail());
+        log.info("Estudiante actualizado exitosamente: {} {} {}", updatedStudent.getIdStudent(),
+                updatedStudent.getName(), updatedStudent.getLastname());
+        eventPublisher.publishEvent(StudentChangedEvent.of(StudentChangeType.UPDATED, id));
 
         return studentMapper.toStudentResponseDTO(updatedStudent);
     }
 
     /**
-     * Elimina un estudiante del sistema por su ID.
+     * Elimina lógicamente un estudiante por su ID con una sola sentencia UPDATE ... RETURNING que asigna
+     * {@code deleted_at}. La fila queda como tombstone (visible en la sincronización incremental) hasta que
+     * el purgador la borre al cumplirse la retención.
      *
      * @param id identificador del estudiante a eliminar
+     * @return StudentResponseDTO con los datos del estudiante eliminado
      * @throws ResourceNotFoundException si no se encuentra el estudiante con el ID especificado
      */
     @Override
     @Transactional
-    public void deleteStudentById(Long id) {
+    @CacheEvict(cacheNames = STUDENTS_CACHE, key = "#id")
+    public StudentResponseDTO deleteStudentById(Long id) {
         log.info("Eliminando estudiante con ID: {}", id);
-        Student student = studentRepository.findById(id)
+        Student deletedStudent = studentRepository.softDeleteById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Estudiante con ID " + id + " no encontrado"));
 
-        studentRepository.deleteById(id);
         log.info("Estudiante eliminado exitosamente - ID: {}, Nombre: {} {}",
-                id, student.getName(), student.getLastname());
+                id, deletedStudent.getName(), deletedStudent.getLastname());
+        eventPublisher.publishEvent(StudentChangedEvent.of(StudentChangeType.DELETED, id));
+
+        return studentMapper.toStudentResponseDTO(deletedStudent);
+    }
+
+    /**
+     * Restaura un estudiante eliminado lógicamente con una sola sentencia UPDATE ... RETURNING.
+     *
+     * @param id identificador del estudiante a restaurar
+     * @return StudentResponseDTO con los datos del estudiante restaurado
+     * @throws ResourceNotFoundException si no existe un estudiante eliminado con el ID especificado
+     * @throws ConflictException         si su email fue registrado por otro estudiante mientras estaba eliminado
+     */
+    @Override
+    @Transactional
+    @CachePut(cacheNames = STUDENTS_CACHE, key = "#id")
+    public StudentResponseDTO restoreStudent(Long id) {
+        log.info("Restaurando estudiante con ID: {}", id);
+        Optional<Student> restored;
+        try {
+            restored = studentRepository.restoreById(id);
+        } catch (DataIntegrityViolationException e) {
+            throw new ConflictException("No es posible restaurar el estudiante con ID " + id
+                    + ": su email ya está registrado por otro estudiante");
+        }
+        Student restoredStudent = restored.orElseThrow(() ->
+                new ResourceNotFoundException("No existe un estudiante eliminado con ID " + id));
+
+        emailUniquenessService.registerEmail(restoredStudent.getEmail());
+        log.info("Estudiante restaurado exitosamente con ID: {}", id);
+        eventPublisher.publishEvent(StudentChangedEvent.of(StudentChangeType.RESTORED, id));
+
+        return studentMapper.toStudentResponseDTO(restoredStudent);
+    }
+
+    /**
+     * Elimina lógicamente en bloque con un único UPDATE ... WHERE id IN (...) RETURNING id, de modo que el costo
+     * es una sentencia sin importar cuántos estudiantes se eliminen. Se limpia todo el cache de estudiantes.
+     *
+     * @param ids identificadores a eliminar
+     * @return resultado por estudiante
+     * @throws BadRequestException si se superan {@code app.students.bulk.max-ids} estudiantes
+     */
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = STUDENTS_CACHE, allEntries = true)
+    public StudentBulkResultDTO deleteStudents(Collection<Long> ids) {
+        Set<Long> requested = distinctIds(ids);
+        log.info("Eliminando en bloque {} estudiantes", requested.size());
+
+        List<Long> deleted = studentRepository.softDeleteAllById(requested);
+        log.info("Eliminación en bloque finalizada: {} de {} estudiantes", deleted.size(), requested.size());
+        publishChanges(StudentChangeType.DELETED, deleted);
+
+        return bulkResult(requested, deleted, StudentBulkStatus.DELETED);
+    }
+
+    /**
+     * Modifica en bloque con un único UPDATE ... WHERE id IN (...) RETURNING id. Cuando se usa un filtro,
+     * primero se consultan solo los IDs que lo cumplen. Se limpia todo el cache de estudiantes.
+     *
+     * @param patch estudiantes a modificar y valores nuevos
+     * @return resultado por estudiante
+     * @throws BadRequestException si se superan {@code app.students.bulk.max-ids} estudiantes
+     */
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = STUDENTS_CACHE, allEntries = true)
+    public StudentBulkResultDTO patchStudents(StudentBulkPatchRequestDTO patch) {
+        StudentSearchCriteriaDTO filter = patch.getFilter();
+        Set<Long> requested = distinctIds(filter != null && filter.hasFilters()
+                ? studentRepository.findIdsMatching(StudentSpecifications.matching(filter),
+                studentBulkProperties.maxIds() + 1)
+                : patch.getIds());
+        log.info("Modificando en bloque {} estudiantes", requested.size());
+
+        List<Long> updated = studentRepository.patchAllById(requested, patch.getName(), patch.getLastname());
+        log.info("Modificación en bloque finalizada: {} de {} estudiantes", updated.size(), requested.size());
+        publishChanges(StudentChangeType.UPDATED, updated);
+
+        return bulkResult(requested, updated, StudentBulkStatus.UPDATED);
+    }
+
+    /**
+     * El único índice único de students es el del email.
+     */
+    private ConflictException duplicateEmail(String email) {
+        return new ConflictException("El email " + email + " ya está registrado por otro estudiante");
+    }
+
+    private Set<Long> distinctIds(Collection<Long> ids) {
+        Set<Long> distinct = ids == null ? Set.of() : new LinkedHashSet<>(ids);
+        if (distinct.size() > studentBulkProperties.maxIds()) {
+            throw new BadRequestException("Una operación masiva admite como máximo "
+                    + studentBulkProperties.maxIds() + " estudiantes.");
+        }
+        return distinct;
+    }
+
+    /**
+     * Un solo evento para toda la operación: la auditoría y el feed lo procesan en lotes.
+     */
+    private void publishChanges(StudentChangeType type, List<Long> ids) {
+        if (!ids.isEmpty()) {
+            eventPublisher.publishEvent(StudentsChangedEvent.of(type, ids));
+        }
+    }
+
+    /**
+     * Invalida las páginas en curso una vez confirmado cualquier cambio de estudiantes (o de inmediato si
+     * el cambio se publicó fuera de una transacción).
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true,
+            classes = {StudentChangedEvent.class, StudentsChangedEvent.class})
+    void onStudentsChanged() {
+        pageReads.invalidate();
+    }
+
+    /**
+     * Ejecuta la consulta de la página en una transacción de solo lectura propia, o espera la de una petición
+     * idéntica en curso. La transacción se abre solo en quien consulta, así que quienes esperan no ocupan
+     * conexiones del pool. La consulta va al primario: quien espera puede ser una petición que debe leer sus
+     * propias escrituras.
+     */
+    private CursorPageResponseDTO<StudentResponseDTO> coalescedPage(PageKey key,
+                                                                    Supplier<CursorPageResponseDTO<StudentResponseDTO>> query) {
+        return pageReads.execute(key, () -> ReplicaRoutingDataSource.readFromPrimary(
+                () -> readOnlyTransaction.execute(status -> query.get())));
+    }
+
+    private StudentBulkResultDTO bulkResult(Set<Long> requested, List<Long> affectedIds, StudentBulkStatus status) {
+        Set<Long> affected = new HashSet<>(affectedIds);
+        List<StudentBulkOutcomeDTO> outcomes = new ArrayList<>(requested.size());
+        for (Long id : requested) {
+            outcomes.add(new StudentBulkOutcomeDTO(id, affected.contains(id) ? status : StudentBulkStatus.NOT_FOUND));
+        }
+        return StudentBulkResultDTO.builder()
+                .requested(requested.size())
+                .affected(affected.size())
+                .outcomes(outcomes)
+                .build();
+    }
+
+    /**
+     * Mezcla las filas vigentes y archivadas ya ordenadas por la consulta y conserva las primeras {@code limit}.
+     */
+    private List<StudentResponseDTO> mergeTiers(List<StudentResponseDTO> students, List<ArchivedStudent> archived,
+                                                Comparator<StudentResponseDTO> order, Limit limit) {
+        List<StudentResponseDTO> merged = new ArrayList<>(students.size() + archived.size());
+        merged.addAll(students);
+        archived.forEach(archivedStudent -> merged.add(studentMapper.toArchivedStudentResponseDTO(archivedStudent)));
+        merged.sort(order);
+        return merged.size() > limit.max() ? merged.subList(0, limit.max()) : merged;
+    }
+
+    /**
+     * Obtiene una página por cursor (keyset) sobre {@code id_student}.
+     * Se consulta una fila adicional para saber si existe una página más allá de la actual,
+     * de modo que el costo de la consulta no depende del tamaño de la tabla.
+     *
+     * @param afterId     cursor para avanzar (exclusivo), null para la primera página
+     * @param beforeId    cursor para retroceder (exclusivo), tiene prioridad sobre afterId
+     * @param size        número de estudiantes por página
+     * @param forward     consulta de filas con ID mayor al cursor, en orden ascendente
+     * @param backward    consulta de filas con ID menor al cursor, en orden descendente
+     * @param toResponses conversión de las filas de la página a DTOs
+     * @param <R>         tipo de las filas consultadas
+     */
+    private <R> CursorPageResponseDTO<StudentResponseDTO> keysetPage(Long afterId, Long beforeId, int size,
+                                                                     BiFunction<Long, Limit, List<R>> forward,
+                                                                     BiFunction<Long, Limit, List<R>> backward,
+                                                                     Function<List<R>, List<StudentResponseDTO>> toResponses) {
+        Limit limit = Limit.of(size + 1);
+
+        if (beforeId != null) {
+            List<R> rows = backward.apply(beforeId, limit);
+            if (rows.isEmpty()) {
+                return keysetPage(null, null, size, forward, backward, toResponses);
+            }
+            boolean hasPrevious = rows.size() > size;
+            List<R> pageRows = new ArrayList<>(hasPrevious ? rows.subList(0, size) : rows);
+            Collections.reverse(pageRows);
+            return buildPage(toResponses.apply(pageRows), size, hasPrevious, true);
+        }
+
+        List<R> rows = forward.apply(afterId == null ? 0L : afterId, limit);
+        boolean hasNext = rows.size() > size;
+        List<R> pageRows = hasNext ? rows.subList(0, size) : rows;
+        return buildPage(toResponses.apply(pageRows), size, afterId != null && !pageRows.isEmpty(), hasNext);
+    }
+
+    /**
+     * Construye la página de respuesta calculando los cursores a partir
+     * del primer y último estudiante de la página.
+     */
+    private CursorPageResponseDTO<StudentResponseDTO> buildPage(List<StudentResponseDTO> content, int size,
+                                                                boolean hasPrevious, boolean hasNext) {
+        return CursorPageResponseDTO.<StudentResponseDTO>builder()
+                .content(content)
+                .size(size)
+                .hasPrevious(hasPrevious)
+                .previousCursor(hasPrevious ? content.getFirst().idStudent() : null)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? content.getLast().idStudent() : null)
+                .build();
+    }
+
+    /**
+     * Clave de agrupación de las lecturas de páginas.
+     */
+    private record PageKey(Long afterId, Long beforeId, int size, boolean includeArchived) {
     }
 }
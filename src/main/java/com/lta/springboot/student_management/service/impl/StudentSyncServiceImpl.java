@@ -0,0 +1,109 @@
+package com.lta.springboot.student_management.service.impl;
+
+import com.lta.springboot.student_management.config.StudentPurgeProperties;
+import com.lta.springboot.student_management.config.StudentSyncProperties;
+import com.lta.springboot.student_management.domain.dto.response.StudentResponseDTO;
+import com.lta.springboot.student_management.domain.dto.response.StudentSyncPageResponseDTO;
+import com.lta.springboot.student_management.repository.StudentSyncRepository;
+import com.lta.springboot.student_management.repository.StudentSyncRow;
+import com.lta.springboot.student_management.service.interfaces.IStudentSyncService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sincronización incremental por cursor {@code (updated_at, id_student)}. El cursor es estable: las filas
+ * con la misma fecha se desempatan por ID y una fila modificada de nuevo simplemente reaparece más adelante.
+ * <p>
+ * Solo se informan cambios anteriores a {@code ahora - safety-lag}. Las fechas se asignan antes del commit,
+ * así que sin ese margen un cliente podría avanzar su cursor más allá de una fila que todavía no era
+ * visible y no recibirla nunca. {@code ahora} es la hora de la base de datos, el mismo reloj de
+ * {@code updated_at} y de los tombstones: con la hora de la JVM, un desfase entre los relojes se comería el margen.
+ * <p>
+ * Los tombstones se purgan tras {@code app.students.purge.retention}: un cursor más antiguo que eso puede haberse
+ * perdido eliminaciones, así que en lugar de cambios se responde {@code reset} (sincronización completa).
+ */
+@Slf4j
+@Service
+public class StudentSyncServiceImpl implements IStudentSyncService {
+
+    // Cursor inicial de una sincronización completa: anterior a cualquier updated_at
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final StudentSyncRepository studentSyncRepository;
+    private final StudentSyncProperties studentSyncProperties;
+    private final StudentPurgeProperties studentPurgeProperties;
+
+    public StudentSyncServiceImpl(StudentSyncRepository studentSyncRepository,
+                                  StudentSyncProperties studentSyncProperties,
+                                  StudentPurgeProperties studentPurgeProperties) {
+        this.studentSyncRepository = studentSyncRepository;
+        this.studentSyncProperties = studentSyncProperties;
+        this.studentPurgeProperties = studentPurgeProperties;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public StudentSyncPageResponseDTO findChanges(LocalDateTime since, Long afterId, Integer size) {
+        int pageSize = studentSyncProperties.resolveSize(size);
+        LocalDateTime now = studentSyncRepository.currentTimestamp();
+        LocalDateTime until = now.minus(studentSyncProperties.safetyLag());
+        if (since != null && studentPurgeProperties.enabled()
+                && since.isBefore(now.minus(studentPurgeProperties.retention()))) {
+            log.info("Cursor de sincronización {} anterior a la retención de {}: se requiere sincronización completa",
+                    since, studentPurgeProperties.retention());
+            return StudentSyncPageResponseDTO.builder()
+                    .changed(List.of())
+                    .deleted(List.of())
+                    .syncedUntil(until)
+                    .reset(true)
+                    .build();
+        }
+        LocalDateTime cursorSince = since == null ? BEGINNING : since;
+        long cursorId = since == null || afterId == null ? 0L : afterId;
+        log.info("Sincronización de estudiantes - since: {}, afterId: {}, until: {}, size: {}",
+                since, afterId, until, pageSize);
+
+        List<StudentSyncRow> rows = cursorSince.isBefore(until)
+                ? studentSyncRepository.findChanges(cursorSince, cursorId, until, pageSize + 1)
+                : List.of();
+        boolean hasMore = rows.size() > pageSize;
+        List<StudentSyncRow> pageRows = hasMore ? rows.subList(0, pageSize) : rows;
+
+        List<StudentResponseDTO> changed = new ArrayList<>(pageRows.size());
+        List<Long> deleted = new ArrayList<>();
+        for (StudentSyncRow row : pageRows) {
+            if (row.deleted()) {
+                deleted.add(row.idStudent());
+            } else {
+                changed.add(toResponse(row));
+            }
+        }
+        // Sin cambios el cursor no avanza: el cliente repite la misma petición en la próxima sincronización
+        StudentSyncRow last = pageRows.isEmpty() ? null : pageRows.getLast();
+        return StudentSyncPageResponseDTO.builder()
+                .changed(changed)
+                .deleted(deleted)
+                .hasMore(hasMore)
+                .nextSince(last != null ? last.changedAt() : since)
+                .nextAfterId(last != null ? last.idStudent() : (since == null ? null : cursorId))
+                .syncedUntil(until)
+                .build();
+    }
+
+    private static StudentResponseDTO toResponse(StudentSyncRow row) {
+        return StudentResponseDTO.builder()
+                .idStudent(row.idStudent())
+                .name(row.name())
+                .lastname(row.lastname())
+                .email(row.email())
+                .createdAt(row.createdAt())
+                .updatedAt(row.changedAt())
+                .version(row.version())
+                .build();
+    }
+}
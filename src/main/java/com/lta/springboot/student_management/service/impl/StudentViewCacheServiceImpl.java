@@ -0,0 +1,84 @@
+package com.lta.springboot.student_management.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.lta.springboot.student_management.config.ReplicaRoutingDataSource;
+import com.lta.springboot.student_management.config.StudentViewCacheProperties;
+import com.lta.springboot.student_management.domain.dto.request.StudentSearchCriteriaDTO;
+import com.lta.springboot.student_management.domain.event.StudentChangedEvent;
+import com.lta.springboot.student_management.domain.event.StudentsChangedEvent;
+import com.lta.springboot.student_management.repository.TableVersion;
+import com.lta.springboot.student_management.service.interfaces.IStudentViewCacheService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Cache de los fragmentos HTML renderizados del listado de estudiantes, acotado por la memoria estimada
+ * de los fragmentos (dos bytes por carácter) y con expiración por TTL.
+ * <p>
+ * Cada escritura de estudiantes confirmada en esta instancia descarta todos los fragmentos y abre una
+ * nueva generación; la clave incluye además la versión de la tabla, así que las escrituras de otras
+ * instancias o hechas directamente en la base de datos también dejan de servir los fragmentos anteriores.
+ * Las consultas del renderizado se hacen en el primario: un fragmento leído de una réplica atrasada se serviría
+ * a todos, incluso a quien acaba de escribir.
+ */
+@Service
+public class StudentViewCacheServiceImpl implements IStudentViewCacheService {
+
+    static final String CACHE_NAME = "studentListView";
+    static final String CACHE_MANAGER_NAME = "studentViewCache";
+
+    private final StudentViewCacheProperties studentViewCacheProperties;
+    private final Cache<TableKey, String> tables;
+    private final AtomicLong generation = new AtomicLong();
+
+    public StudentViewCacheServiceImpl(StudentViewCacheProperties studentViewCacheProperties,
+                                       MeterRegistry meterRegistry) {
+        this.studentViewCacheProperties = studentViewCacheProperties;
+        this.tables = Caffeine.newBuilder()
+                .maximumWeight(studentViewCacheProperties.maxSize().toBytes())
+                .weigher((TableKey key, String html) -> html.length() * 2)
+                .expireAfterWrite(studentViewCacheProperties.expireAfterWrite())
+                .recordStats()
+                .build();
+        // Mismas etiquetas que los caches de Spring (CacheMetricsRegistrar): Prometheus exige que todas las
+        // series de un mismo nombre cache.* tengan las mismas claves
+        CaffeineCacheMetrics.monitor(meterRegistry, tables, CACHE_NAME,
+                Tags.of("cache.manager", CACHE_MANAGER_NAME, "name", CACHE_NAME));
+    }
+
+    @Override
+    public String getTable(TableKey key, Supplier<String> renderer) {
+        if (!studentViewCacheProperties.enabled()) {
+            return renderer.get();
+        }
+        return tables.get(key, k -> ReplicaRoutingDataSource.readFromPrimary(renderer));
+    }
+
+    @Override
+    public TableKey tableKey(TableVersion version, StudentSearchCriteriaDTO criteria, Long afterId, Long beforeId,
+                             int size) {
+        return new TableKey(generation.get(), version.version(),
+                criteria.getName(), criteria.getLastname(), criteria.getEmail(),
+                criteria.getCreatedFrom(), criteria.getCreatedTo(), criteria.getUpdatedFrom(), criteria.getUpdatedTo(),
+                afterId, beforeId, size);
+    }
+
+    /**
+     * Descarta los fragmentos una vez confirmado cualquier cambio de estudiantes (o de inmediato si el
+     * cambio se publicó fuera de una transacción).
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true,
+            classes = {StudentChangedEvent.class, StudentsChangedEvent.class})
+    void onStudentsChanged() {
+        generation.incrementAndGet();
+        tables.invalidateAll();
+    }
+}
@@ -0,0 +1,25 @@
+package com.lta.springboot.student_management.service.impl;
+
+import com.lta.springboot.student_management.repository.TableVersion;
+import com.lta.springboot.student_management.repository.TableVersionRepository;
+import com.lta.springboot.student_management.service.interfaces.ITableVersionService;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+import static com.lta.springboot.student_management.util.Constants.STUDENTS_TABLE;
+
+@Service
+public class TableVersionServiceImpl implements ITableVersionService {
+
+    private final TableVersionRepository tableVersionRepository;
+
+    public TableVersionServiceImpl(TableVersionRepository tableVersionRepository) {
+        this.tableVersionRepository = tableVersionRepository;
+    }
+
+    @Override
+    public Optional<TableVersion> findStudentsVersion() {
+        return tableVersionRepository.findByTableName(STUDENTS_TABLE);
+    }
+}
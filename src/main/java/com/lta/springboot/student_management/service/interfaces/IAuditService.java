@@ -0,0 +1,43 @@
+package com.lta.springboot.student_management.service.interfaces;
+
+import com.lta.springboot.student_management.domain.event.StudentChangedEvent;
+import com.lta.springboot.student_management.domain.event.StudentsChangedEvent;
+import com.lta.springboot.student_management.repository.AuditLogEntry;
+
+import java.util.List;
+
+public interface IAuditService {
+
+    /**
+     * Encola una entrada de auditoría para que sea guardada en segundo plano.
+     * No bloquea salvo que la cola esté llena, en cuyo caso espera como máximo
+     * {@code app.audit.offer-timeout} antes de descartar la entrada.
+     *
+     * @param entry entrada a registrar
+     * @return true si la entrada fue encolada, false si fue descartada
+     */
+    boolean record(AuditLogEntry entry);
+
+    /**
+     * Encola varias entradas. Si la cola se llena espera como máximo {@code app.audit.offer-timeout} en
+     * total (no por entrada) y descarta las que no alcanzaron a encolarse.
+     *
+     * @param entries entradas a registrar, en orden
+     * @return número de entradas encoladas
+     */
+    int recordAll(List<AuditLogEntry> entries);
+
+    /**
+     * Registra el cambio de un estudiante una vez confirmada la transacción que lo produjo.
+     *
+     * @param event cambio realizado
+     */
+    void onStudentChanged(StudentChangedEvent event);
+
+    /**
+     * Registra el cambio de cada estudiante de una operación masiva una vez confirmada la transacción.
+     *
+     * @param event cambio masivo realizado
+     */
+    void onStudentsChanged(StudentsChangedEvent event);
+}
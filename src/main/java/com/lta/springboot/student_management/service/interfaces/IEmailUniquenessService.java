@@ -0,0 +1,24 @@
+package com.lta.springboot.student_management.service.interfaces;
+
+/**
+ * Verificación previa de emails duplicados, antes de intentar escribir en la tabla students.
+ */
+public interface IEmailUniquenessService {
+
+    /**
+     * Indica si el email ya está registrado por otro estudiante. Solo consulta la base de datos
+     * cuando el filtro en memoria no descarta el email.
+     *
+     * @param email             email a verificar
+     * @param excludedIdStudent estudiante que se está actualizando (su propio email no cuenta), o null al crear
+     * @return true si otro estudiante tiene ese email
+     */
+    boolean isEmailTaken(String email, Long excludedIdStudent);
+
+    /**
+     * Agrega al filtro un email recién guardado.
+     *
+     * @param email email registrado
+     */
+    void registerEmail(String email);
+}
@@ -0,0 +1,14 @@
+package com.lta.springboot.student_management.service.interfaces;
+
+/**
+ * Traslado de estudiantes inactivos de {@code students} a {@code students_archive}.
+ */
+public interface IStudentArchiveService {
+
+    /**
+     * Mueve, en lotes, los estudiantes vigentes sin modificaciones desde hace más de la antigüedad configurada.
+     *
+     * @return número de estudiantes archivados
+     */
+    int archiveInactive();
+}
@@ -0,0 +1,42 @@
+package com.lta.springboot.student_management.service.interfaces;
+
+import com.lta.springboot.student_management.domain.event.StudentChangedEvent;
+import com.lta.springboot.student_management.domain.event.StudentsChangedEvent;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Feed de cambios de estudiantes: guarda cada cambio con un offset persistente y lo entrega
+ * a los consumidores suscritos por Server-Sent Events.
+ */
+public interface IStudentChangeFeedService {
+
+    /**
+     * Agrega el cambio al feed en la misma transacción en que se produjo; los suscriptores
+     * lo reciben una vez confirmada.
+     *
+     * @param event cambio realizado
+     */
+    void onStudentChanged(StudentChangedEvent event);
+
+    /**
+     * Agrega al feed, en la misma transacción, el cambio de cada estudiante de una operación masiva.
+     *
+     * @param event cambio masivo realizado
+     */
+    void onStudentsChanged(StudentsChangedEvent event);
+
+    /**
+     * Suscribe un consumidor al feed a partir del offset indicado.
+     *
+     * @param afterId último offset recibido por el consumidor, o null para recibir solo los cambios nuevos
+     * @return emisor SSE de los cambios
+     */
+    SseEmitter subscribe(Long afterId);
+
+    /**
+     * Elimina los cambios más antiguos que la retención configurada.
+     *
+     * @return número de cambios eliminados
+     */
+    int purgeExpired();
+}
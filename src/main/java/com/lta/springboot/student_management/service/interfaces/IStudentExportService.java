@@ -0,0 +1,20 @@
+package com.lta.springboot.student_management.service.interfaces;
+
+import com.lta.springboot.student_management.domain.enums.StudentFileFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface IStudentExportService {
+
+    /**
+     * Exporta todos los estudiantes escribiéndolos directamente en el stream de salida,
+     * sin construir la lista completa en memoria.
+     *
+     * @param outputStream destino de la exportación
+     * @param format       formato de salida
+     * @return número de estudiantes exportados
+     * @throws IOException si falla la escritura en el stream
+     */
+    long exportStudents(OutputStream outputStream, StudentFileFormat format) throws IOException;
+}
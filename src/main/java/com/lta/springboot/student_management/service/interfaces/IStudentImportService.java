@@ -0,0 +1,19 @@
+package com.lta.springboot.student_management.service.interfaces;
+
+import com.lta.springboot.student_management.domain.dto.response.StudentImportResultDTO;
+import com.lta.springboot.student_management.domain.enums.StudentFileFormat;
+
+import java.io.InputStream;
+
+public interface IStudentImportService {
+
+    /**
+     * Importa estudiantes desde un archivo CSV o JSON Lines, leyéndolo de forma incremental.
+     * Las filas inválidas o con email duplicado se reportan individualmente sin abortar la importación.
+     *
+     * @param inputStream contenido del archivo
+     * @param format      formato del archivo
+     * @return resumen de la importación con el detalle de las filas rechazadas
+     */
+    StudentImportResultDTO importStudents(InputStream inputStream, StudentFileFormat format);
+}
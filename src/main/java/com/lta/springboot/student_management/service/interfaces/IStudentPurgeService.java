@@ -0,0 +1,14 @@
+package com.lta.springboot.student_management.service.interfaces;
+
+/**
+ * Borrado físico de los estudiantes eliminados lógicamente una vez cumplida la retención.
+ */
+public interface IStudentPurgeService {
+
+    /**
+     * Borra, en lotes, los estudiantes eliminados y los tombstones más antiguos que la retención configurada.
+     *
+     * @return número de filas borradas
+     */
+    int purgeDeleted();
+}
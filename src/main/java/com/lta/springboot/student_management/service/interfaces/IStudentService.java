@@ -1,8 +1,13 @@
 package com.lta.springboot.student_management.service.interfaces;
 
+import com.lta.springboot.student_management.domain.dto.request.StudentBulkPatchRequestDTO;
 import com.lta.springboot.student_management.domain.dto.request.StudentRequestDTO;
+import com.lta.springboot.student_management.domain.dto.request.StudentSearchCriteriaDTO;
+import com.lta.springboot.student_management.domain.dto.response.CursorPageResponseDTO;
+import com.lta.springboot.student_management.domain.dto.response.StudentBulkResultDTO;
 import com.lta.springboot.student_management.domain.dto.response.StudentResponseDTO;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface IStudentService {
@@ -14,6 +19,43 @@ public interface IStudentService {
      */
     List<StudentResponseDTO> findAllStudents();
 
+    /**
+     * Obtiene una página de estudiantes usando paginación por cursor (keyset) sobre el ID.
+     * Si se indica {@code beforeId} se retorna la página anterior a ese cursor,
+     * de lo contrario la página siguiente a {@code afterId} (o la primera si es null).
+     *
+     * @param afterId  cursor para avanzar: ID del último estudiante de la página actual
+     * @param beforeId cursor para retroceder: ID del primer estudiante de la página actual
+     * @param size     número de estudiantes por página
+     * @return página de estudiantes con sus cursores de navegación
+     */
+    CursorPageResponseDTO<StudentResponseDTO> findStudentsPage(Long afterId, Long beforeId, int size);
+
+    /**
+     * Igual que {@link #findStudentsPage(Long, Long, int)}, incluyendo opcionalmente los estudiantes archivados.
+     *
+     * @param afterId         cursor para avanzar (exclusivo), null para la primera página
+     * @param beforeId        cursor para retroceder (exclusivo), tiene prioridad sobre afterId
+     * @param size            número de estudiantes por página
+     * @param includeArchived true para paginar también sobre {@code students_archive}
+     * @return página de estudiantes con sus cursores
+     */
+    CursorPageResponseDTO<StudentResponseDTO> findStudentsPage(Long afterId, Long beforeId, int size,
+                                                               boolean includeArchived);
+
+    /**
+     * Busca estudiantes por prefijo (sin distinguir mayúsculas) de nombre, apellido y email,
+     * y por rangos de fecha de creación/actualización. El resultado se pagina por cursor.
+     *
+     * @param criteria filtros de búsqueda (se combinan con AND)
+     * @param afterId  cursor para avanzar: ID del último estudiante de la página actual
+     * @param beforeId cursor para retroceder: ID del primer estudiante de la página actual
+     * @param size     número de estudiantes por página
+     * @return página de estudiantes que cumplen los filtros
+     */
+    CursorPageResponseDTO<StudentResponseDTO> searchStudents(StudentSearchCriteriaDTO criteria, Long afterId,
+                                                             Long beforeId, int size);
+
     /**
      * Crea un nuevo estudiante en el sistema.
      *
@@ -31,19 +73,53 @@ public interface IStudentService {
     StudentResponseDTO findStudentById(Long id);
 
     /**
-     * Actualiza los datos de un estudiante existente.
+     * Busca un estudiante por su ID entre los vigentes y, si no está, en el archivo.
+     *
+     * @param id identificador único del estudiante
+     * @return datos del estudiante encontrado
+     */
+    StudentResponseDTO findStudentIncludingArchived(Long id);
+
+    /**
+     * Actualiza los datos de un estudiante existente si su versión no cambió desde que el cliente lo leyó.
      *
      * @param id                identificador del estudiante a actualizar
-     * @param studentRequestDTO datos actualizados del estudiante
+     * @param studentRequestDTO datos actualizados del estudiante y versión leída
      * @return StudentResponseDTO con los datos del estudiante actualizado
      */
     StudentResponseDTO updateStudent(Long id, StudentRequestDTO studentRequestDTO);
 
     /**
-     * Elimina un estudiante del sistema por su ID.
+     * Elimina lógicamente un estudiante por su ID; se puede restaurar hasta que se purgue.
      *
      * @param id identificador del estudiante a eliminar
+     * @return datos del estudiante eliminado
+     */
+    StudentResponseDTO deleteStudentById(Long id);
+
+    /**
+     * Restaura un estudiante eliminado lógicamente que aún no fue purgado.
+     *
+     * @param id identificador del estudiante a restaurar
+     * @return datos del estudiante restaurado
+     */
+    StudentResponseDTO restoreStudent(Long id);
+
+    /**
+     * Elimina en bloque los estudiantes indicados, en una sola sentencia y transacción.
+     *
+     * @param ids identificadores a eliminar (los repetidos se ignoran)
+     * @return resultado por estudiante: DELETED o NOT_FOUND
+     */
+    StudentBulkResultDTO deleteStudents(Collection<Long> ids);
+
+    /**
+     * Modifica en bloque nombre y/o apellido de los estudiantes indicados por IDs o por filtro,
+     * en una sola sentencia y transacción.
+     *
+     * @param patch estudiantes a modificar y valores nuevos
+     * @return resultado por estudiante: UPDATED o NOT_FOUND
      */
-    void deleteStudentById(Long id);
+    StudentBulkResultDTO patchStudents(StudentBulkPatchRequestDTO patch);
 
 }
@@ -0,0 +1,18 @@
+package com.lta.springboot.student_management.service.interfaces;
+
+import com.lta.springboot.student_management.domain.dto.response.StudentSyncPageResponseDTO;
+
+import java.time.LocalDateTime;
+
+public interface IStudentSyncService {
+
+    /**
+     * Obtiene los estudiantes creados, modificados o eliminados después del cursor {@code (since, afterId)}.
+     *
+     * @param since   fecha del último cambio recibido, o null para una sincronización completa
+     * @param afterId ID del último cambio recibido (se ignora si since es null)
+     * @param size    tamaño de página solicitado (opcional)
+     * @return página de cambios con el cursor siguiente
+     */
+    StudentSyncPageResponseDTO findChanges(LocalDateTime since, Long afterId, Integer size);
+}
@@ -0,0 +1,42 @@
+package com.lta.springboot.student_management.service.interfaces;
+
+import com.lta.springboot.student_management.domain.dto.request.StudentSearchCriteriaDTO;
+import com.lta.springboot.student_management.repository.TableVersion;
+
+import java.time.LocalDate;
+import java.util.function.Supplier;
+
+public interface IStudentViewCacheService {
+
+    /**
+     * Obtiene el HTML de la tabla de estudiantes de una página, renderizándolo solo si no está en el cache.
+     * Las peticiones concurrentes por una misma página esperan el mismo renderizado.
+     *
+     * @param key      página, filtros y versión de la tabla
+     * @param renderer consulta la página y renderiza el fragmento
+     * @return HTML de la tabla y la paginación
+     */
+    String getTable(TableKey key, Supplier<String> renderer);
+
+    /**
+     * Construye la clave de una página del listado. Debe obtenerse antes de consultar la página: si una
+     * escritura se confirma en medio, el fragmento queda guardado con una clave que ya no se usa. Si la base
+     * de datos no mantiene la versión de la tabla no hay clave: la página se renderiza sin cache.
+     *
+     * @param version  versión de la tabla de estudiantes
+     * @param criteria filtros de búsqueda
+     * @param afterId  cursor para avanzar
+     * @param beforeId cursor para retroceder
+     * @param size     tamaño de página
+     * @return clave del fragmento
+     */
+    TableKey tableKey(TableVersion version, StudentSearchCriteriaDTO criteria, Long afterId, Long beforeId, int size);
+
+    /**
+     * Clave de un fragmento: página, filtros y versión de los datos con que se renderizó.
+     */
+    record TableKey(long generation, long tableVersion, String name, String lastname, String email,
+                    LocalDate createdFrom, LocalDate createdTo, LocalDate updatedFrom, LocalDate updatedTo,
+                    Long afterId, Long beforeId, int size) {
+    }
+}
@@ -0,0 +1,16 @@
+package com.lta.springboot.student_management.service.interfaces;
+
+import com.lta.springboot.student_management.repository.TableVersion;
+
+import java.util.Optional;
+
+public interface ITableVersionService {
+
+    /**
+     * Obtiene la versión de la tabla de estudiantes, que cambia con cada escritura confirmada.
+     * Debe consultarse antes que los datos para que un cambio concurrente nunca quede oculto tras un 304.
+     *
+     * @return versión actual, o vacío si la base de datos no mantiene versiones
+     */
+    Optional<TableVersion> findStudentsVersion();
+}
@@ -10,6 +10,11 @@ public final class Constants {
     public static final String INTERNAL_SERVER_ERROR = "INTERNAL_SERVER_ERROR";
     public static final String RESOURCE_NOT_FOUND = "RESOURCE_NOT_FOUND";
 
+    public static final String STUDENTS_CACHE = "students";
+    public static final String STUDENTS_TABLE = "students";
+
+    public static final String EXPORT_FETCH_SIZE = "500";
+
 
     private Constants() {
     }
@@ -0,0 +1,79 @@
+package com.lta.springboot.student_management.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Utilidades mínimas para leer y escribir líneas CSV (RFC 4180) separadas por coma.
+ * No soporta saltos de línea dentro de campos entre comillas.
+ */
+public final class CsvUtils {
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    private CsvUtils() {
+    }
+
+    /**
+     * Divide una línea CSV en sus campos, respetando comillas dobles y comillas escapadas ({@code ""}).
+     *
+     * @param line línea a procesar
+     * @return campos de la línea (sin recortar espacios)
+     */
+    public static List<String> parseLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean inQuotes = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (inQuotes) {
+                if (c == QUOTE && i + 1 < line.length() && line.charAt(i + 1) == QUOTE) {
+                    current.append(QUOTE);
+                    i++;
+                } else if (c == QUOTE) {
+                    inQuotes = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == QUOTE) {
+                inQuotes = true;
+            } else if (c == SEPARATOR) {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+
+    /**
+     * Agrega un campo escapado a la línea en construcción, usando comillas solo cuando es necesario.
+     *
+     * @param target destino de la escritura
+     * @param value  valor del campo (null se escribe como vacío)
+     * @return el mismo destino para encadenar llamadas
+     */
+    public static StringBuilder appendField(StringBuilder target, String value) {
+        if (value == null) {
+            return target;
+        }
+        boolean needsQuotes = value.indexOf(SEPARATOR) >= 0 || value.indexOf(QUOTE) >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!needsQuotes) {
+            return target.append(value);
+        }
+        target.append(QUOTE);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == QUOTE) {
+                target.append(QUOTE);
+            }
+            target.append(c);
+        }
+        return target.append(QUOTE);
+    }
+}
@@ -0,0 +1,77 @@
+package com.lta.springboot.student_management.util;
+
+import com.lta.springboot.student_management.exception.BadRequestException;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.node.ObjectNode;
+
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Proyección de campos para respuestas JSON ({@code ?fields=idStudent,name}).
+ * Los campos permitidos son los componentes del record de respuesta.
+ */
+public final class FieldProjection {
+
+    private static final ClassValue<Set<String>> RECORD_FIELDS = new ClassValue<>() {
+        @Override
+        protected Set<String> computeValue(Class<?> type) {
+            return Arrays.stream(type.getRecordComponents())
+                    .map(RecordComponent::getName)
+                    .collect(Collectors.toUnmodifiableSet());
+        }
+    };
+
+    private FieldProjection() {
+    }
+
+    /**
+     * Interpreta el parámetro {@code fields}.
+     *
+     * @param fields lista de campos separados por coma (puede ser null)
+     * @param type   record cuyos componentes se pueden proyectar
+     * @return campos solicitados, vacío si no se pidió proyección
+     * @throws BadRequestException si algún campo no existe en el record
+     */
+    public static Set<String> parse(String fields, Class<? extends Record> type) {
+        if (fields == null || fields.isBlank()) {
+            return Set.of();
+        }
+        Set<String> allowed = RECORD_FIELDS.get(type);
+        Set<String> requested = new LinkedHashSet<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!allowed.contains(name)) {
+                throw new BadRequestException("Campo no válido: " + name + ". Campos permitidos: "
+                        + String.join(", ", allowed.stream().sorted().toList()));
+            }
+            requested.add(name);
+        }
+        return requested;
+    }
+
+    /**
+     * Serializa el valor a JSON conservando solo los campos solicitados. Se usa la configuración de
+     * Jackson del record (formatos de fecha, orden), por lo que el resultado es igual a la respuesta
+     * completa sin los campos excluidos.
+     *
+     * @param objectMapper mapper de la aplicación
+     * @param value        valor a proyectar
+     * @param fields       campos a conservar
+     * @return nodo JSON con los campos solicitados
+     */
+    public static JsonNode project(ObjectMapper objectMapper, Object value, Set<String> fields) {
+        JsonNode node = objectMapper.valueToTree(value);
+        if (node instanceof ObjectNode objectNode) {
+            objectNode.retain(fields);
+        }
+        return node;
+    }
+}
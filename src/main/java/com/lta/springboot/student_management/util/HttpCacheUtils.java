@@ -0,0 +1,46 @@
+package com.lta.springboot.student_management.util;
+
+import com.lta.springboot.student_management.domain.dto.response.StudentResponseDTO;
+import com.lta.springboot.student_management.repository.TableVersion;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Cálculo de validadores HTTP (ETag fuerte y Last-Modified) para las respuestas de estudiantes.
+ * Las fechas de la base de datos se guardan sin zona horaria, en la hora local del servidor.
+ */
+public final class HttpCacheUtils {
+
+    private HttpCacheUtils() {
+    }
+
+    /**
+     * ETag de un listado: cambia con cualquier escritura sobre la tabla. El prefijo distingue
+     * representaciones (HTML, JSON) del mismo contenido.
+     */
+    public static String listETag(String prefix, TableVersion tableVersion) {
+        return "\"" + prefix + "-v" + tableVersion.version() + "\"";
+    }
+
+    /**
+     * ETag de un estudiante: cambia con cada actualización de la fila, ya que cada una incrementa su versión.
+     */
+    public static String studentETag(String prefix, StudentResponseDTO student) {
+        return "\"" + prefix + "-" + student.idStudent() + "-v" + student.version() + "\"";
+    }
+
+    /**
+     * Última modificación del estudiante (la fecha de creación si nunca fue actualizado).
+     */
+    public static LocalDateTime lastModified(StudentResponseDTO student) {
+        return student.updatedAt() != null ? student.updatedAt() : student.createdAt();
+    }
+
+    /**
+     * Convierte una fecha de la base de datos a milisegundos epoch; -1 si es null.
+     */
+    public static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime == null ? -1 : dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
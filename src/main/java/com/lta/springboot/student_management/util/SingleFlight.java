@@ -0,0 +1,93 @@
+package com.lta.springboot.student_management.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Agrupa llamadas concurrentes con la misma clave en una sola ejecución ("single flight"): la primera
+ * llamada ejecuta la carga y las que llegan mientras está en curso esperan y reciben el mismo resultado
+ * (o la misma excepción). No guarda resultados: al terminar la carga, la siguiente llamada vuelve a ejecutar.
+ * <p>
+ * {@link #invalidate()} abre una nueva generación: las cargas iniciadas antes siguen respondiendo a quienes
+ * ya las esperaban, pero ninguna llamada posterior se une a ellas. Invocado tras confirmar una escritura,
+ * garantiza que quien lee después del commit no recibe un resultado consultado antes.
+ *
+ * @param <K> tipo de la clave; debe implementar {@code equals}/{@code hashCode}
+ * @param <V> tipo del resultado, compartido entre las llamadas agrupadas, por lo que no debe modificarse
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, Flight<V>> flights = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * Ejecuta {@code loader} o espera la ejecución en curso para la misma clave de la generación actual.
+     *
+     * @throws RuntimeException la misma excepción no verificada lanzada por la carga
+     */
+    public V execute(K key, Supplier<V> loader) {
+        long current = generation.get();
+        Flight<V> own = new Flight<>(current, new CompletableFuture<>());
+        Flight<V> flight = flights.compute(key, (k, existing) ->
+                existing != null && existing.generation() == current ? existing : own);
+        if (flight != own) {
+            coalesced.increment();
+            return await(flight.result());
+        }
+
+        try {
+            V value = loader.get();
+            own.result().complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            own.result().completeExceptionally(e);
+            throw e;
+        } finally {
+            flights.remove(key, own);
+        }
+    }
+
+    /**
+     * Impide que las llamadas siguientes se unan a las cargas en curso.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+    }
+
+    /**
+     * Número de llamadas que recibieron el resultado de otra en lugar de ejecutar la carga.
+     */
+    public long coalescedCount() {
+        return coalesced.sum();
+    }
+
+    /**
+     * Número de cargas en curso.
+     */
+    public int inFlight() {
+        return flights.size();
+    }
+
+    private static <V> V await(CompletableFuture<V> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private record Flight<V>(long generation, CompletableFuture<V> result) {
+    }
+}
@@ -0,0 +1,191 @@
+/*
+* Esquema que la aplicacion necesita en PostgreSQL. Se ejecuta en cada arranque (spring.sql.init) antes de que
+* Hibernate inicialice las entidades, asi que cada sentencia debe ser idempotente y barata sobre tablas con datos.
+* Es la version acumulada de los scripts de db/01_Tables, que siguen siendo el historial de cambios: al agregar un
+* cambio alli se agrega aqui su forma idempotente. Las sentencias se separan con @@ porque los cuerpos de las
+* funciones contienen ';'.
+*/
+
+-- Secuencia de id_student con incremento 50: Hibernate reserva los IDs en bloques (allocationSize de Student)
+-- y no arranca si el incremento de la secuencia no coincide
+CREATE SEQUENCE IF NOT EXISTS public.students_id_student_seq INCREMENT BY 50
+@@
+-- Bases creadas con id_student SERIAL (incremento 1): el siguiente bloque empieza despues del ultimo ID usado
+ALTER SEQUENCE public.students_id_student_seq INCREMENT BY 50
+@@
+CREATE TABLE IF NOT EXISTS public.students (
+    id_student BIGINT PRIMARY KEY DEFAULT nextval('public.students_id_student_seq'),
+    name VARCHAR(50) NOT NULL,
+    last_name VARCHAR(50) NOT NULL,
+    email VARCHAR(100) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    updated_at TIMESTAMP DEFAULT NOW()
+)
+@@
+ALTER TABLE public.students ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0
+@@
+
+-- Auditoria asincrona (AuditLogRepository)
+CREATE TABLE IF NOT EXISTS public.logs (
+    id_log SERIAL PRIMARY KEY,
+    action VARCHAR(100) NOT NULL,
+    log_timestamp TIMESTAMP NOT NULL DEFAULT NOW()
+)
+@@
+ALTER TABLE public.logs ADD COLUMN IF NOT EXISTS entity VARCHAR(50)
+@@
+ALTER TABLE public.logs ADD COLUMN IF NOT EXISTS entity_id BIGINT
+@@
+CREATE INDEX IF NOT EXISTS idx_logs_entity ON public.logs (entity, entity_id)
+@@
+
+-- Versiones de tabla para ETag/Last-Modified del listado (TableVersionRepository)
+CREATE TABLE IF NOT EXISTS public.table_versions (
+    table_name VARCHAR(63) PRIMARY KEY,
+    version BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT NOW()
+)
+@@
+INSERT INTO public.table_versions (table_name) VALUES ('students') ON CONFLICT (table_name) DO NOTHING
+@@
+CREATE OR REPLACE FUNCTION public.bump_table_version() RETURNS TRIGGER AS $$
+BEGIN
+    UPDATE public.table_versions
+       SET version = version + 1,
+           updated_at = clock_timestamp()::TIMESTAMP
+     WHERE table_name = TG_TABLE_NAME;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql
+@@
+CREATE OR REPLACE TRIGGER trg_students_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON public.students
+    FOR EACH STATEMENT EXECUTE FUNCTION public.bump_table_version()
+@@
+
+-- Feed de cambios (StudentChangeEventRepository): cada cambio se inserta en la transaccion que lo produce
+CREATE TABLE IF NOT EXISTS public.student_change_events (
+    id BIGSERIAL PRIMARY KEY,
+    change_type VARCHAR(20) NOT NULL,
+    id_student BIGINT NOT NULL,
+    occurred_at TIMESTAMP NOT NULL DEFAULT NOW()
+)
+@@
+CREATE INDEX IF NOT EXISTS idx_student_change_events_occurred_at ON public.student_change_events (occurred_at)
+@@
+
+-- Sincronizacion incremental (StudentSyncRepository): updated_at obligatorio, solo se migra si aun admite NULL
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+                WHERE table_schema = 'public' AND table_name = 'students'
+                  AND column_name = 'updated_at' AND is_nullable = 'YES') THEN
+        UPDATE public.students SET updated_at = created_at WHERE updated_at IS NULL;
+        ALTER TABLE public.students ALTER COLUMN updated_at SET DEFAULT NOW();
+        ALTER TABLE public.students ALTER COLUMN updated_at SET NOT NULL;
+    END IF;
+END;
+$$
+@@
+CREATE INDEX IF NOT EXISTS idx_students_updated_at_id ON public.students (updated_at, id_student)
+@@
+DROP INDEX IF EXISTS public.idx_students_updated_at
+@@
+CREATE TABLE IF NOT EXISTS public.student_tombstones (
+    id_student BIGINT PRIMARY KEY,
+    deleted_at TIMESTAMP NOT NULL DEFAULT NOW()
+)
+@@
+CREATE INDEX IF NOT EXISTS idx_student_tombstones_deleted_at_id ON public.student_tombstones (deleted_at, id_student)
+@@
+
+-- Eliminacion logica (deleted_at). El email solo es unico entre estudiantes vigentes: indice unico parcial en
+-- lugar de la restriccion UNIQUE de la columna, que se elimina con el nombre que tenga (students_email_key en
+-- las bases creadas con db/01_Tables; uq_students_email_active completa si la creo Hibernate sin este script)
+ALTER TABLE public.students ADD COLUMN IF NOT EXISTS deleted_at TIMESTAMP DEFAULT NULL
+@@
+DO $$
+DECLARE
+    email_constraint TEXT;
+BEGIN
+    FOR email_constraint IN
+        SELECT c.conname
+          FROM pg_constraint c
+          JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = c.conkey[1]
+         WHERE c.conrelid = 'public.students'::regclass AND c.contype = 'u'
+           AND cardinality(c.conkey) = 1 AND a.attname = 'email'
+    LOOP
+        EXECUTE format('ALTER TABLE public.students DROP CONSTRAINT %I', email_constraint);
+    END LOOP;
+END;
+$$
+@@
+CREATE UNIQUE INDEX IF NOT EXISTS uq_students_email_active ON public.students (email) WHERE deleted_at IS NULL
+@@
+-- Busqueda por prefijo sin distinguir mayusculas (StudentSpecifications) y paginacion solo sobre vigentes: los
+-- indices son parciales. Los que existan sin WHERE (version anterior de db/01_Tables) se recrean una sola vez
+CREATE EXTENSION IF NOT EXISTS pg_trgm
+@@
+DO $$
+DECLARE
+    full_index TEXT;
+BEGIN
+    FOR full_index IN
+        SELECT indexname
+          FROM pg_indexes
+         WHERE schemaname = 'public' AND tablename = 'students'
+           AND indexname IN ('idx_students_name_trgm', 'idx_students_last_name_trgm',
+                             'idx_students_email_trgm', 'idx_students_created_at')
+           AND indexdef NOT LIKE '%WHERE%'
+    LOOP
+        EXECUTE format('DROP INDEX public.%I', full_index);
+    END LOOP;
+END;
+$$
+@@
+CREATE INDEX IF NOT EXISTS idx_students_name_trgm ON public.students
+    USING gin (lower(name) gin_trgm_ops) WHERE deleted_at IS NULL
+@@
+CREATE INDEX IF NOT EXISTS idx_students_last_name_trgm ON public.students
+    USING gin (lower(last_name) gin_trgm_ops) WHERE deleted_at IS NULL
+@@
+CREATE INDEX IF NOT EXISTS idx_students_email_trgm ON public.students
+    USING gin (lower(email) gin_trgm_ops) WHERE deleted_at IS NULL
+@@
+CREATE INDEX IF NOT EXISTS idx_students_created_at ON public.students (created_at) WHERE deleted_at IS NULL
+@@
+CREATE INDEX IF NOT EXISTS idx_students_active_id ON public.students (id_student) WHERE deleted_at IS NULL
+@@
+-- Eliminados pendientes de purga (StudentPurgeServiceImpl)
+CREATE INDEX IF NOT EXISTS idx_students_deleted_at ON public.students (deleted_at) WHERE deleted_at IS NOT NULL
+@@
+-- Nivel de archivo (StudentArchiveServiceImpl): estudiantes inactivos movidos fuera de students. Su email deja
+-- de contar para uq_students_email_active, asi que un estudiante nuevo puede volver a registrarlo
+CREATE TABLE IF NOT EXISTS public.students_archive (
+    id_student BIGINT PRIMARY KEY,
+    name VARCHAR(50) NOT NULL,
+    last_name VARCHAR(50) NOT NULL,
+    email VARCHAR(100) NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    version BIGINT NOT NULL,
+    archived_at TIMESTAMP NOT NULL DEFAULT NOW()
+)
+@@
+-- Tombstones de las filas vigentes borradas fisicamente (borrados manuales y traslados al archivo); las
+-- eliminaciones logicas se informan desde students. Para la sincronizacion un estudiante archivado sale del listado.
+-- Misma fuente de reloj que updated_at (la base de datos); clock_timestamp() toma el momento de la sentencia
+-- para que la fecha quede lo mas cerca posible del commit
+CREATE OR REPLACE FUNCTION public.record_student_tombstones() RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO public.student_tombstones (id_student, deleted_at)
+    SELECT id_student, clock_timestamp()::TIMESTAMP FROM deleted_students WHERE deleted_at IS NULL
+    ON CONFLICT (id_student) DO UPDATE SET deleted_at = EXCLUDED.deleted_at;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql
+@@
+CREATE OR REPLACE TRIGGER trg_students_tombstones
+    AFTER DELETE ON public.students
+    REFERENCING OLD TABLE AS deleted_students
+    FOR EACH STATEMENT EXECUTE FUNCTION public.record_student_tombstones()
@@ -0,0 +1,69 @@
+package com.lta.springboot.student_management.config;
+
+import com.lta.springboot.student_management.config.DbStatisticsProperties.BudgetMode;
+import com.lta.springboot.student_management.domain.dto.response.CursorPageResponseDTO;
+import com.lta.springboot.student_management.domain.dto.response.StudentResponseDTO;
+import com.lta.springboot.student_management.service.interfaces.IStudentService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+
+import static com.lta.springboot.student_management.util.Constants.STUDENTS_CACHE;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas de integración del presupuesto de sentencias SQL sobre PostgreSQL: en modo FAIL una operación que
+ * ejecute más sentencias de las esperadas falla en lugar de pasar desapercibida.
+ */
+@SpringBootTest
+@DisplayName("DbRequestStatistics - Integration Tests")
+class DbStatisticsIntegrationTest {
+
+    @Autowired
+    private IStudentService studentService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @AfterEach
+    void tearDown() {
+        DbRequestStatistics.stop();
+    }
+
+    @Test
+    @DisplayName("findStudentsPage - Una página del listado es una sola consulta")
+    void testFindStudentsPage_ShouldExecuteSingleStatement() {
+        // Given
+        DbRequestStatistics.start(1, BudgetMode.FAIL);
+
+        // When
+        CursorPageResponseDTO<StudentResponseDTO> page = studentService.findStudentsPage(null, null, 20);
+
+        // Then
+        DbRequestStatistics statistics = DbRequestStatistics.stop();
+        assertFalse(page.content().isEmpty(), "La base de datos de pruebas debe tener al menos un estudiante vigente");
+        assertEquals(1, statistics.statements());
+        assertEquals(0, statistics.entitiesLoaded());
+    }
+
+    @Test
+    @DisplayName("findStudentById - Sin cache, buscar un estudiante es una sola consulta")
+    void testFindStudentById_ShouldExecuteSingleStatement_OnCacheMiss() {
+        // Given
+        Long idStudent = studentService.findStudentsPage(null, null, 1).content().getFirst().idStudent();
+        cacheManager.getCache(STUDENTS_CACHE).evict(idStudent);
+        DbRequestStatistics.start(1, BudgetMode.FAIL);
+
+        // When
+        StudentResponseDTO student = studentService.findStudentById(idStudent);
+
+        // Then
+        DbRequestStatistics statistics = DbRequestStatistics.stop();
+        assertEquals(idStudent, student.idStudent());
+        assertEquals(1, statistics.statements());
+        assertEquals(1, statistics.entitiesLoaded());
+    }
+}
@@ -0,0 +1,107 @@
+package com.lta.springboot.student_management.config;
+
+import com.lta.springboot.student_management.config.DbStatisticsProperties.BudgetMode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Pruebas unitarias para {@link InstrumentedDataSource}
+ */
+@DisplayName("InstrumentedDataSource - Unit Tests")
+class InstrumentedDataSourceTest {
+
+    private Connection connection;
+    private PreparedStatement statement;
+    private InstrumentedDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        DataSource target = mock(DataSource.class);
+        connection = mock(Connection.class);
+        statement = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, true, false);
+        dataSource = new InstrumentedDataSource(target);
+    }
+
+    @AfterEach
+    void tearDown() {
+        DbRequestStatistics.stop();
+    }
+
+    @Test
+    @DisplayName("getConnection - Cuenta sentencias y filas leídas durante una medición")
+    void testGetConnection_ShouldCountStatementsAndRows_WhenMeasurementActive() throws SQLException {
+        // Given
+        DbRequestStatistics.start(0, BudgetMode.LOG);
+
+        // When
+        try (Connection instrumented = dataSource.getConnection()) {
+            ResultSet rows = instrumented.prepareStatement("select * from students").executeQuery();
+            while (rows.next()) {
+                rows.getString(1);
+            }
+            instrumented.prepareStatement("update students set name = ?").executeUpdate();
+        }
+
+        // Then
+        DbRequestStatistics statistics = DbRequestStatistics.stop();
+        assertEquals(2, statistics.statements());
+        assertEquals(2, statistics.rowsFetched());
+        assertTrue(statistics.jdbcNanos() > 0);
+        assertFalse(statistics.isOverBudget());
+        verify(connection).close();
+    }
+
+    @Test
+    @DisplayName("getConnection - En modo FAIL lanza excepción al superar el presupuesto de sentencias")
+    void testGetConnection_ShouldFail_WhenBudgetExceededInFailMode() throws SQLException {
+        // Given
+        DbRequestStatistics.start(1, BudgetMode.FAIL);
+        Connection instrumented = dataSource.getConnection();
+        instrumented.prepareStatement("select 1").executeQuery();
+
+        // When / Then
+        PreparedStatement second = instrumented.prepareStatement("select 2");
+        IllegalStateException exception = assertThrows(IllegalStateException.class, second::executeQuery);
+        assertTrue(exception.getMessage().contains("presupuesto de 1"));
+        assertTrue(DbRequestStatistics.current().isOverBudget());
+    }
+
+    @Test
+    @DisplayName("getConnection - Un error del driver se propaga aunque la sentencia supere el presupuesto")
+    void testGetConnection_ShouldPropagateDriverError_WhenFailedStatementExceedsBudget() throws SQLException {
+        // Given
+        SQLException driverError = new SQLException("conexión perdida");
+        when(statement.executeUpdate()).thenThrow(driverError);
+        DbRequestStatistics.start(1, BudgetMode.FAIL);
+        Connection instrumented = dataSource.getConnection();
+        instrumented.prepareStatement("select 1").executeQuery();
+
+        // When / Then
+        PreparedStatement failing = instrumented.prepareStatement("update students set name = ?");
+        assertSame(driverError, assertThrows(SQLException.class, failing::executeUpdate));
+        assertEquals(2, DbRequestStatistics.current().statements());
+    }
+
+    @Test
+    @DisplayName("getConnection - Sin medición activa entrega la conexión original")
+    void testGetConnection_ShouldReturnTargetConnection_WhenNoMeasurement() throws SQLException {
+        // When / Then
+        assertSame(connection, dataSource.getConnection());
+    }
+}
@@ -0,0 +1,101 @@
+package com.lta.springboot.student_management.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Pruebas unitarias para {@link ReplicaRoutingDataSource}
+ */
+@DisplayName("ReplicaRoutingDataSource - Unit Tests")
+class ReplicaRoutingDataSourceTest {
+
+    private DataSource primary;
+    private DataSource replica1;
+    private DataSource replica2;
+    private Connection primaryConnection;
+    private Connection replica1Connection;
+    private Connection replica2Connection;
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        primary = mock(DataSource.class);
+        replica1 = mock(DataSource.class);
+        replica2 = mock(DataSource.class);
+        primaryConnection = mock(Connection.class);
+        replica1Connection = mock(Connection.class);
+        replica2Connection = mock(Connection.class);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica1.getConnection()).thenReturn(replica1Connection);
+        when(replica2.getConnection()).thenReturn(replica2Connection);
+        routing = new ReplicaRoutingDataSource(primary, List.of(replica1, replica2), Duration.ofSeconds(3),
+                new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReplicaRoutingDataSource.clearForcedPrimary();
+    }
+
+    @Test
+    @DisplayName("getConnection - Reparte las lecturas entre las réplicas")
+    void testGetConnection_ShouldRoundRobinReplicas() throws SQLException {
+        // When
+        Connection first = routing.getConnection();
+        Connection second = routing.getConnection();
+        Connection third = routing.getConnection();
+
+        // Then
+        assertSame(replica1Connection, first);
+        assertSame(replica2Connection, second);
+        assertSame(replica1Connection, third);
+        verify(primary, never()).getConnection();
+    }
+
+    @Test
+    @DisplayName("getConnection - Descarta la réplica que falla y usa el primario si no queda ninguna")
+    void testGetConnection_ShouldFallBackToPrimary_WhenReplicasFail() throws SQLException {
+        // Given
+        when(replica1.getConnection()).thenThrow(new SQLException("Connection refused"));
+        when(replica2.getConnection()).thenThrow(new SQLException("Connection refused"));
+
+        // When
+        Connection first = routing.getConnection();
+        Connection second = routing.getConnection();
+        Connection third = routing.getConnection();
+
+        // Then
+        assertSame(primaryConnection, first);
+        assertSame(primaryConnection, second);
+        assertSame(primaryConnection, third);
+        // Cada réplica se intenta una sola vez; después queda fuera hasta la verificación de salud
+        verify(replica1, times(1)).getConnection();
+        verify(replica2, times(1)).getConnection();
+    }
+
+    @Test
+    @DisplayName("getConnection - Usa el primario mientras el cliente debe leer sus propias escrituras")
+    void testGetConnection_ShouldUsePrimary_WhenPrimaryIsForced() throws SQLException {
+        // Given
+        ReplicaRoutingDataSource.forcePrimary();
+
+        // When
+        Connection connection = routing.getConnection();
+
+        // Then
+        assertSame(primaryConnection, connection);
+        verifyNoInteractions(replica1, replica2);
+    }
+}
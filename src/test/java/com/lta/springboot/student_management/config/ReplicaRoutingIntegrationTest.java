@@ -0,0 +1,87 @@
+package com.lta.springboot.student_management.config;
+
+import com.lta.springboot.student_management.service.interfaces.IStudentService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas de integración del enrutamiento a réplicas sobre PostgreSQL. La base {@code postgres} del mismo
+ * servidor hace de réplica: no tiene las tablas de la aplicación, así que cada consulta muestra a qué
+ * base llegó.
+ */
+@SpringBootTest(properties = {
+        "app.datasource.replicas.enabled=true",
+        "app.datasource.replicas.urls=jdbc:postgresql://localhost:5432/postgres",
+        "app.datasource.replicas.sticky-after-write=0s"})
+@DisplayName("ReplicaRoutingConfig - Integration Tests")
+class ReplicaRoutingIntegrationTest {
+
+    private static final String REPLICA_DATABASE = "postgres";
+    private static final String CURRENT_DATABASE = "SELECT current_database()";
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private IStudentService studentService;
+
+    @Test
+    @DisplayName("readOnly - Las transacciones de solo lectura llegan a la réplica y las demás al primario")
+    void testReadOnly_ShouldReachReplica_ThroughLazyConnectionProxy() {
+        // When
+        String readOnly = transaction(true).execute(status -> currentDatabase());
+        String readWrite = transaction(false).execute(status -> currentDatabase());
+
+        // Then
+        assertEquals(REPLICA_DATABASE, readOnly);
+        assertNotEquals(REPLICA_DATABASE, readWrite);
+    }
+
+    @Test
+    @DisplayName("readFromPrimary - Una transacción de solo lectura iniciada antes igual lee del primario")
+    void testReadFromPrimary_ShouldUsePrimary_InsideReadOnlyTransaction() {
+        // When
+        String pinned = transaction(true).execute(status -> ReplicaRoutingDataSource.readFromPrimary(this::currentDatabase));
+        String afterwards = transaction(true).execute(status -> currentDatabase());
+
+        // Then
+        assertNotEquals(REPLICA_DATABASE, pinned);
+        assertEquals(REPLICA_DATABASE, afterwards);
+    }
+
+    @Test
+    @DisplayName("findStudentById - La lectura que llena el cache se hace en el primario")
+    void testFindStudentById_ShouldLoadFromPrimary() {
+        // Given
+        Long idStudent = transaction(false).execute(status ->
+                jdbcTemplate.queryForObject("SELECT MIN(id_student) FROM students WHERE deleted_at IS NULL", Long.class));
+        assertNotNull(idStudent, "La base de datos de pruebas debe tener al menos un estudiante vigente");
+
+        // When / Then: en la réplica no existe la tabla students, así que la consulta fallaría
+        assertEquals(idStudent, studentService.findStudentById(idStudent).idStudent());
+    }
+
+    private TransactionTemplate transaction(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return template;
+    }
+
+    private String currentDatabase() {
+        return (String) entityManager.createNativeQuery(CURRENT_DATABASE).getSingleResult();
+    }
+}
@@ -0,0 +1,149 @@
+package com.lta.springboot.student_management.controller;
+
+import com.lta.springboot.student_management.config.DbStatisticsProperties;
+import com.lta.springboot.student_management.config.StudentPageProperties;
+import com.lta.springboot.student_management.domain.dto.request.StudentRequestDTO;
+import com.lta.springboot.student_management.domain.dto.response.StudentResponseDTO;
+import com.lta.springboot.student_management.repository.TableVersion;
+import com.lta.springboot.student_management.service.interfaces.IStudentService;
+import com.lta.springboot.student_management.service.interfaces.IStudentSyncService;
+import com.lta.springboot.student_management.service.interfaces.ITableVersionService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static com.lta.springboot.student_management.data.DataDummy.*;
+import static com.lta.springboot.student_management.util.Constants.BAD_REQUEST;
+import static com.lta.springboot.student_management.util.Constants.CONFLICT;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Pruebas de la capa web de {@link StudentRestController}: respuestas condicionales y errores resueltos en
+ * {@code GlobalExceptionHandler}. Los servicios son mocks; el registro de métricas y las propiedades de
+ * estadísticas los necesitan los interceptores de {@code MetricsConfig}.
+ */
+@WebMvcTest(StudentRestController.class)
+@Import(SimpleMeterRegistry.class)
+@EnableConfigurationProperties({StudentPageProperties.class, DbStatisticsProperties.class})
+@DisplayName("StudentRestController - Web Tests")
+class StudentRestControllerTest {
+
+    private static final String STUDENT_ETAG = "\"student-json-1-v3\"";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private IStudentService studentService;
+
+    @MockitoBean
+    private ITableVersionService tableVersionService;
+
+    @MockitoBean
+    private IStudentSyncService studentSyncService;
+
+    @Test
+    @DisplayName("getStudent - Responde con ETag y retorna 304 si el cliente ya tiene la versión")
+    void testGetStudent_ShouldReturnNotModified_WhenETagMatches() throws Exception {
+        // Given
+        when(studentService.findStudentById(DEFAULT_ID)).thenReturn(student());
+
+        // When / Then
+        mockMvc.perform(get("/api/students/{id}", DEFAULT_ID))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, STUDENT_ETAG))
+                .andExpect(jsonPath("$.data.email").value(DEFAULT_EMAIL));
+        mockMvc.perform(get("/api/students/{id}", DEFAULT_ID).header(HttpHeaders.IF_NONE_MATCH, STUDENT_ETAG))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("getStudent - Con includeArchived el ETag es distinto al de la consulta de vigentes")
+    void testGetStudent_ShouldNotMatchETag_WhenIncludeArchived() throws Exception {
+        // Given
+        when(studentService.findStudentIncludingArchived(DEFAULT_ID)).thenReturn(student());
+
+        // When / Then
+        mockMvc.perform(get("/api/students/{id}", DEFAULT_ID).param("includeArchived", "true")
+                        .header(HttpHeaders.IF_NONE_MATCH, STUDENT_ETAG))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"student-all-json-1-v3\""));
+    }
+
+    @Test
+    @DisplayName("listStudents - Retorna 304 sin consultar estudiantes si la versión de la tabla no cambió")
+    void testListStudents_ShouldReturnNotModified_WhenTableVersionMatches() throws Exception {
+        // Given
+        when(tableVersionService.findStudentsVersion())
+                .thenReturn(Optional.of(new TableVersion(42L, LocalDateTime.of(2026, 10, 18, 10, 0))));
+
+        // When / Then
+        mockMvc.perform(get("/api/students").header(HttpHeaders.IF_NONE_MATCH, "\"students-json-v42\""))
+                .andExpect(status().isNotModified());
+        verifyNoInteractions(studentService);
+    }
+
+    @Test
+    @DisplayName("listStudents - Un cursor que no es numérico retorna 400")
+    void testListStudents_ShouldReturnBadRequest_WhenCursorIsNotNumeric() throws Exception {
+        // When / Then
+        mockMvc.perform(get("/api/students").param("after", "abc"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.errorCode").value(BAD_REQUEST));
+        verifyNoInteractions(studentService);
+    }
+
+    @Test
+    @DisplayName("createStudent - Un cuerpo inválido retorna 400 con el detalle de cada campo")
+    void testCreateStudent_ShouldReturnBadRequest_WhenBodyInvalid() throws Exception {
+        // When / Then
+        mockMvc.perform(post("/api/students")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name": "A", "lastname": "Echeverri", "email": "no-es-un-email"}"""))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value(BAD_REQUEST))
+                .andExpect(jsonPath("$.data.length()").value(2));
+        verifyNoInteractions(studentService);
+    }
+
+    @Test
+    @DisplayName("createStudent - Una violación de integridad de la base de datos retorna 409")
+    void testCreateStudent_ShouldReturnConflict_WhenDataIntegrityViolation() throws Exception {
+        // Given
+        when(studentService.createStudent(any(StudentRequestDTO.class)))
+                .thenThrow(new DataIntegrityViolationException("uq_students_email_active"));
+
+        // When / Then
+        mockMvc.perform(post("/api/students")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name": "%s", "lastname": "%s", "email": "%s"}"""
+                                .formatted(DEFAULT_NAME, DEFAULT_LASTNAME, DEFAULT_EMAIL)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.errorCode").value(CONFLICT));
+    }
+
+    private static StudentResponseDTO student() {
+        return new StudentResponseDTO(DEFAULT_ID, DEFAULT_NAME, DEFAULT_LASTNAME, DEFAULT_EMAIL,
+                DEFAULT_CREATED_AT, DEFAULT_UPDATED_AT, 3L);
+    }
+}
@@ -0,0 +1,87 @@
+package com.lta.springboot.student_management.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas de integración para {@link StudentSyncRepository} sobre PostgreSQL. Cada prueba inserta sus filas con
+ * fechas de 1971, anteriores a cualquier dato real, y se revierte al terminar.
+ */
+@SpringBootTest
+@Transactional
+@DisplayName("StudentSyncRepository - Integration Tests")
+class StudentSyncRepositoryIntegrationTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(1971, 1, 1, 0, 0);
+    private static final LocalDateTime UNTIL = BASE.plusDays(1);
+
+    @Autowired
+    private StudentSyncRepository studentSyncRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("findChanges - Mezcla estudiantes y tombstones en orden de cursor")
+    void testFindChanges_ShouldMergeStudentsAndTombstones_InCursorOrder() {
+        // Given
+        long modified = insertStudent(BASE.plusSeconds(1), null);
+        long softDeleted = insertStudent(BASE.plusSeconds(3), BASE.plusSeconds(3));
+        insertTombstone(-1L, BASE.plusSeconds(2));
+
+        // When
+        List<StudentSyncRow> rows = studentSyncRepository.findChanges(BASE, 0L, UNTIL, 10);
+
+        // Then
+        assertEquals(List.of(modified, -1L, softDeleted), rows.stream().map(StudentSyncRow::idStudent).toList());
+        assertEquals(List.of(false, true, true), rows.stream().map(StudentSyncRow::deleted).toList());
+        assertEquals("Sync", rows.getFirst().name());
+        assertEquals(BASE.plusSeconds(1), rows.getFirst().changedAt());
+        assertNull(rows.get(1).name());
+        assertNull(rows.get(1).version());
+        assertEquals(BASE.plusSeconds(2), rows.get(1).changedAt());
+    }
+
+    @Test
+    @DisplayName("findChanges - El cursor y el límite superior son exclusivos y el límite corta la mezcla")
+    void testFindChanges_ShouldExcludeCursorAndUntil_AndApplyLimit() {
+        // Given
+        LocalDateTime tie = BASE.plusSeconds(5);
+        long first = insertStudent(tie, null);
+        long second = insertStudent(tie, null);
+        insertTombstone(-2L, tie.plusSeconds(1));
+        insertTombstone(-3L, tie.plusSeconds(2));
+        insertStudent(UNTIL, null);
+
+        // When
+        List<StudentSyncRow> afterCursor = studentSyncRepository.findChanges(tie, first, UNTIL, 10);
+        List<StudentSyncRow> limited = studentSyncRepository.findChanges(BASE, 0L, UNTIL, 2);
+
+        // Then
+        assertEquals(List.of(second, -2L, -3L), afterCursor.stream().map(StudentSyncRow::idStudent).toList());
+        assertEquals(List.of(first, second), limited.stream().map(StudentSyncRow::idStudent).toList());
+    }
+
+    private long insertStudent(LocalDateTime updatedAt, LocalDateTime deletedAt) {
+        return jdbcTemplate.queryForObject("""
+                        INSERT INTO students (name, last_name, email, created_at, updated_at, deleted_at, version)
+                        VALUES ('Sync', 'Repositorio', ?, ?, ?, ?, 0) RETURNING id_student""", Long.class,
+                "sync.repo." + System.nanoTime() + "@example.edu", Timestamp.valueOf(BASE),
+                Timestamp.valueOf(updatedAt), deletedAt == null ? null : Timestamp.valueOf(deletedAt));
+    }
+
+    private void insertTombstone(long idStudent, LocalDateTime deletedAt) {
+        jdbcTemplate.update("INSERT INTO student_tombstones (id_student, deleted_at) VALUES (?, ?)",
+                idStudent, Timestamp.valueOf(deletedAt));
+    }
+}
@@ -0,0 +1,155 @@
+package com.lta.springboot.student_management.service.impl;
+
+import com.lta.springboot.student_management.config.AuditProperties;
+import com.lta.springboot.student_management.domain.enums.StudentChangeType;
+import com.lta.springboot.student_management.domain.event.StudentChangedEvent;
+import com.lta.springboot.student_management.domain.event.StudentsChangedEvent;
+import com.lta.springboot.student_management.repository.AuditLogEntry;
+import com.lta.springboot.student_management.repository.AuditLogRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Pruebas unitarias para {@link AuditServiceImpl}
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuditServiceImpl - Unit Tests")
+class AuditServiceImplTest {
+
+    @Mock
+    private AuditLogRepository auditLogRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private AuditServiceImpl auditService(int queueCapacity, int batchSize) {
+        AuditProperties properties = new AuditProperties(true, queueCapacity, batchSize,
+                Duration.ofMillis(20), Duration.ofMillis(1), Duration.ofSeconds(5));
+        return new AuditServiceImpl(auditLogRepository, properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("stop - Guarda en lotes todas las entradas encoladas antes de detenerse")
+    void testStop_ShouldDrainQueueInBatches() {
+        // Given
+        List<List<AuditLogEntry>> batches = new ArrayList<>();
+        when(auditLogRepository.insertAll(anyList())).thenAnswer(invocation -> {
+            List<AuditLogEntry> batch = invocation.getArgument(0);
+            batches.add(List.copyOf(batch));
+            return batch.size();
+        });
+        AuditServiceImpl auditService = auditService(100, 2);
+        for (long id = 1; id <= 5; id++) {
+            auditService.onStudentChanged(StudentChangedEvent.of(StudentChangeType.UPDATED, id));
+        }
+
+        // When
+        auditService.start();
+        auditService.stop();
+
+        // Then
+        assertFalse(auditService.isRunning());
+        assertEquals(5, batches.stream().mapToInt(List::size).sum());
+        assertTrue(batches.stream().allMatch(batch -> batch.size() <= 2));
+        AuditLogEntry first = batches.getFirst().getFirst();
+        assertEquals("STUDENT_UPDATED", first.action());
+        assertEquals(AuditServiceImpl.STUDENT_ENTITY, first.entity());
+        assertEquals(1L, first.entityId());
+        assertEquals(5.0, meterRegistry.get("audit.entries").tag("outcome", "written").counter().count());
+    }
+
+    @Test
+    @DisplayName("record - Descarta la entrada cuando la cola está llena")
+    void testRecord_ShouldDropEntry_WhenQueueIsFull() {
+        // Given
+        AuditServiceImpl auditService = auditService(1, 10);
+        AuditLogEntry entry = new AuditLogEntry("STUDENT_CREATED", AuditServiceImpl.STUDENT_ENTITY, 1L,
+                LocalDateTime.now());
+
+        // When
+        boolean first = auditService.record(entry);
+        boolean second = auditService.record(entry);
+
+        // Then
+        assertTrue(first);
+        assertFalse(second);
+        assertEquals(1.0, meterRegistry.get("audit.entries").tag("outcome", "dropped").counter().count());
+        assertEquals(1.0, meterRegistry.get("audit.queue.size").gauge().value());
+        verifyNoInteractions(auditLogRepository);
+    }
+
+    @Test
+    @DisplayName("onStudentsChanged - Una operación masiva espera una sola vez y descarta lo que no cabe")
+    void testOnStudentsChanged_ShouldWaitOnceForWholeBulk_WhenQueueFills() {
+        // Given
+        AuditProperties properties = new AuditProperties(true, 3, 10, Duration.ofMillis(20), Duration.ofMillis(100),
+                Duration.ofSeconds(5));
+        AuditServiceImpl auditService = new AuditServiceImpl(auditLogRepository, properties, meterRegistry);
+        long start = System.nanoTime();
+
+        // When
+        auditService.onStudentsChanged(StudentsChangedEvent.of(StudentChangeType.DELETED, List.of(1L, 2L, 3L, 4L, 5L, 6L)));
+
+        // Then
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofMillis(150)) < 0);
+        assertEquals(3.0, meterRegistry.get("audit.queue.size").gauge().value());
+        assertEquals(3.0, meterRegistry.get("audit.entries").tag("outcome", "dropped").counter().count());
+        verifyNoInteractions(auditLogRepository);
+    }
+
+    @Test
+    @DisplayName("stop - Guarda las entradas de una operación masiva en lotes")
+    void testStop_ShouldWriteBulkChangeInBatches() {
+        // Given
+        List<List<AuditLogEntry>> batches = new ArrayList<>();
+        when(auditLogRepository.insertAll(anyList())).thenAnswer(invocation -> {
+            List<AuditLogEntry> batch = invocation.getArgument(0);
+            batches.add(List.copyOf(batch));
+            return batch.size();
+        });
+        AuditServiceImpl auditService = auditService(100, 2);
+        auditService.onStudentsChanged(StudentsChangedEvent.of(StudentChangeType.UPDATED, List.of(7L, 8L, 9L)));
+
+        // When
+        auditService.start();
+        auditService.stop();
+
+        // Then
+        assertEquals(List.of(7L, 8L, 9L), batches.stream().flatMap(List::stream).map(AuditLogEntry::entityId).toList());
+        assertTrue(batches.stream().flatMap(List::stream).allMatch(entry -> entry.action().equals("STUDENT_UPDATED")));
+        assertEquals(2, batches.size());
+    }
+
+    @Test
+    @DisplayName("stop - Registra las entradas fallidas y continúa con el siguiente lote")
+    void testStop_ShouldCountFailedBatches_WhenInsertFails() {
+        // Given
+        when(auditLogRepository.insertAll(anyList()))
+                .thenThrow(new IllegalStateException("BD no disponible"))
+                .thenAnswer(invocation -> invocation.<List<AuditLogEntry>>getArgument(0).size());
+        AuditServiceImpl auditService = auditService(100, 1);
+        auditService.onStudentChanged(StudentChangedEvent.of(StudentChangeType.CREATED, 1L));
+        auditService.onStudentChanged(StudentChangedEvent.of(StudentChangeType.DELETED, 1L));
+
+        // When
+        auditService.start();
+        auditService.stop();
+
+        // Then
+        verify(auditLogRepository, times(2)).insertAll(anyList());
+        assertEquals(1.0, meterRegistry.get("audit.entries").tag("outcome", "failed").counter().count());
+        assertEquals(1.0, meterRegistry.get("audit.entries").tag("outcome", "written").counter().count());
+    }
+}
@@ -0,0 +1,91 @@
+package com.lta.springboot.student_management.service.impl;
+
+import com.lta.springboot.student_management.config.EmailFilterProperties;
+import com.lta.springboot.student_management.repository.StudentRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Pruebas unitarias para {@link EmailUniquenessServiceImpl}
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EmailUniquenessServiceImpl - Unit Tests")
+class EmailUniquenessServiceImplTest {
+
+    @Mock
+    private StudentRepository studentRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private EmailUniquenessServiceImpl emailUniquenessService;
+
+    @BeforeEach
+    void setUp() {
+        emailUniquenessService = new EmailUniquenessServiceImpl(studentRepository,
+                new EmailFilterProperties(true, 1_000, 0.01), transactionManager, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("isEmailTaken - No consulta la base de datos cuando el filtro descarta el email")
+    void testIsEmailTaken_ShouldSkipDatabase_WhenFilterRejectsEmail() {
+        // Given
+        when(studentRepository.count()).thenReturn(1L);
+        when(studentRepository.streamAllEmails()).thenReturn(Stream.of("saul@test.com"));
+        emailUniquenessService.rebuild();
+
+        // When
+        boolean taken = emailUniquenessService.isEmailTaken("nuevo@test.com", null);
+
+        // Then
+        assertFalse(taken);
+        verify(studentRepository, never()).existsByEmail(any());
+        assertEquals(1.0, meterRegistry.get("students.email.checks").tag("outcome", "negative").counter().count());
+    }
+
+    @Test
+    @DisplayName("isEmailTaken - Confirma en la base de datos cuando el email puede estar registrado")
+    void testIsEmailTaken_ShouldConfirmInDatabase_WhenFilterMightContainEmail() {
+        // Given
+        when(studentRepository.count()).thenReturn(1L);
+        when(studentRepository.streamAllEmails()).thenReturn(Stream.of("saul@test.com"));
+        emailUniquenessService.rebuild();
+        when(studentRepository.existsByEmailAndIdStudentNot("Saul@Test.com", 2L)).thenReturn(true);
+
+        // When
+        boolean taken = emailUniquenessService.isEmailTaken("Saul@Test.com", 2L);
+
+        // Then
+        assertTrue(taken);
+        assertEquals(1.0, meterRegistry.get("students.email.checks").tag("outcome", "confirmed").counter().count());
+    }
+
+    @Test
+    @DisplayName("isEmailTaken - Consulta la base de datos mientras el filtro no está construido")
+    void testIsEmailTaken_ShouldQueryDatabase_WhenFilterNotBuilt() {
+        // Given
+        when(studentRepository.existsByEmail("nuevo@test.com")).thenReturn(false);
+
+        // When
+        emailUniquenessService.registerEmail("nuevo@test.com");
+        boolean taken = emailUniquenessService.isEmailTaken("nuevo@test.com", null);
+
+        // Then
+        assertFalse(taken);
+        verify(studentRepository).existsByEmail("nuevo@test.com");
+        assertEquals(1.0, meterRegistry.get("students.email.checks").tag("outcome", "unfiltered").counter().count());
+    }
+}
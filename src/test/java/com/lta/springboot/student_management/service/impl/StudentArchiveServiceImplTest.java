@@ -0,0 +1,119 @@
+package com.lta.springboot.student_management.service.impl;
+
+import com.lta.springboot.student_management.config.StudentArchiveProperties;
+import com.lta.springboot.student_management.domain.enums.StudentChangeType;
+import com.lta.springboot.student_management.domain.event.StudentsChangedEvent;
+import com.lta.springboot.student_management.repository.StudentRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.lta.springboot.student_management.util.Constants.STUDENTS_CACHE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+/**
+ * Pruebas unitarias para {@link StudentArchiveServiceImpl}
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StudentArchiveServiceImpl - Unit Tests")
+class StudentArchiveServiceImplTest {
+
+    @Mock
+    private StudentRepository studentRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache cache;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("archiveInactive - Archiva en lotes, cada uno en su transacción, hasta un lote incompleto")
+    void testArchiveInactive_ShouldArchiveInBatches_AndEvictAndPublishEachBatch() {
+        // Given
+        // El umbral se calcula con el reloj de la base de datos, no con el de la JVM
+        LocalDateTime databaseNow = LocalDateTime.of(2026, 10, 18, 10, 0);
+        LocalDateTime threshold = databaseNow.minusDays(30);
+        when(studentRepository.supportsArchive()).thenReturn(true);
+        when(studentRepository.currentTimestamp()).thenReturn(databaseNow);
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        when(cacheManager.getCache(STUDENTS_CACHE)).thenReturn(cache);
+        when(studentRepository.archiveInactiveBefore(threshold, 2))
+                .thenReturn(List.of(1L, 2L), List.of(3L, 4L), List.of(5L));
+
+        // When
+        int archived = service(true).archiveInactive();
+
+        // Then
+        assertEquals(5, archived);
+        verify(studentRepository, times(3)).archiveInactiveBefore(threshold, 2);
+        verify(transactionManager, times(3)).commit(any());
+        for (long id = 1; id <= 5; id++) {
+            verify(cache).evict(id);
+        }
+        ArgumentCaptor<Object> events = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, times(3)).publishEvent(events.capture());
+        List<StudentsChangedEvent> batches = events.getAllValues().stream().map(StudentsChangedEvent.class::cast).toList();
+        assertEquals(List.of(List.of(1L, 2L), List.of(3L, 4L), List.of(5L)),
+                batches.stream().map(StudentsChangedEvent::idStudents).toList());
+        assertTrue(batches.stream().allMatch(batch -> batch.type() == StudentChangeType.ARCHIVED));
+    }
+
+    @Test
+    @DisplayName("archiveInactive - Sin PostgreSQL se omite sin lanzar excepción")
+    void testArchiveInactive_ShouldSkip_WhenDatabaseNotSupported() {
+        // Given
+        when(studentRepository.supportsArchive()).thenReturn(false);
+        StudentArchiveServiceImpl studentArchiveService = service(true);
+
+        // When
+        int first = studentArchiveService.archiveInactive();
+        int second = studentArchiveService.archiveInactive();
+
+        // Then
+        assertEquals(0, first);
+        assertEquals(0, second);
+        verify(studentRepository, never()).archiveInactiveBefore(any(), anyInt());
+        verifyNoInteractions(eventPublisher, cacheManager, transactionManager);
+    }
+
+    @Test
+    @DisplayName("archiveInactive - Desactivado no consulta la base de datos")
+    void testArchiveInactive_ShouldDoNothing_WhenDisabled() {
+        // When
+        int archived = service(false).archiveInactive();
+
+        // Then
+        assertEquals(0, archived);
+        verify(studentRepository, never()).archiveInactiveBefore(any(), anyInt());
+        verifyNoInteractions(eventPublisher, cacheManager);
+    }
+
+    private StudentArchiveServiceImpl service(boolean enabled) {
+        return new StudentArchiveServiceImpl(studentRepository,
+                new StudentArchiveProperties(enabled, Duration.ofDays(30), 2, Duration.ZERO),
+                eventPublisher, cacheManager, transactionManager);
+    }
+}
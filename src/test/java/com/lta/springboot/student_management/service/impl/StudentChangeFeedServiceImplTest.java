@@ -0,0 +1,272 @@
+package com.lta.springboot.student_management.service.impl;
+
+import com.lta.springboot.student_management.config.ChangeFeedProperties;
+import com.lta.springboot.student_management.domain.dto.response.StudentChangeEventDTO;
+import com.lta.springboot.student_management.domain.enums.StudentChangeType;
+import com.lta.springboot.student_management.domain.event.StudentChangedEvent;
+import com.lta.springboot.student_management.domain.event.StudentsChangedEvent;
+import com.lta.springboot.student_management.exception.ResourceNotFoundException;
+import com.lta.springboot.student_management.repository.StudentChangeEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Pruebas unitarias para {@link StudentChangeFeedServiceImpl}
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StudentChangeFeedServiceImpl - Unit Tests")
+class StudentChangeFeedServiceImplTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    @Mock
+    private StudentChangeEventRepository studentChangeEventRepository;
+
+    private StudentChangeFeedServiceImpl studentChangeFeedService;
+
+    @BeforeEach
+    void setUp() {
+        studentChangeFeedService = new StudentChangeFeedServiceImpl(studentChangeEventRepository,
+                new ChangeFeedProperties(true, BATCH_SIZE, Duration.ofMillis(10), Duration.ofSeconds(15),
+                        Duration.ofMinutes(30), Duration.ofDays(7)),
+                new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("onStudentChanged - Guarda los cambios de la transacción en un solo lote antes del commit")
+    void testOnStudentChanged_ShouldInsertTransactionChangesBeforeCommit() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        StudentChangedEvent created = StudentChangedEvent.of(StudentChangeType.CREATED, 1L);
+        StudentChangedEvent deleted = StudentChangedEvent.of(StudentChangeType.DELETED, 2L);
+
+        // When
+        studentChangeFeedService.onStudentChanged(created);
+        studentChangeFeedService.onStudentChanged(deleted);
+        verify(studentChangeEventRepository, never()).insertAll(anyList());
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        // Then
+        assertEquals(1, synchronizations.size());
+        verify(studentChangeEventRepository).insertAll(List.of(created, deleted));
+        assertFalse(TransactionSynchronizationManager.hasResource(studentChangeFeedService));
+    }
+
+    @Test
+    @DisplayName("onStudentsChanged - Guarda un cambio por estudiante de la operación masiva")
+    void testOnStudentsChanged_ShouldInsertOneChangePerStudent() {
+        // Given
+        StudentsChangedEvent deleted = StudentsChangedEvent.of(StudentChangeType.DELETED, List.of(4L, 5L));
+
+        // When
+        studentChangeFeedService.onStudentsChanged(deleted);
+
+        // Then
+        verify(studentChangeEventRepository).insertAll(List.of(
+                new StudentChangedEvent(StudentChangeType.DELETED, 4L, deleted.occurredAt()),
+                new StudentChangedEvent(StudentChangeType.DELETED, 5L, deleted.occurredAt())));
+    }
+
+    @Test
+    @DisplayName("subscribe - Lanza ResourceNotFoundException cuando el feed no está iniciado")
+    void testSubscribe_ShouldThrowNotFound_WhenFeedNotRunning() {
+        assertThrows(ResourceNotFoundException.class, () -> studentChangeFeedService.subscribe(0L));
+        verifyNoInteractions(studentChangeEventRepository);
+    }
+
+    @Test
+    @DisplayName("onStudentChanged - Sin transacción guarda el cambio de inmediato")
+    void testOnStudentChanged_ShouldInsertImmediately_WithoutTransaction() {
+        // Given
+        StudentChangedEvent updated = StudentChangedEvent.of(StudentChangeType.UPDATED, 3L);
+
+        // When
+        studentChangeFeedService.onStudentChanged(updated);
+
+        // Then
+        verify(studentChangeEventRepository).insertAll(List.of(updated));
+    }
+
+    @Test
+    @DisplayName("stream - Reenvía por lotes los cambios posteriores al offset, con el offset como id del evento")
+    void testStream_ShouldReplayChangesAfterOffset_InBatches() {
+        // Given
+        studentChangeFeedService.start();
+        when(studentChangeEventRepository.findOldestId()).thenReturn(OptionalLong.of(1));
+        when(studentChangeEventRepository.findAfter(10L, BATCH_SIZE)).thenReturn(List.of(change(11), change(12)));
+        when(studentChangeEventRepository.findAfter(12L, BATCH_SIZE)).thenReturn(List.of(change(13)));
+        when(studentChangeEventRepository.findAfter(13L, BATCH_SIZE)).thenAnswer(invocation -> {
+            studentChangeFeedService.stop();
+            return List.of();
+        });
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        // When
+        studentChangeFeedService.stream(emitter, 10L, new AtomicBoolean(true));
+
+        // Then
+        assertEquals(3, emitter.events.size());
+        assertTrue(emitter.events.getFirst().startsWith("id:11\nevent:student-change\ndata:"));
+        assertTrue(emitter.events.get(1).startsWith("id:12\n"));
+        assertTrue(emitter.events.get(2).startsWith("id:13\n"));
+        assertTrue(emitter.completed);
+        verify(studentChangeEventRepository, never()).findAfter(11L, BATCH_SIZE);
+    }
+
+    @Test
+    @DisplayName("stream - Envía reset cuando el offset es anterior a los cambios conservados")
+    void testStream_ShouldSendReset_WhenOffsetIsBeforeRetention() {
+        // Given
+        studentChangeFeedService.start();
+        when(studentChangeEventRepository.findOldestId()).thenReturn(OptionalLong.of(100));
+        when(studentChangeEventRepository.findAfter(5L, BATCH_SIZE)).thenAnswer(invocation -> {
+            studentChangeFeedService.stop();
+            return List.of(change(100));
+        });
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        // When
+        studentChangeFeedService.stream(emitter, 5L, new AtomicBoolean(true));
+
+        // Then
+        assertEquals(2, emitter.events.size());
+        assertTrue(emitter.events.getFirst().startsWith("event:reset\ndata:"));
+        assertTrue(emitter.events.getFirst().contains("oldestId"));
+        assertTrue(emitter.events.get(1).startsWith("id:100\n"));
+    }
+
+    @Test
+    @DisplayName("stream - Un offset al día o recién purgado no recibe reset")
+    void testStream_ShouldNotSendReset_WhenOffsetIsRetained() {
+        // Given
+        studentChangeFeedService.start();
+        when(studentChangeEventRepository.findOldestId()).thenReturn(OptionalLong.of(100));
+        when(studentChangeEventRepository.findAfter(99L, BATCH_SIZE)).thenAnswer(invocation -> {
+            studentChangeFeedService.stop();
+            return List.of();
+        });
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        // When
+        studentChangeFeedService.stream(emitter, 99L, new AtomicBoolean(true));
+
+        // Then
+        assertTrue(emitter.events.isEmpty());
+        assertTrue(emitter.completed);
+    }
+
+    @Test
+    @DisplayName("stream - Envía keep-alive cuando no hay cambios durante el intervalo de heartbeat")
+    void testStream_ShouldSendHeartbeat_WhenIdle() {
+        // Given
+        studentChangeFeedService = new StudentChangeFeedServiceImpl(studentChangeEventRepository,
+                new ChangeFeedProperties(true, BATCH_SIZE, Duration.ofMillis(10), Duration.ZERO,
+                        Duration.ofMinutes(30), Duration.ofDays(7)),
+                new SimpleMeterRegistry());
+        studentChangeFeedService.start();
+        when(studentChangeEventRepository.findOldestId()).thenReturn(OptionalLong.empty());
+        when(studentChangeEventRepository.findAfter(0L, BATCH_SIZE)).thenAnswer(invocation -> {
+            studentChangeFeedService.stop();
+            return List.of();
+        });
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        // When
+        studentChangeFeedService.stream(emitter, 0L, new AtomicBoolean(true));
+
+        // Then
+        assertEquals(List.of(":keep-alive\n\n"), emitter.events);
+    }
+
+    @Test
+    @DisplayName("stream - Termina sin propagar el error cuando el suscriptor se desconecta")
+    void testStream_ShouldStop_WhenSubscriberDisconnects() {
+        // Given
+        studentChangeFeedService.start();
+        when(studentChangeEventRepository.findOldestId()).thenReturn(OptionalLong.of(1));
+        when(studentChangeEventRepository.findAfter(0L, BATCH_SIZE)).thenReturn(List.of(change(1)));
+        RecordingEmitter emitter = new RecordingEmitter();
+        emitter.failOnSend = true;
+
+        // When
+        studentChangeFeedService.stream(emitter, 0L, new AtomicBoolean(true));
+
+        // Then
+        verify(studentChangeEventRepository, times(1)).findAfter(any(Long.class), any(Integer.class));
+        assertFalse(emitter.completed);
+        studentChangeFeedService.stop();
+    }
+
+    @Test
+    @DisplayName("purgeExpired - Elimina los cambios anteriores a la retención")
+    void testPurgeExpired_ShouldDeleteChangesOlderThanRetention() {
+        // Given
+        when(studentChangeEventRepository.deleteOlderThan(Duration.ofDays(7))).thenReturn(3);
+
+        // When
+        int deleted = studentChangeFeedService.purgeExpired();
+
+        // Then
+        assertEquals(3, deleted);
+    }
+
+    private static StudentChangeEventDTO change(long id) {
+        return new StudentChangeEventDTO(id, StudentChangeType.UPDATED, id * 10, LocalDateTime.now());
+    }
+
+    /**
+     * Emisor que guarda el texto de cada evento enviado en lugar de escribirlo en una respuesta HTTP.
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final List<String> events = new ArrayList<>();
+        private boolean completed;
+        private boolean failOnSend;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (failOnSend) {
+                throw new IOException("Conexión cerrada por el cliente");
+            }
+            StringBuilder event = new StringBuilder();
+            builder.build().forEach(part -> event.append(part.getData()));
+            events.add(event.toString());
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.lta.springboot.student_management.service.impl;
+
+import com.lta.springboot.student_management.data.DataDummy;
+import com.lta.springboot.student_management.domain.entity.Student;
+import com.lta.springboot.student_management.domain.enums.StudentFileFormat;
+import com.lta.springboot.student_management.domain.mapper.StudentMapper;
+import com.lta.springboot.student_management.repository.StudentRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Pruebas unitarias para {@link StudentExportServiceImpl}
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StudentExportServiceImpl - Unit Tests")
+class StudentExportServiceImplTest {
+
+    @Mock
+    private StudentRepository studentRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private StudentExportServiceImpl studentExportService;
+
+    @BeforeEach
+    void setUp() {
+        studentExportService = new StudentExportServiceImpl(studentRepository, new StudentMapper(),
+                JsonMapper.builder().build(), entityManager);
+    }
+
+    @Test
+    @DisplayName("exportStudents - Escribe el CSV con cabecera, escapa comas y desvincula cada entidad")
+    void testExportStudents_ShouldWriteCsvAndDetachEachEntity() throws Exception {
+        // Given
+        Student first = DataDummy.firstStudent();
+        Student second = DataDummy.secondStudent();
+        second.setLastname("Vasquez, Jr.");
+        when(studentRepository.streamAllOrderedById()).thenReturn(Stream.of(first, second));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        long exported = studentExportService.exportStudents(output, StudentFileFormat.CSV);
+
+        // Then
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, exported);
+        assertEquals(3, lines.length);
+        assertEquals("idStudent,name,lastname,email,createdAt,updatedAt", lines[0]);
+        assertTrue(lines[2].startsWith("2,Felipe,\"Vasquez, Jr.\",vasquez@test.com,"));
+        verify(entityManager).detach(first);
+        verify(entityManager).detach(second);
+    }
+
+    @Test
+    @DisplayName("exportStudents - Escribe un objeto JSON por línea")
+    void testExportStudents_ShouldWriteJsonLines() throws Exception {
+        // Given
+        when(studentRepository.streamAllOrderedById()).thenReturn(Stream.of(DataDummy.firstStudent()));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        studentExportService.exportStudents(output, StudentFileFormat.JSONL);
+
+        // Then
+        String content = output.toString(StandardCharsets.UTF_8);
+        assertTrue(content.startsWith("{\"idStudent\":1,\"name\":\"Saul\""));
+        assertTrue(content.endsWith("}\n"));
+    }
+}
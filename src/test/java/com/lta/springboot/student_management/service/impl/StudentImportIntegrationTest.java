@@ -0,0 +1,97 @@
+package com.lta.springboot.student_management.service.impl;
+
+import com.lta.springboot.student_management.domain.dto.response.StudentChangeEventDTO;
+import com.lta.springboot.student_management.domain.dto.response.StudentImportResultDTO;
+import com.lta.springboot.student_management.domain.enums.StudentChangeType;
+import com.lta.springboot.student_management.domain.enums.StudentFileFormat;
+import com.lta.springboot.student_management.repository.StudentChangeEventRepository;
+import com.lta.springboot.student_management.service.interfaces.IStudentImportService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas de integración de la importación masiva sobre PostgreSQL: los estudiantes importados llegan al feed
+ * de cambios y a la auditoría como cualquier otro alta. Las filas creadas se eliminan al terminar.
+ */
+@SpringBootTest(properties = "app.students.import.batch-size=2")
+@DisplayName("StudentImportServiceImpl - Integration Tests")
+class StudentImportIntegrationTest {
+
+    private final String emailDomain = "@i" + UUID.randomUUID().toString().substring(0, 8) + ".test";
+
+    @Autowired
+    private IStudentImportService studentImportService;
+
+    @Autowired
+    private StudentChangeEventRepository studentChangeEventRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        List<Long> ids = importedIds();
+        jdbcTemplate.update("DELETE FROM students WHERE email LIKE ?", "%" + emailDomain);
+        for (Long id : ids) {
+            jdbcTemplate.update("DELETE FROM student_tombstones WHERE id_student = ?", id);
+            jdbcTemplate.update("DELETE FROM student_change_events WHERE id_student = ?", id);
+            jdbcTemplate.update("DELETE FROM logs WHERE entity = ? AND entity_id = ?", AuditServiceImpl.STUDENT_ENTITY, id);
+        }
+    }
+
+    @Test
+    @DisplayName("importStudents - Cada estudiante importado queda en el feed de cambios y en la auditoría")
+    void testImportStudents_ShouldPublishCreatedChangePerStudent() throws InterruptedException {
+        // Given
+        long offset = studentChangeEventRepository.findLatestId();
+        String csv = """
+                email,name,lastname
+                ana%1$s,Ana,Feed
+                luis%1$s,Luis,Feed
+                eva%1$s,Eva,Feed
+                """.formatted(emailDomain);
+
+        // When
+        StudentImportResultDTO result = studentImportService.importStudents(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), StudentFileFormat.CSV);
+
+        // Then
+        assertEquals(3, result.importedRows());
+        List<Long> ids = importedIds();
+        List<StudentChangeEventDTO> feed = studentChangeEventRepository.findAfter(offset, 1000).stream()
+                .filter(change -> ids.contains(change.idStudent()))
+                .toList();
+        assertEquals(ids, feed.stream().map(StudentChangeEventDTO::idStudent).sorted().toList());
+        assertTrue(feed.stream().allMatch(change -> change.type() == StudentChangeType.CREATED));
+        assertEquals(3, awaitAuditEntries(ids, 3));
+    }
+
+    private List<Long> importedIds() {
+        return jdbcTemplate.queryForList("SELECT id_student FROM students WHERE email LIKE ? ORDER BY id_student",
+                Long.class, "%" + emailDomain);
+    }
+
+    /**
+     * La auditoría se guarda en segundo plano: espera a que aparezcan las entradas o a que pasen unos segundos.
+     */
+    private int awaitAuditEntries(List<Long> ids, int expected) throws InterruptedException {
+        String sql = "SELECT COUNT(*) FROM logs WHERE action = 'STUDENT_CREATED' AND entity = ? AND entity_id = ANY (?)";
+        int found = 0;
+        for (int attempt = 0; attempt < 50 && found < expected; attempt++) {
+            Thread.sleep(100);
+            found = jdbcTemplate.queryForObject(sql, Integer.class, AuditServiceImpl.STUDENT_ENTITY, ids.toArray(Long[]::new));
+        }
+        return found;
+    }
+}
@@ -0,0 +1,174 @@
+package com.lta.springboot.student_management.service.impl;
+
+import com.lta.springboot.student_management.config.StudentImportProperties;
+import com.lta.springboot.student_management.domain.dto.response.StudentImportResultDTO;
+import com.lta.springboot.student_management.domain.entity.Student;
+import com.lta.springboot.student_management.domain.enums.StudentChangeType;
+import com.lta.springboot.student_management.domain.enums.StudentFileFormat;
+import com.lta.springboot.student_management.domain.event.StudentsChangedEvent;
+import com.lta.springboot.student_management.domain.mapper.StudentMapper;
+import com.lta.springboot.student_management.exception.BadRequestException;
+import com.lta.springboot.student_management.repository.StudentRepository;
+import com.lta.springboot.student_management.service.interfaces.IEmailUniquenessService;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Pruebas unitarias para {@link StudentImportServiceImpl}
+ * <p>
+ * Se usa el validador real de Bean Validation para aplicar las restricciones de StudentRequestDTO
+ * y Mockito para simular el repositorio y el administrador de transacciones.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StudentImportServiceImpl - Unit Tests")
+class StudentImportServiceImplTest {
+
+    @Mock
+    private StudentRepository studentRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private IEmailUniquenessService emailUniquenessService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private StudentImportServiceImpl studentImportService;
+
+    @BeforeEach
+    void setUp() {
+        studentImportService = new StudentImportServiceImpl(
+                studentRepository,
+                new StudentMapper(),
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                JsonMapper.builder().build(),
+                new TransactionTemplate(transactionManager),
+                new StudentImportProperties(2, 10),
+                emailUniquenessService,
+                eventPublisher);
+    }
+
+    @Test
+    @DisplayName("importStudents - Inserta las filas válidas de un CSV en lotes del tamaño configurado")
+    @SuppressWarnings("unchecked")
+    void testImportStudents_ShouldSaveValidCsvRowsInBatches() {
+        // Given
+        String csv = """
+                email,name,lastname
+                saul@test.com,Saul,Echeverri
+                "felipe@test.com","Felipe","Vasquez"
+                arenas@test.com,Alejandra,Arenas
+                """;
+        when(studentRepository.findExistingEmails(anyCollection())).thenReturn(List.of());
+        AtomicLong sequence = new AtomicLong();
+        when(studentRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Student> students = invocation.getArgument(0);
+            students.forEach(student -> student.setIdStudent(sequence.incrementAndGet()));
+            return students;
+        });
+
+        // When
+        StudentImportResultDTO result = studentImportService.importStudents(toStream(csv), StudentFileFormat.CSV);
+
+        // Then
+        assertEquals(3, result.totalRows());
+        assertEquals(3, result.importedRows());
+        assertEquals(0, result.rejectedRows());
+
+        ArgumentCaptor<List<Student>> captor = ArgumentCaptor.forClass(List.class);
+        verify(studentRepository, times(2)).saveAll(captor.capture());
+        assertEquals(2, captor.getAllValues().get(0).size());
+        assertEquals("Felipe", captor.getAllValues().get(0).get(1).getName());
+        assertEquals(1, captor.getAllValues().get(1).size());
+
+        ArgumentCaptor<Object> events = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        List<StudentsChangedEvent> changes = events.getAllValues().stream().map(StudentsChangedEvent.class::cast).toList();
+        assertEquals(List.of(List.of(1L, 2L), List.of(3L)), changes.stream().map(StudentsChangedEvent::idStudents).toList());
+        assertTrue(changes.stream().allMatch(change -> change.type() == StudentChangeType.CREATED));
+    }
+
+    @Test
+    @DisplayName("importStudents - Reporta por fila los registros inválidos y los emails duplicados")
+    void testImportStudents_ShouldRejectInvalidAndDuplicatedRows() {
+        // Given
+        String csv = """
+                name,lastname,email
+                S,Echeverri,no-es-un-email
+                Felipe,Vasquez,felipe@test.com
+                Felipe,Vasquez,felipe@test.com
+                Saul,Echeverri,existente@test.com
+                """;
+        when(studentRepository.findExistingEmails(anyCollection())).thenReturn(List.of("existente@test.com"));
+
+        // When
+        StudentImportResultDTO result = studentImportService.importStudents(toStream(csv), StudentFileFormat.CSV);
+
+        // Then
+        assertEquals(4, result.totalRows());
+        assertEquals(1, result.importedRows());
+        assertEquals(3, result.rejectedRows());
+        assertEquals(List.of(1L, 3L, 4L), result.errors().stream().map(e -> e.rowNumber()).toList());
+        assertEquals(2, result.errors().getFirst().messages().size());
+        assertEquals("El email está repetido en el archivo.", result.errors().get(1).messages().getFirst());
+        assertEquals("El email ya está registrado.", result.errors().get(2).messages().getFirst());
+        assertFalse(result.errorsTruncated());
+    }
+
+    @Test
+    @DisplayName("importStudents - Procesa JSON Lines y rechaza las líneas que no son JSON válido")
+    void testImportStudents_ShouldRejectMalformedJsonLines() {
+        // Given
+        String jsonLines = """
+                {"name":"Saul","lastname":"Echeverri","email":"saul@test.com"}
+                {"name":"Felipe",
+                """;
+        when(studentRepository.findExistingEmails(anyCollection())).thenReturn(List.of());
+
+        // When
+        StudentImportResultDTO result = studentImportService.importStudents(toStream(jsonLines), StudentFileFormat.JSONL);
+
+        // Then
+        assertEquals(2, result.totalRows());
+        assertEquals(1, result.importedRows());
+        assertEquals(1, result.rejectedRows());
+        assertEquals("JSON inválido.", result.errors().getFirst().messages().getFirst());
+    }
+
+    @Test
+    @DisplayName("importStudents - Debe lanzar BadRequestException cuando la cabecera CSV no tiene las columnas requeridas")
+    void testImportStudents_ShouldThrowException_WhenCsvHeaderIsInvalid() {
+        InputStream csv = toStream("nombre,apellido\nSaul,Echeverri\n");
+
+        assertThrows(BadRequestException.class,
+                () -> studentImportService.importStudents(csv, StudentFileFormat.CSV));
+        verify(studentRepository, never()).saveAll(any());
+    }
+
+    private static InputStream toStream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
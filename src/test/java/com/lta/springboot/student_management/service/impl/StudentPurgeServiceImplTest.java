@@ -0,0 +1,66 @@
+package com.lta.springboot.student_management.service.impl;
+
+import com.lta.springboot.student_management.config.StudentPurgeProperties;
+import com.lta.springboot.student_management.repository.StudentRepository;
+import com.lta.springboot.student_management.repository.StudentSyncRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Pruebas unitarias para {@link StudentPurgeServiceImpl}
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StudentPurgeServiceImpl - Unit Tests")
+class StudentPurgeServiceImplTest {
+
+    @Mock
+    private StudentRepository studentRepository;
+
+    @Mock
+    private StudentSyncRepository studentSyncRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private StudentPurgeServiceImpl studentPurgeService;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        studentPurgeService = new StudentPurgeServiceImpl(studentRepository, studentSyncRepository,
+                new StudentPurgeProperties(true, Duration.ofDays(30), 2, Duration.ZERO), transactionManager);
+    }
+
+    @Test
+    @DisplayName("purgeDeleted - Borra en lotes, cada uno en su transacción, hasta un lote incompleto")
+    void testPurgeDeleted_ShouldPurgeInBatchesUntilPartialBatch() {
+        // Given
+        // El umbral se calcula con el reloj de la base de datos, no con el de la JVM
+        LocalDateTime databaseNow = LocalDateTime.of(2026, 10, 18, 10, 0);
+        LocalDateTime threshold = databaseNow.minusDays(30);
+        when(studentSyncRepository.currentTimestamp()).thenReturn(databaseNow);
+        when(studentRepository.purgeDeletedBefore(threshold, 2)).thenReturn(2, 2, 1);
+        when(studentSyncRepository.deleteTombstonesBefore(threshold, 2)).thenReturn(0);
+
+        // When
+        int purged = studentPurgeService.purgeDeleted();
+
+        // Then
+        assertEquals(5, purged);
+        verify(studentRepository, times(3)).purgeDeletedBefore(threshold, 2);
+        verify(transactionManager, times(4)).commit(any());
+    }
+}
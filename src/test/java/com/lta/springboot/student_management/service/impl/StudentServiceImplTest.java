@@ -1,20 +1,45 @@
 package com.lta.springboot.student_management.service.impl;
 
+import com.lta.springboot.student_management.config.StudentBulkProperties;
 import com.lta.springboot.student_management.data.DataDummy;
+import com.lta.springboot.student_management.domain.dto.request.StudentBulkPatchRequestDTO;
 import com.lta.springboot.student_management.domain.dto.request.StudentRequestDTO;
+import com.lta.springboot.student_management.domain.dto.request.StudentSearchCriteriaDTO;
+import com.lta.springboot.student_management.domain.dto.response.CursorPageResponseDTO;
+import com.lta.springboot.student_management.domain.dto.response.StudentBulkOutcomeDTO;
+import com.lta.springboot.student_management.domain.dto.response.StudentBulkResultDTO;
 import com.lta.springboot.student_management.domain.dto.response.StudentResponseDTO;
+import com.lta.springboot.student_management.domain.entity.ArchivedStudent;
 import com.lta.springboot.student_management.domain.entity.Student;
+import com.lta.springboot.student_management.domain.enums.StudentBulkStatus;
+import com.lta.springboot.student_management.domain.enums.StudentChangeType;
+import com.lta.springboot.student_management.domain.event.StudentChangedEvent;
+import com.lta.springboot.student_management.domain.event.StudentsChangedEvent;
 import com.lta.springboot.student_management.domain.mapper.StudentMapper;
+import com.lta.springboot.student_management.exception.BadRequestException;
+import com.lta.springboot.student_management.exception.ConflictException;
 import com.lta.springboot.student_management.exception.ResourceNotFoundException;
+import com.lta.springboot.student_management.repository.ArchivedStudentRepository;
 import com.lta.springboot.student_management.repository.StudentRepository;
+import com.lta.springboot.student_management.service.interfaces.IEmailUniquenessService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 
@@ -37,6 +62,24 @@ class StudentServiceImplTest {
     @Mock
     private StudentMapper studentMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private StudentBulkProperties studentBulkProperties;
+
+    @Mock
+    private IEmailUniquenessService emailUniquenessService;
+
+    @Mock
+    private ArchivedStudentRepository archivedStudentRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private StudentServiceImpl studentService;
 
@@ -55,11 +98,9 @@ class StudentServiceImplTest {
     @DisplayName("findAllStudents - Debe retornar lista de estudiantes cuando existen registros")
     void testFindAllStudents_ShouldReturnListOfStudents_WhenStudentsExist() {
         //Given
-        List<Student> students = DataDummy.createStudentList();
         List<StudentResponseDTO> expectedStudentResponseDTOList = DataDummy.createStudentResponseDTOList();
 
-        when(studentRepository.findAll()).thenReturn(students);
-        when(studentMapper.toStudentResponseList(students)).thenReturn(expectedStudentResponseDTOList);
+        when(studentRepository.findAllResponses()).thenReturn(expectedStudentResponseDTOList);
 
         //When
         List<StudentResponseDTO> result = studentService.findAllStudents();
@@ -70,18 +111,105 @@ class StudentServiceImplTest {
         assertEquals("Saul", result.getFirst().name());
         assertEquals("Echeverri", result.getFirst().lastname());
 
-        verify(studentRepository, times(1)).findAll();
-        verify(studentMapper, times(1)).toStudentResponseList(students);
+        verify(studentRepository, times(1)).findAllResponses();
+        verifyNoInteractions(studentMapper);
 
     }
 
+    @Test
+    @DisplayName("findStudentsPage - Debe retornar la primera página con cursor siguiente cuando hay más registros")
+    void testFindStudentsPage_ShouldReturnFirstPageWithNextCursor_WhenMoreRowsExist() {
+        // Given
+        List<StudentResponseDTO> rows = DataDummy.createStudentResponseDTOList();
+
+        when(studentRepository.findResponsesAfter(0L, Limit.of(3))).thenReturn(rows);
+
+        // When
+        CursorPageResponseDTO<StudentResponseDTO> result = studentService.findStudentsPage(null, null, 2);
+
+        // Then
+        assertEquals(2, result.content().size());
+        assertTrue(result.hasNext());
+        assertEquals(DataDummy.SECOND_ID, result.nextCursor());
+        assertFalse(result.hasPrevious());
+        assertNull(result.previousCursor());
+    }
+
+    @Test
+    @DisplayName("findStudentsPage - Con archivados debe mezclar ambas tablas por ID")
+    void testFindStudentsPage_ShouldMergeTiersById_WhenIncludeArchived() {
+        // Given
+        List<StudentResponseDTO> dtos = DataDummy.createStudentResponseDTOList();
+        ArchivedStudent archived = new ArchivedStudent(DataDummy.SECOND_ID, DataDummy.SECOND_NAME,
+                DataDummy.SECOND_LASTNAME, DataDummy.SECOND_EMAIL, null, null, 0L, null);
+
+        when(studentRepository.findResponsesAfter(0L, Limit.of(3))).thenReturn(List.of(dtos.get(0), dtos.get(2)));
+        when(archivedStudentRepository.findByIdStudentGreaterThanOrderByIdStudentAsc(0L, Limit.of(3)))
+                .thenReturn(List.of(archived));
+        when(studentMapper.toArchivedStudentResponseDTO(archived)).thenReturn(dtos.get(1));
+
+        // When
+        CursorPageResponseDTO<StudentResponseDTO> result = studentService.findStudentsPage(null, null, 2, true);
+
+        // Then
+        assertEquals(List.of(DataDummy.DEFAULT_ID, DataDummy.SECOND_ID),
+                result.content().stream().map(StudentResponseDTO::idStudent).toList());
+        assertTrue(result.hasNext());
+        assertEquals(DataDummy.SECOND_ID, result.nextCursor());
+    }
+
+    @Test
+    @DisplayName("findStudentsPage - Debe retornar la página anterior en orden ascendente")
+    void testFindStudentsPage_ShouldReturnPreviousPageInAscendingOrder_WhenBeforeCursorGiven() {
+        // Given
+        List<StudentResponseDTO> dtos = DataDummy.createStudentResponseDTOList();
+
+        when(studentRepository.findResponsesBefore(DataDummy.THIRD_ID, Limit.of(3)))
+                .thenReturn(List.of(dtos.get(1), dtos.get(0)));
+
+        // When
+        CursorPageResponseDTO<StudentResponseDTO> result =
+                studentService.findStudentsPage(null, DataDummy.THIRD_ID, 2);
+
+        // Then
+        assertEquals(List.of(DataDummy.DEFAULT_ID, DataDummy.SECOND_ID),
+                result.content().stream().map(StudentResponseDTO::idStudent).toList());
+        assertFalse(result.hasPrevious());
+        assertTrue(result.hasNext());
+        assertEquals(DataDummy.SECOND_ID, result.nextCursor());
+        verify(studentRepository, never()).findResponsesAfter(any(), any());
+    }
+
+    @Test
+    @DisplayName("searchStudents - Debe retornar la página de estudiantes que cumplen los filtros")
+    @SuppressWarnings("unchecked")
+    void testSearchStudents_ShouldReturnFilteredPage_WhenCriteriaGiven() {
+        // Given
+        StudentSearchCriteriaDTO criteria = StudentSearchCriteriaDTO.builder().name("sa").build();
+        List<Student> students = List.of(student);
+        List<StudentResponseDTO> expected = List.of(studentResponseDTO);
+
+        when(studentRepository.findBy(any(Specification.class), any())).thenReturn(students);
+        when(studentMapper.toStudentResponseList(students)).thenReturn(expected);
+
+        // When
+        CursorPageResponseDTO<StudentResponseDTO> result = studentService.searchStudents(criteria, null, null, 10);
+
+        // Then
+        assertEquals(expected, result.content());
+        assertFalse(result.hasNext());
+        assertFalse(result.hasPrevious());
+        verify(studentRepository, never()).findResponsesAfter(any(), any());
+    }
+
     @Test
     @DisplayName("createStudent - Crea un estudiante cuando los registros son válidos")
     void testCreateStudent_ShouldReturnStudentResponseDTO_WhenValidData() {
         // Given
-
+        LocalDateTime databaseNow = LocalDateTime.of(2026, 10, 18, 10, 0);
         when(studentMapper.toEntity(studentRequestDTO)).thenReturn(student);
-        when(studentRepository.save(student)).thenReturn(student);
+        when(studentRepository.currentTimestamp()).thenReturn(databaseNow);
+        when(studentRepository.saveAndFlush(student)).thenReturn(student);
         when(studentMapper.toStudentResponseDTO(student)).thenReturn(studentResponseDTO);
 
         // When
@@ -91,8 +219,26 @@ class StudentServiceImplTest {
         assertNotNull(result);
         assertEquals(studentResponseDTO, result);
         verify(studentMapper).toEntity(studentRequestDTO);
-        verify(studentRepository).save(student);
+        verify(studentRepository).saveAndFlush(student);
+        assertEquals(databaseNow, student.getCreatedAt());
+        assertEquals(databaseNow, student.getUpdatedAt());
         verify(studentMapper).toStudentResponseDTO(student);
+        verify(emailUniquenessService).registerEmail(student.getEmail());
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof StudentChangedEvent changed
+                && changed.type() == StudentChangeType.CREATED && student.getIdStudent().equals(changed.idStudent())));
+    }
+
+    @Test
+    @DisplayName("createStudent - Debe lanzar ConflictException sin intentar el INSERT cuando el email ya existe")
+    void testCreateStudent_ShouldThrowConflict_WhenEmailIsTaken() {
+        // Given
+        when(emailUniquenessService.isEmailTaken(studentRequestDTO.getEmail(), null)).thenReturn(true);
+
+        // When & Then
+        assertThrows(ConflictException.class, () -> studentService.createStudent(studentRequestDTO));
+        verify(studentRepository, never()).saveAndFlush(any());
+        verify(emailUniquenessService, never()).registerEmail(any());
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
@@ -140,6 +286,7 @@ class StudentServiceImplTest {
                 .name("NuevoNombre")
                 .lastname("NuevoApellido")
                 .email("nuevocorreo@test.com")
+                .version(2L)
                 .build();
 
         Student existingStudent = DataDummy.firstStudent();
@@ -156,9 +303,8 @@ class StudentServiceImplTest {
                 id, "NuevoNombre", "NuevoApellido", "nuevocorreo@test.com",
                 existingStudent.getCreatedAt(), existingStudent.getUpdatedAt());
 
-        when(studentRepository.findById(id)).thenReturn(java.util.Optional.of(existingStudent));
-        doNothing().when(studentMapper).updateEntityFromDTO(existingStudent, updateRequest);
-        when(studentRepository.save(existingStudent)).thenReturn(updatedStudent);
+        when(studentRepository.updateById(id, 2L, "NuevoNombre", "NuevoApellido", "nuevocorreo@test.com"))
+                .thenReturn(Optional.of(updatedStudent));
         when(studentMapper.toStudentResponseDTO(updatedStudent)).thenReturn(expectedResponse);
 
         // WHEN
@@ -167,9 +313,8 @@ class StudentServiceImplTest {
         // THEN
         assertNotNull(result);
         assertEquals(expectedResponse, result);
-        verify(studentRepository).findById(id);
-        verify(studentMapper).updateEntityFromDTO(existingStudent, updateRequest);
-        verify(studentRepository).save(existingStudent);
+        verify(studentRepository).updateById(id, 2L, "NuevoNombre", "NuevoApellido", "nuevocorreo@test.com");
+        verify(studentRepository, never()).findById(any());
         verify(studentMapper).toStudentResponseDTO(updatedStudent);
     }
 
@@ -179,17 +324,70 @@ class StudentServiceImplTest {
         // GIVEN
         Long id = 99L;
         StudentRequestDTO updateRequest = DataDummy.createDefaultStudentRequestDTO();
+        updateRequest.setVersion(0L);
 
-        when(studentRepository.findById(id)).thenReturn(java.util.Optional.empty());
+        when(studentRepository.updateById(id, 0L, updateRequest.getName(), updateRequest.getLastname(),
+                updateRequest.getEmail())).thenReturn(Optional.empty());
+        when(studentRepository.existsById(id)).thenReturn(false);
 
         // WHEN & THEN
         ResourceNotFoundException ex = assertThrows(ResourceNotFoundException.class,
                 () -> studentService.updateStudent(id, updateRequest));
 
         assertEquals("Estudiante con ID 99 no encontrado", ex.getMessage());
-        verify(studentRepository).findById(id);
-        verify(studentMapper, never()).updateEntityFromDTO(any(), any());
-        verify(studentRepository, never()).save(any());
+        verify(studentMapper, never()).toStudentResponseDTO(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("updateStudent - Debe lanzar ConflictException cuando otro usuario modificó el estudiante")
+    void testUpdateStudent_ShouldThrowConflict_WhenVersionIsStale() {
+        // GIVEN
+        Long id = DataDummy.DEFAULT_ID;
+        StudentRequestDTO updateRequest = DataDummy.createDefaultStudentRequestDTO();
+        updateRequest.setVersion(1L);
+
+        when(studentRepository.updateById(id, 1L, updateRequest.getName(), updateRequest.getLastname(),
+                updateRequest.getEmail())).thenReturn(Optional.empty());
+        when(studentRepository.existsById(id)).thenReturn(true);
+
+        // WHEN & THEN
+        ConflictException ex = assertThrows(ConflictException.class,
+                () -> studentService.updateStudent(id, updateRequest));
+
+        assertTrue(ex.getMessage().startsWith("El estudiante con ID 1 fue modificado por otro usuario"));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("updateStudent - Debe lanzar ConflictException cuando el email ya está registrado")
+    void testUpdateStudent_ShouldThrowConflict_WhenEmailIsDuplicated() {
+        // GIVEN
+        Long id = DataDummy.DEFAULT_ID;
+        StudentRequestDTO updateRequest = DataDummy.createDefaultStudentRequestDTO();
+        updateRequest.setVersion(1L);
+
+        when(studentRepository.updateById(id, 1L, updateRequest.getName(), updateRequest.getLastname(),
+                updateRequest.getEmail())).thenThrow(new DataIntegrityViolationException("students_email_key"));
+
+        // WHEN & THEN
+        ConflictException ex = assertThrows(ConflictException.class,
+                () -> studentService.updateStudent(id, updateRequest));
+
+        assertEquals("El email " + DataDummy.DEFAULT_EMAIL + " ya está registrado por otro estudiante",
+                ex.getMessage());
+        verify(studentRepository, never()).existsById(any());
+    }
+
+    @Test
+    @DisplayName("updateStudent - Debe lanzar BadRequestException cuando no se envía la versión")
+    void testUpdateStudent_ShouldThrowBadRequest_WhenVersionIsMissing() {
+        // GIVEN
+        StudentRequestDTO updateRequest = DataDummy.createDefaultStudentRequestDTO();
+
+        // WHEN & THEN
+        assertThrows(BadRequestException.class, () -> studentService.updateStudent(1L, updateRequest));
+        verifyNoInteractions(studentRepository);
     }
 
     @Test
@@ -198,13 +396,16 @@ class StudentServiceImplTest {
         // GIVEN
         Long id = DataDummy.DEFAULT_ID;
         Student student = DataDummy.firstStudent();
-        when(studentRepository.findById(id)).thenReturn(java.util.Optional.of(student));
-        doNothing().when(studentRepository).deleteById(id);
+        when(studentRepository.softDeleteById(id)).thenReturn(Optional.of(student));
+        when(studentMapper.toStudentResponseDTO(student)).thenReturn(studentResponseDTO);
 
-        // WHEN & THEN
-        assertDoesNotThrow(() -> studentService.deleteStudentById(id));
-        verify(studentRepository).findById(id);
-        verify(studentRepository).deleteById(id);
+        // WHEN
+        StudentResponseDTO result = studentService.deleteStudentById(id);
+
+        // THEN
+        assertEquals(studentResponseDTO, result);
+        verify(studentRepository).softDeleteById(id);
+        verify(studentRepository, never()).findById(any());
     }
 
     @Test
@@ -212,15 +413,104 @@ class StudentServiceImplTest {
     void testDeleteStudentById_ShouldThrowException_WhenStudentDoesNotExist() {
         // GIVEN
         Long id = 99L;
-        when(studentRepository.findById(id)).thenReturn(java.util.Optional.empty());
+        when(studentRepository.softDeleteById(id)).thenReturn(Optional.empty());
 
         // WHEN & THEN
         ResourceNotFoundException ex = assertThrows(ResourceNotFoundException.class,
                 () -> studentService.deleteStudentById(id));
 
         assertEquals("Estudiante con ID 99 no encontrado", ex.getMessage());
-        verify(studentRepository).findById(id);
-        verify(studentRepository, never()).deleteById(any());
+        verify(studentRepository).softDeleteById(id);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("restoreStudent - Debe restaurar el estudiante eliminado y publicar el cambio")
+    void testRestoreStudent_ShouldRestoreStudent_WhenStudentIsDeleted() {
+        // GIVEN
+        Long id = DataDummy.DEFAULT_ID;
+        Student student = DataDummy.firstStudent();
+        when(studentRepository.restoreById(id)).thenReturn(Optional.of(student));
+        when(studentMapper.toStudentResponseDTO(student)).thenReturn(studentResponseDTO);
+
+        // WHEN
+        StudentResponseDTO result = studentService.restoreStudent(id);
+
+        // THEN
+        assertEquals(studentResponseDTO, result);
+        verify(emailUniquenessService).registerEmail(student.getEmail());
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof StudentChangedEvent changed
+                && changed.type() == StudentChangeType.RESTORED && id.equals(changed.idStudent())));
+    }
+
+    @Test
+    @DisplayName("restoreStudent - Debe lanzar ConflictException cuando el email ya fue registrado por otro estudiante")
+    void testRestoreStudent_ShouldThrowConflict_WhenEmailTakenMeanwhile() {
+        // GIVEN
+        Long id = DataDummy.DEFAULT_ID;
+        when(studentRepository.restoreById(id)).thenThrow(new DataIntegrityViolationException("uq_students_email_active"));
+
+        // WHEN & THEN
+        assertThrows(ConflictException.class, () -> studentService.restoreStudent(id));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("deleteStudents - Debe eliminar en una sentencia y reportar los IDs inexistentes")
+    void testDeleteStudents_ShouldReturnOutcomePerId_WhenSomeIdsDoNotExist() {
+        // GIVEN
+        when(studentBulkProperties.maxIds()).thenReturn(10);
+        List<Long> ids = List.of(DataDummy.DEFAULT_ID, 99L, DataDummy.DEFAULT_ID, DataDummy.SECOND_ID);
+        when(studentRepository.softDeleteAllById(new LinkedHashSet<>(ids)))
+                .thenReturn(List.of(DataDummy.SECOND_ID, DataDummy.DEFAULT_ID));
+
+        // WHEN
+        StudentBulkResultDTO result = studentService.deleteStudents(ids);
+
+        // THEN
+        assertEquals(3, result.requested());
+        assertEquals(2, result.affected());
+        assertEquals(List.of(
+                new StudentBulkOutcomeDTO(DataDummy.DEFAULT_ID, StudentBulkStatus.DELETED),
+                new StudentBulkOutcomeDTO(99L, StudentBulkStatus.NOT_FOUND),
+                new StudentBulkOutcomeDTO(DataDummy.SECOND_ID, StudentBulkStatus.DELETED)), result.outcomes());
+        verify(studentRepository, never()).findById(any());
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof StudentsChangedEvent changed
+                && changed.type() == StudentChangeType.DELETED
+                && changed.idStudents().equals(List.of(DataDummy.SECOND_ID, DataDummy.DEFAULT_ID))));
+        verifyNoMoreInteractions(eventPublisher);
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("patchStudents - Debe modificar los estudiantes que cumplen el filtro")
+    void testPatchStudents_ShouldPatchIdsMatchingFilter_WhenFilterGiven() {
+        // GIVEN
+        when(studentBulkProperties.maxIds()).thenReturn(10);
+        StudentBulkPatchRequestDTO patch = StudentBulkPatchRequestDTO.builder()
+                .filter(StudentSearchCriteriaDTO.builder().lastname("Eche").build())
+                .lastname("Echeverry")
+                .build();
+        when(studentRepository.findIdsMatching(any(Specification.class), eq(11)))
+                .thenReturn(List.of(DataDummy.DEFAULT_ID));
+        when(studentRepository.patchAllById(new LinkedHashSet<>(List.of(DataDummy.DEFAULT_ID)), null, "Echeverry"))
+                .thenReturn(List.of(DataDummy.DEFAULT_ID));
+
+        // WHEN
+        StudentBulkResultDTO result = studentService.patchStudents(patch);
+
+        // THEN
+        assertEquals(1, result.affected());
+        assertEquals(StudentBulkStatus.UPDATED, result.outcomes().getFirst().status());
+    }
+
+    @Test
+    @DisplayName("deleteStudents - Debe lanzar BadRequestException cuando se supera el máximo de IDs")
+    void testDeleteStudents_ShouldThrowBadRequest_WhenTooManyIds() {
+        // GIVEN
+        when(studentBulkProperties.maxIds()).thenReturn(2);
+
+        // WHEN & THEN
+        assertThrows(BadRequestException.class, () -> studentService.deleteStudents(List.of(1L, 2L, 3L)));
+        verify(studentRepository, never()).softDeleteAllById(any());
+    }
+}
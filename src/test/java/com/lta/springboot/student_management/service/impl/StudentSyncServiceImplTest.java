@@ -0,0 +1,112 @@
+package com.lta.springboot.student_management.service.impl;
+
+import com.lta.springboot.student_management.config.StudentPurgeProperties;
+import com.lta.springboot.student_management.config.StudentSyncProperties;
+import com.lta.springboot.student_management.domain.dto.response.StudentSyncPageResponseDTO;
+import com.lta.springboot.student_management.repository.StudentSyncRepository;
+import com.lta.springboot.student_management.repository.StudentSyncRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * Pruebas unitarias para {@link StudentSyncServiceImpl}
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StudentSyncServiceImpl - Unit Tests")
+class StudentSyncServiceImplTest {
+
+    @Mock
+    private StudentSyncRepository studentSyncRepository;
+
+    private StudentSyncServiceImpl studentSyncService;
+
+    @BeforeEach
+    void setUp() {
+        studentSyncService = new StudentSyncServiceImpl(studentSyncRepository,
+                new StudentSyncProperties(500, 5000, Duration.ofSeconds(5)),
+                new StudentPurgeProperties(true, Duration.ofDays(30), 1000, Duration.ZERO));
+    }
+
+    @Test
+    @DisplayName("findChanges - Un cursor anterior a la retención de eliminaciones pide sincronización completa")
+    void testFindChanges_ShouldRequestReset_WhenCursorOlderThanPurgeRetention() {
+        // Given
+        LocalDateTime databaseNow = LocalDateTime.of(2026, 10, 18, 10, 0);
+        when(studentSyncRepository.currentTimestamp()).thenReturn(databaseNow);
+
+        // When
+        StudentSyncPageResponseDTO page = studentSyncService.findChanges(databaseNow.minusDays(31), 5L, null);
+
+        // Then
+        assertTrue(page.reset());
+        assertTrue(page.changed().isEmpty());
+        assertTrue(page.deleted().isEmpty());
+        assertFalse(page.hasMore());
+        assertNull(page.nextSince());
+        assertNull(page.nextAfterId());
+        verify(studentSyncRepository, never()).findChanges(any(), anyLong(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("findChanges - Separa modificados y eliminados y retorna el cursor de la última fila")
+    void testFindChanges_ShouldSplitRowsAndReturnCursorOfLastRow() {
+        // Given
+        LocalDateTime since = LocalDateTime.of(2026, 10, 18, 10, 0);
+        LocalDateTime t1 = since.plusSeconds(1);
+        LocalDateTime t2 = since.plusSeconds(2);
+        List<StudentSyncRow> rows = List.of(
+                new StudentSyncRow(7L, "Juan", "Pérez", "juan@example.edu", since.minusDays(1), t1, 3L, false),
+                new StudentSyncRow(4L, null, null, null, null, t2, null, true),
+                new StudentSyncRow(9L, "Ana", "Gómez", "ana@example.edu", t2, t2, 0L, false));
+        LocalDateTime databaseNow = since.plusHours(1);
+        when(studentSyncRepository.currentTimestamp()).thenReturn(databaseNow);
+        when(studentSyncRepository.findChanges(since, 5L, databaseNow.minusSeconds(5), 3)).thenReturn(rows);
+
+        // When
+        StudentSyncPageResponseDTO page = studentSyncService.findChanges(since, 5L, 2);
+
+        // Then
+        assertTrue(page.hasMore());
+        assertEquals(List.of(7L), page.changed().stream().map(s -> s.idStudent()).toList());
+        assertEquals(t1, page.changed().getFirst().updatedAt());
+        assertEquals(List.of(4L), page.deleted());
+        assertEquals(t2, page.nextSince());
+        assertEquals(4L, page.nextAfterId());
+        assertEquals(databaseNow.minusSeconds(5), page.syncedUntil());
+    }
+
+    @Test
+    @DisplayName("findChanges - Sin cambios conserva el cursor y no consulta dentro del margen de seguridad")
+    void testFindChanges_ShouldKeepCursor_WhenCursorInsideSafetyLag() {
+        // Given
+        // El reloj de la base de datos manda: el cursor está dentro del margen aunque la JVM vaya adelantada
+        LocalDateTime databaseNow = LocalDateTime.now().minusHours(1);
+        LocalDateTime since = databaseNow.minusSeconds(2);
+        when(studentSyncRepository.currentTimestamp()).thenReturn(databaseNow);
+
+        // When
+        StudentSyncPageResponseDTO page = studentSyncService.findChanges(since, 12L, null);
+
+        // Then
+        assertFalse(page.hasMore());
+        assertTrue(page.changed().isEmpty());
+        assertTrue(page.deleted().isEmpty());
+        assertEquals(since, page.nextSince());
+        assertEquals(12L, page.nextAfterId());
+        verify(studentSyncRepository, never()).findChanges(any(), anyLong(), any(), anyInt());
+    }
+}
@@ -0,0 +1,112 @@
+package com.lta.springboot.student_management.service.impl;
+
+import com.lta.springboot.student_management.config.StudentViewCacheProperties;
+import com.lta.springboot.student_management.domain.dto.request.StudentSearchCriteriaDTO;
+import com.lta.springboot.student_management.repository.TableVersion;
+import com.lta.springboot.student_management.service.interfaces.IStudentViewCacheService.TableKey;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para {@link StudentViewCacheServiceImpl}
+ */
+@DisplayName("StudentViewCacheServiceImpl - Unit Tests")
+class StudentViewCacheServiceImplTest {
+
+    private static final TableVersion VERSION = new TableVersion(7, LocalDateTime.now());
+
+    @Test
+    @DisplayName("getTable - Una visita repetida a la misma página no vuelve a renderizar")
+    void testGetTable_ShouldRenderOnce_ForRepeatedPage() {
+        // Given
+        StudentViewCacheServiceImpl service = service(true);
+        AtomicInteger renders = new AtomicInteger();
+        StudentSearchCriteriaDTO criteria = StudentSearchCriteriaDTO.builder().name("Sa").build();
+
+        // When
+        String first = service.getTable(service.tableKey(VERSION, criteria, null, null, 20),
+                () -> "<table>" + renders.incrementAndGet() + "</table>");
+        String repeated = service.getTable(service.tableKey(VERSION, criteria, null, null, 20),
+                () -> "<table>" + renders.incrementAndGet() + "</table>");
+        String otherFilter = service.getTable(
+                service.tableKey(VERSION, StudentSearchCriteriaDTO.builder().name("Fe").build(), null, null, 20),
+                () -> "<table>" + renders.incrementAndGet() + "</table>");
+
+        // Then
+        assertEquals("<table>1</table>", first);
+        assertEquals(first, repeated);
+        assertEquals("<table>2</table>", otherFilter);
+        assertEquals(2, renders.get());
+    }
+
+    @Test
+    @DisplayName("onStudentsChanged - Una escritura confirmada descarta los fragmentos y las claves anteriores")
+    void testOnStudentsChanged_ShouldDiscardFragments() {
+        // Given
+        StudentViewCacheServiceImpl service = service(true);
+        StudentSearchCriteriaDTO criteria = new StudentSearchCriteriaDTO();
+        TableKey staleKey = service.tableKey(VERSION, criteria, null, null, 20);
+        service.getTable(staleKey, () -> "antes");
+
+        // When
+        service.onStudentsChanged();
+        TableKey freshKey = service.tableKey(VERSION, criteria, null, null, 20);
+
+        // Then
+        assertNotEquals(staleKey, freshKey);
+        assertEquals("después", service.getTable(freshKey, () -> "después"));
+        assertEquals("otra vez", service.getTable(staleKey, () -> "otra vez"));
+    }
+
+    @Test
+    @DisplayName("getTable - Con el cache desactivado siempre renderiza")
+    void testGetTable_ShouldAlwaysRender_WhenDisabled() {
+        // Given
+        StudentViewCacheServiceImpl service = service(false);
+        TableKey key = service.tableKey(VERSION, new StudentSearchCriteriaDTO(), 10L, null, 20);
+        AtomicInteger renders = new AtomicInteger();
+
+        // When
+        service.getTable(key, () -> "r" + renders.incrementAndGet());
+        String second = service.getTable(key, () -> "r" + renders.incrementAndGet());
+
+        // Then
+        assertEquals("r2", second);
+        assertEquals(2, renders.get());
+    }
+
+    @Test
+    @DisplayName("constructor - Las métricas del cache usan las mismas etiquetas que los caches de Spring")
+    void testConstructor_ShouldTagMetrics_LikeSpringCaches() {
+        // Given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        // When
+        service(true, meterRegistry);
+
+        // Then
+        Meter.Id size = meterRegistry.get("cache.size").meter().getId();
+        assertEquals(StudentViewCacheServiceImpl.CACHE_NAME, size.getTag("cache"));
+        assertEquals(StudentViewCacheServiceImpl.CACHE_MANAGER_NAME, size.getTag("cache.manager"));
+        assertEquals(StudentViewCacheServiceImpl.CACHE_NAME, size.getTag("name"));
+    }
+
+    private static StudentViewCacheServiceImpl service(boolean enabled) {
+        return service(enabled, new SimpleMeterRegistry());
+    }
+
+    private static StudentViewCacheServiceImpl service(boolean enabled, SimpleMeterRegistry meterRegistry) {
+        return new StudentViewCacheServiceImpl(
+                new StudentViewCacheProperties(enabled, DataSize.ofMegabytes(1), Duration.ofMinutes(10)),
+                meterRegistry);
+    }
+}
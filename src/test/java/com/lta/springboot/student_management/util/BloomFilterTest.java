@@ -0,0 +1,56 @@
+package com.lta.springboot.student_management.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para {@link BloomFilter}
+ */
+@DisplayName("BloomFilter - Unit Tests")
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("mightContain - Nunca da falsos negativos y respeta la tasa de falsos positivos")
+    void testMightContain_ShouldHaveNoFalseNegatives_AndBoundedFalsePositives() {
+        // Given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("estudiante" + i + "@test.com");
+        }
+
+        // When
+        int falsePositives = 0;
+        for (int i = 10_000; i < 30_000; i++) {
+            if (filter.mightContain("estudiante" + i + "@test.com")) {
+                falsePositives++;
+            }
+        }
+
+        // Then
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("estudiante" + i + "@test.com"));
+        }
+        assertTrue(falsePositives < 20_000 * 0.02, "Falsos positivos: " + falsePositives);
+    }
+
+    @Test
+    @DisplayName("put - Agregar un valor repetido no cuenta como inserción")
+    void testPut_ShouldNotCountRepeatedValues() {
+        // Given
+        BloomFilter filter = new BloomFilter(1, 0.01);
+
+        // When
+        boolean first = filter.put("saul@test.com");
+        boolean repeated = filter.put("saul@test.com");
+
+        // Then
+        assertTrue(first);
+        assertFalse(repeated);
+        assertEquals(1, filter.insertions());
+        assertFalse(filter.isSaturated());
+        filter.put("felipe@test.com");
+        assertTrue(filter.isSaturated());
+    }
+}
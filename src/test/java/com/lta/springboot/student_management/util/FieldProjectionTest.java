@@ -0,0 +1,52 @@
+package com.lta.springboot.student_management.util;
+
+import com.lta.springboot.student_management.data.DataDummy;
+import com.lta.springboot.student_management.domain.dto.response.StudentResponseDTO;
+import com.lta.springboot.student_management.exception.BadRequestException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para {@link FieldProjection}
+ */
+@DisplayName("FieldProjection - Unit Tests")
+class FieldProjectionTest {
+
+    @Test
+    @DisplayName("parse - Retorna vacío cuando no se solicita proyección")
+    void testParse_ShouldReturnEmpty_WhenFieldsNotGiven() {
+        assertTrue(FieldProjection.parse(null, StudentResponseDTO.class).isEmpty());
+        assertTrue(FieldProjection.parse(" ", StudentResponseDTO.class).isEmpty());
+    }
+
+    @Test
+    @DisplayName("parse - Lanza BadRequestException cuando un campo no existe")
+    void testParse_ShouldThrowBadRequest_WhenFieldUnknown() {
+        BadRequestException ex = assertThrows(BadRequestException.class,
+                () -> FieldProjection.parse("name,password", StudentResponseDTO.class));
+
+        assertTrue(ex.getMessage().startsWith("Campo no válido: password"));
+    }
+
+    @Test
+    @DisplayName("project - Conserva solo los campos solicitados")
+    void testProject_ShouldKeepOnlyRequestedFields() {
+        // Given
+        StudentResponseDTO student = DataDummy.createDefaultStudentResponseDTO();
+        Set<String> fields = FieldProjection.parse("idStudent, email", StudentResponseDTO.class);
+
+        // When
+        JsonNode node = FieldProjection.project(JsonMapper.builder().build(), student, fields);
+
+        // Then
+        assertEquals(List.of("idStudent", "email"), List.copyOf(node.propertyNames()));
+        assertEquals(student.email(), node.get("email").asString());
+    }
+}
@@ -0,0 +1,60 @@
+package com.lta.springboot.student_management.util;
+
+import com.lta.springboot.student_management.domain.dto.response.StudentResponseDTO;
+import com.lta.springboot.student_management.repository.TableVersion;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para {@link HttpCacheUtils}
+ */
+@DisplayName("HttpCacheUtils - Unit Tests")
+class HttpCacheUtilsTest {
+
+    @Test
+    @DisplayName("listETag - Cambia con la versión de la tabla")
+    void testListETag_ShouldChange_WhenVersionChanges() {
+        LocalDateTime now = LocalDateTime.now();
+
+        String before = HttpCacheUtils.listETag("students-json", new TableVersion(7, now));
+        String after = HttpCacheUtils.listETag("students-json", new TableVersion(8, now));
+
+        assertEquals("\"students-json-v7\"", before);
+        assertNotEquals(before, after);
+    }
+
+    @Test
+    @DisplayName("studentETag - Cambia con la versión del estudiante")
+    void testStudentETag_ShouldChange_WhenVersionChanges() {
+        // Given
+        StudentResponseDTO read = StudentResponseDTO.builder().idStudent(1L).version(3L).build();
+        StudentResponseDTO updated = StudentResponseDTO.builder().idStudent(1L).version(4L).build();
+
+        // When
+        String readETag = HttpCacheUtils.studentETag("student-json", read);
+        String updatedETag = HttpCacheUtils.studentETag("student-json", updated);
+
+        // Then
+        assertEquals("\"student-json-1-v3\"", readETag);
+        assertNotEquals(readETag, updatedETag);
+    }
+
+    @Test
+    @DisplayName("lastModified - Usa la fecha de creación cuando el estudiante nunca fue actualizado")
+    void testLastModified_ShouldUseCreatedAt_WhenNotUpdated() {
+        LocalDateTime createdAt = LocalDateTime.of(2026, 1, 1, 10, 0);
+        StudentResponseDTO created = StudentResponseDTO.builder().idStudent(1L).createdAt(createdAt).build();
+
+        assertEquals(createdAt, HttpCacheUtils.lastModified(created));
+    }
+
+    @Test
+    @DisplayName("toEpochMilli - Retorna -1 cuando la fecha es null")
+    void testToEpochMilli_ShouldReturnMinusOne_WhenNull() {
+        assertEquals(-1, HttpCacheUtils.toEpochMilli(null));
+    }
+}
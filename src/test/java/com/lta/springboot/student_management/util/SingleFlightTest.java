@@ -0,0 +1,145 @@
+package com.lta.springboot.student_management.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para {@link SingleFlight}
+ */
+@DisplayName("SingleFlight - Unit Tests")
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    @Test
+    @DisplayName("execute - Las llamadas concurrentes con la misma clave comparten una sola carga")
+    void testExecute_ShouldShareOneLoad_ForConcurrentCallsWithSameKey() throws Exception {
+        // Given
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+        try {
+            // When
+            Future<String> leader = executor.submit(() -> singleFlight.execute(1L, () -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                await(release);
+                return "Saul";
+            }));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            List<Future<String>> followers = new ArrayList<>();
+            for (int i = 1; i < CALLERS; i++) {
+                followers.add(executor.submit(() -> singleFlight.execute(1L, () -> {
+                    loads.incrementAndGet();
+                    return "otra carga";
+                })));
+            }
+            awaitCoalesced(singleFlight, CALLERS - 1);
+            release.countDown();
+
+            // Then
+            assertEquals("Saul", leader.get(5, TimeUnit.SECONDS));
+            for (Future<String> follower : followers) {
+                assertEquals("Saul", follower.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, loads.get());
+            assertEquals(0, singleFlight.inFlight());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("execute - Las llamadas en espera reciben la misma excepción de la carga")
+    void testExecute_ShouldPropagateLoadException_ToWaitingCalls() throws Exception {
+        // Given
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // When
+            Future<String> leader = executor.submit(() -> singleFlight.execute(1L, () -> {
+                loading.countDown();
+                await(release);
+                throw new IllegalStateException("Estudiante no encontrado");
+            }));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            Future<String> follower = executor.submit(() -> singleFlight.execute(1L, () -> "otra carga"));
+            awaitCoalesced(singleFlight, 1);
+            release.countDown();
+
+            // Then
+            Exception leaderError = assertThrows(Exception.class, () -> leader.get(5, TimeUnit.SECONDS));
+            Exception followerError = assertThrows(Exception.class, () -> follower.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, leaderError.getCause());
+            assertSame(leaderError.getCause(), followerError.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("invalidate - Las llamadas posteriores no se unen a la carga en curso")
+    void testInvalidate_ShouldStartNewLoad_ForLaterCalls() throws Exception {
+        // Given
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            Future<String> stale = executor.submit(() -> singleFlight.execute(1L, () -> {
+                loading.countDown();
+                await(release);
+                return "antes del cambio";
+            }));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+            // When
+            singleFlight.invalidate();
+            String fresh = singleFlight.execute(1L, () -> "después del cambio");
+            release.countDown();
+
+            // Then
+            assertEquals("después del cambio", fresh);
+            assertEquals("antes del cambio", stale.get(5, TimeUnit.SECONDS));
+            assertEquals(0, singleFlight.coalescedCount());
+            assertEquals(0, singleFlight.inFlight());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void awaitCoalesced(SingleFlight<?, ?> singleFlight, long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (singleFlight.coalescedCount() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(expected, singleFlight.coalescedCount());
+    }
+}